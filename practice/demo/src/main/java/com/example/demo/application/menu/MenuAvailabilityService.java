@@ -0,0 +1,68 @@
+package com.example.demo.application.menu;
+
+import com.example.demo.common.date.DateUtils;
+import com.example.demo.common.logging.AppLogger;
+import com.example.demo.domain.model.menu.MenuAvailabilityChangedEvent;
+import com.example.demo.domain.model.menu.MenuItemId;
+import com.example.demo.domain.model.menu.MenuItemRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+/**
+ * メニュー提供可否アプリケーションサービス（Command側）。
+ *
+ * <p>品切れの登録と販売再開を処理する。変更はカタログの新しいバージョンとして公開され、
+ * このサービスのメソッドが戻った時点で、すべての注文受付スレッドから変更後の状態が見える。
+ * 注文受付側の判定はカタログの参照のみで、ロックを取らない。</p>
+ *
+ * <p>状態が変わった場合に {@link MenuAvailabilityChangedEvent} を発行する。
+ * 購読中のタブレットへのプッシュ配信はこのイベントを起点に行われる。</p>
+ *
+ * @author store-order-system
+ * @since 1.1.0
+ */
+@Service
+public class MenuAvailabilityService {
+
+    private static final AppLogger log = AppLogger.of(MenuAvailabilityService.class);
+
+    private final MenuItemRepository menuItemRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param menuItemRepository メニュー項目リポジトリ
+     * @param eventPublisher     ドメインイベント発行者
+     */
+    public MenuAvailabilityService(MenuItemRepository menuItemRepository,
+                                   ApplicationEventPublisher eventPublisher) {
+        this.menuItemRepository = menuItemRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * メニュー項目の提供可否を変更する。
+     *
+     * <p>既に同じ状態の場合は何もしない（イベントも発行しない）。</p>
+     *
+     * @param menuItemId メニュー項目ID
+     * @param available  提供可否（{@code false} で品切れ）
+     * @return 変更後のカタログのバージョン
+     * @throws IllegalArgumentException メニュー項目が存在しない場合
+     */
+    public long changeAvailability(String menuItemId, boolean available) {
+        MenuItemRepository.AvailabilityChange change = menuItemRepository
+                .changeAvailability(MenuItemId.of(menuItemId), available)
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "メニュー項目が見つかりません: " + menuItemId));
+
+        if (change.changed()) {
+            eventPublisher.publishEvent(new MenuAvailabilityChangedEvent(
+                    change.menuItem(), change.catalogVersion(), DateUtils.now()));
+            log.info("メニューの提供可否を変更しました: メニュー={}, 提供可否={}, カタログバージョン={}",
+                    change.menuItem().getName(), available ? "提供可" : "品切れ", change.catalogVersion());
+        }
+        return change.catalogVersion();
+    }
+}
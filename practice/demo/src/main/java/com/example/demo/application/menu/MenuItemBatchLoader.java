@@ -0,0 +1,113 @@
+package com.example.demo.application.menu;
+
+import com.example.demo.domain.model.menu.MenuItem;
+import com.example.demo.domain.model.menu.MenuItemId;
+import com.example.demo.domain.model.menu.MenuItemRepository;
+import com.example.demo.domain.model.menu.StoreMenuRepository;
+import com.example.demo.domain.type.StoreId;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * メニュー項目のまとめ読み込み。
+ *
+ * <p>1件のコマンド（複数の注文をまとめて処理する場合はその全体）の間だけ使用する。
+ * 解決したいメニュー項目IDを {@link #prime(Collection)} で先に登録しておくと、
+ * 最初の {@link #get(String)} で未取得のIDをまとめて
+ * {@link MenuItemRepository#findAllById(Collection)} で取得する。
+ * 以降の同じIDの参照は取得済みの結果を返すため、明細の件数に関わらず問い合わせは1回で済む。</p>
+ *
+ * <p>店舗を指定した場合は {@link StoreMenuRepository#findAllById(StoreId, Collection)} で
+ * 店舗の価格・提供可否を反映したメニュー項目を取得する。</p>
+ *
+ * <p>スレッドセーフではない。コマンドごとに生成し、共有しないこと。</p>
+ *
+ * @author store-order-system
+ * @since 1.1.0
+ */
+public class MenuItemBatchLoader {
+
+    private final Function<Collection<MenuItemId>, Map<MenuItemId, MenuItem>> source;
+    private final Set<String> pending = new LinkedHashSet<>();
+    private final Map<String, MenuItem> loaded = new HashMap<>();
+    private int roundTrips;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param menuItemRepository メニュー項目リポジトリ
+     */
+    public MenuItemBatchLoader(MenuItemRepository menuItemRepository) {
+        this.source = menuItemRepository::findAllById;
+    }
+
+    /**
+     * 店舗のメニュー項目を取得するローダーを生成する。
+     *
+     * @param storeMenuRepository 店舗別メニューリポジトリ
+     * @param storeId             店舗ID
+     */
+    public MenuItemBatchLoader(StoreMenuRepository storeMenuRepository, StoreId storeId) {
+        this.source = ids -> storeMenuRepository.findAllById(storeId, ids);
+    }
+
+    /**
+     * 解決するメニュー項目IDを登録する。取得はまだ行わない。
+     *
+     * @param menuItemIds メニュー項目ID（重複可）
+     * @return このローダー
+     */
+    public MenuItemBatchLoader prime(Collection<String> menuItemIds) {
+        for (String menuItemId : menuItemIds) {
+            if (!loaded.containsKey(menuItemId)) {
+                pending.add(menuItemId);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * メニュー項目を取得する。
+     *
+     * <p>未取得のIDが登録されている場合は、このIDと合わせて1回の問い合わせで取得する。</p>
+     *
+     * @param menuItemId メニュー項目ID
+     * @return メニュー項目（存在しない場合は空）
+     */
+    public Optional<MenuItem> get(String menuItemId) {
+        if (!loaded.containsKey(menuItemId)) {
+            pending.add(menuItemId);
+            dispatch();
+        }
+        return Optional.ofNullable(loaded.get(menuItemId));
+    }
+
+    /**
+     * リポジトリへの問い合わせ回数を取得する。
+     *
+     * @return 問い合わせ回数
+     */
+    public int roundTrips() {
+        return roundTrips;
+    }
+
+    private void dispatch() {
+        Map<String, MenuItemId> ids = new LinkedHashMap<>(pending.size() * 2);
+        for (String menuItemId : pending) {
+            ids.put(menuItemId, MenuItemId.of(menuItemId));
+        }
+        pending.clear();
+
+        Map<MenuItemId, MenuItem> found = source.apply(ids.values());
+        roundTrips++;
+        // 存在しないIDも記録し、同じIDで再度問い合わせないようにする
+        ids.forEach((menuItemId, id) -> loaded.put(menuItemId, found.get(id)));
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.demo.application.menu;
+
+import com.example.demo.common.date.DateUtils;
+import com.example.demo.common.logging.AppLogger;
+import com.example.demo.domain.model.menu.MenuItem;
+import com.example.demo.domain.model.menu.MenuItemId;
+import com.example.demo.domain.model.menu.MenuItemRepository;
+import com.example.demo.domain.type.Money;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+
+/**
+ * メニュー価格アプリケーションサービス（Command側）。
+ *
+ * <p>メニュー項目の価格改定を処理する。改定は価格履歴（{@code PriceHistory}）に
+ * 新しい版として追記され、過去の版は残る。改定前に受け付けた注文の明細は
+ * 注文時の版番号を保持しているため、改定後も注文時の価格を確認できる。</p>
+ *
+ * @author store-order-system
+ * @since 1.1.0
+ */
+@Service
+public class MenuPriceService {
+
+    private static final AppLogger log = AppLogger.of(MenuPriceService.class);
+
+    private final MenuItemRepository menuItemRepository;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param menuItemRepository メニュー項目リポジトリ
+     */
+    public MenuPriceService(MenuItemRepository menuItemRepository) {
+        this.menuItemRepository = menuItemRepository;
+    }
+
+    /**
+     * メニュー項目の単価を変更する。変更は即時に適用する。
+     *
+     * @param menuItemId メニュー項目ID
+     * @param price      新しい単価（税抜）
+     * @return 変更後の単価の版番号（単価が同じ場合は現在の版番号）
+     * @throws IllegalArgumentException メニュー項目が存在しない、または単価が不正な場合
+     */
+    public int changePrice(String menuItemId, BigDecimal price) {
+        MenuItem menuItem = menuItemRepository
+                .changePrice(MenuItemId.of(menuItemId), new Money(price), DateUtils.now())
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "メニュー項目が見つかりません: " + menuItemId));
+
+        log.info("メニューの単価を変更しました: メニュー={}, 単価={}, 版={}",
+                menuItem.getName(), menuItem.getPrice(), menuItem.getPriceVersion());
+        return menuItem.getPriceVersion();
+    }
+}
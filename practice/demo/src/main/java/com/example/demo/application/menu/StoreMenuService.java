@@ -0,0 +1,71 @@
+package com.example.demo.application.menu;
+
+import com.example.demo.common.logging.AppLogger;
+import com.example.demo.domain.model.menu.MenuItemId;
+import com.example.demo.domain.model.menu.StoreMenuRepository;
+import com.example.demo.domain.type.Money;
+import com.example.demo.domain.type.StoreId;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+
+/**
+ * 店舗別メニューアプリケーションサービス（Command側）。
+ *
+ * <p>共通メニューに対する店舗ごとの差分（価格の上書き・店舗のみの品切れ）を変更する。
+ * 共通メニューの変更は {@link MenuPriceService}・{@link MenuAvailabilityService} で行う。</p>
+ *
+ * @author store-order-system
+ * @since 1.1.0
+ */
+@Service
+public class StoreMenuService {
+
+    private static final AppLogger log = AppLogger.of(StoreMenuService.class);
+
+    private final StoreMenuRepository storeMenuRepository;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param storeMenuRepository 店舗別メニューリポジトリ
+     */
+    public StoreMenuService(StoreMenuRepository storeMenuRepository) {
+        this.storeMenuRepository = storeMenuRepository;
+    }
+
+    /**
+     * 店舗の価格を上書きする。
+     *
+     * @param storeId    店舗ID
+     * @param menuItemId メニュー項目ID
+     * @param price      店舗の単価（税抜、{@code null} の場合は共通の価格に戻す）
+     * @throws IllegalArgumentException 店舗ID・単価が不正、またはメニュー項目が存在しない場合
+     */
+    public void overridePrice(String storeId, String menuItemId, BigDecimal price) {
+        Money storePrice = price != null ? new Money(price) : null;
+        if (!storeMenuRepository.overridePrice(StoreId.of(storeId), MenuItemId.of(menuItemId), storePrice)) {
+            throw new IllegalArgumentException("メニュー項目が見つかりません: " + menuItemId);
+        }
+        log.info("店舗の価格を変更しました: 店舗={}, メニュー項目ID={}, 単価={}",
+                storeId, menuItemId, storePrice != null ? storePrice : "共通");
+    }
+
+    /**
+     * 店舗での提供可否を変更する。
+     *
+     * <p>共通メニューで品切れの項目は、店舗で提供可能にしても提供できない。</p>
+     *
+     * @param storeId    店舗ID
+     * @param menuItemId メニュー項目ID
+     * @param available  提供可否（{@code false} で店舗のみ品切れ）
+     * @throws IllegalArgumentException 店舗IDが不正、またはメニュー項目が存在しない場合
+     */
+    public void changeAvailability(String storeId, String menuItemId, boolean available) {
+        if (!storeMenuRepository.changeAvailability(StoreId.of(storeId), MenuItemId.of(menuItemId), available)) {
+            throw new IllegalArgumentException("メニュー項目が見つかりません: " + menuItemId);
+        }
+        log.info("店舗の提供可否を変更しました: 店舗={}, メニュー項目ID={}, 提供可否={}",
+                storeId, menuItemId, available ? "提供可" : "品切れ");
+    }
+}
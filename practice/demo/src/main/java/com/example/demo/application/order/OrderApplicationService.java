@@ -1,13 +1,17 @@
 package com.example.demo.application.order;
 
+import com.example.demo.application.menu.MenuItemBatchLoader;
 import com.example.demo.common.logging.AppLogger;
+import com.example.demo.common.logging.EventSite;
 import com.example.demo.domain.model.menu.MenuItem;
-import com.example.demo.domain.model.menu.MenuItemId;
 import com.example.demo.domain.model.menu.MenuItemRepository;
+import com.example.demo.domain.model.menu.StoreMenuRepository;
 import com.example.demo.domain.model.order.*;
 import com.example.demo.domain.type.Money;
 import com.example.demo.domain.type.Quantity;
+import com.example.demo.domain.type.StoreId;
 import com.example.demo.domain.type.TableNumber;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
@@ -25,6 +29,7 @@ import java.util.List;
  *   <li>コマンドオブジェクトの受付とバリデーション</li>
  *   <li>ドメインオブジェクトへの変換と操作の委譲</li>
  *   <li>リポジトリを介した永続化</li>
+ *   <li>永続化後のドメインイベント発行（{@link OrderPlacedEvent}, {@link OrderStatusChangedEvent}）</li>
  * </ul>
  *
  * @author store-order-system
@@ -37,37 +42,68 @@ public class OrderApplicationService {
 
     private static final AppLogger log = AppLogger.of(OrderApplicationService.class);
 
+    private static final EventSite ORDER_PLACED = log.event("order.placed",
+            "注文を受け付けました: 注文ID={}, テーブル={}, 明細数={}",
+            "orderId", "tableNumber", "itemCount");
+
+    private static final EventSite ORDER_STATUS_CHANGED = log.event("order.status-changed",
+            "注文ステータスを更新しました: 注文ID={}, 新ステータス={}",
+            "orderId", "newStatus");
+
+    private static final EventSite ORDER_CANCELLED = log.event("order.cancelled",
+            "注文をキャンセルしました: 注文ID={}",
+            "orderId");
+
     private final OrderRepository orderRepository;
     private final MenuItemRepository menuItemRepository;
+    private final StoreMenuRepository storeMenuRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * コンストラクタ。
      *
      * @param orderRepository    注文リポジトリ
-     * @param menuItemRepository メニュー項目リポジトリ
+     * @param menuItemRepository  メニュー項目リポジトリ
+     * @param storeMenuRepository 店舗別メニューリポジトリ
+     * @param eventPublisher      ドメインイベント発行者
      */
     public OrderApplicationService(OrderRepository orderRepository,
-                                    MenuItemRepository menuItemRepository) {
+                                    MenuItemRepository menuItemRepository,
+                                    StoreMenuRepository storeMenuRepository,
+                                    ApplicationEventPublisher eventPublisher) {
         this.orderRepository = orderRepository;
         this.menuItemRepository = menuItemRepository;
+        this.storeMenuRepository = storeMenuRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
      * 注文を作成する。
      *
      * <p>メニュー項目の存在確認・提供可否チェックを行った上で、
-     * ドメインモデルの注文を作成し永続化する。</p>
+     * ドメインモデルの注文を作成し永続化する。明細のメニュー項目は
+     * {@link MenuItemBatchLoader} でまとめて1回で取得するため、明細数に関わらず
+     * リポジトリへの問い合わせは1回となる。取得した項目はすべて同じ時点のカタログのもので、
+     * 品切れの登録（{@code MenuAvailabilityService}）が完了した後の注文は必ず拒否される。
+     * 店舗を指定した場合は、店舗の価格・提供可否（{@link StoreMenuRepository}）で受け付ける。</p>
      *
      * @param command 注文作成コマンド
      * @return 作成された注文ID
      * @throws IllegalArgumentException メニュー項目が存在しないまたは提供不可の場合
      */
     public OrderId placeOrder(PlaceOrderCommand command) {
-        List<OrderItem> orderItems = new ArrayList<>();
+        List<PlaceOrderCommand.OrderItemCommand> itemCommands = command.items();
+        List<String> menuItemIds = new ArrayList<>(itemCommands.size());
+        for (PlaceOrderCommand.OrderItemCommand itemCommand : itemCommands) {
+            menuItemIds.add(itemCommand.menuItemId());
+        }
+        MenuItemBatchLoader menuItems = (command.storeId() != null
+                ? new MenuItemBatchLoader(storeMenuRepository, StoreId.of(command.storeId()))
+                : new MenuItemBatchLoader(menuItemRepository)).prime(menuItemIds);
 
-        for (PlaceOrderCommand.OrderItemCommand itemCommand : command.items()) {
-            MenuItemId menuItemId = MenuItemId.of(itemCommand.menuItemId());
-            MenuItem menuItem = menuItemRepository.findById(menuItemId)
+        List<OrderItem> orderItems = new ArrayList<>(itemCommands.size());
+        for (PlaceOrderCommand.OrderItemCommand itemCommand : itemCommands) {
+            MenuItem menuItem = menuItems.get(itemCommand.menuItemId())
                     .orElseThrow(() -> new IllegalArgumentException(
                             "メニュー項目が見つかりません: " + itemCommand.menuItemId()));
 
@@ -80,6 +116,7 @@ public class OrderApplicationService {
                     menuItem.getId(),
                     menuItem.getName(),
                     menuItem.getPrice(),
+                    menuItem.getPriceVersion(),
                     Quantity.of(itemCommand.quantity())
             );
             orderItems.add(orderItem);
@@ -90,9 +127,13 @@ public class OrderApplicationService {
         Order order = new Order(orderId, tableNumber, orderItems);
 
         orderRepository.save(order);
+        eventPublisher.publishEvent(new OrderPlacedEvent(order, order.getOrderedAt()));
 
-        log.info("注文を受け付けました: 注文ID={}, テーブル={}, 明細数={}",
-                orderId.getValue(), command.tableNumber(), orderItems.size());
+        ORDER_PLACED.begin()
+                .str(orderId.getValue())
+                .num(command.tableNumber())
+                .num(orderItems.size())
+                .end();
 
         return orderId;
     }
@@ -113,12 +154,17 @@ public class OrderApplicationService {
                 .orElseThrow(() -> new IllegalArgumentException(
                         "注文が見つかりません: " + command.orderId()));
 
+        OrderStatus previousStatus = order.getStatus();
         OrderStatus newStatus = OrderStatus.valueOf(command.newStatus());
         order.changeStatus(newStatus);
         orderRepository.save(order);
+        eventPublisher.publishEvent(new OrderStatusChangedEvent(
+                order, previousStatus, newStatus, order.getStatusChangedAt(newStatus).orElseThrow()));
 
-        log.info("注文ステータスを更新しました: 注文ID={}, 新ステータス={}",
-                command.orderId(), newStatus.getDisplayName());
+        ORDER_STATUS_CHANGED.begin()
+                .str(command.orderId())
+                .str(newStatus.getDisplayName())
+                .end();
     }
 
     /**
@@ -134,9 +180,13 @@ public class OrderApplicationService {
                 .orElseThrow(() -> new IllegalArgumentException(
                         "注文が見つかりません: " + orderId));
 
+        OrderStatus previousStatus = order.getStatus();
         order.cancel();
         orderRepository.save(order);
+        eventPublisher.publishEvent(new OrderStatusChangedEvent(
+                order, previousStatus, OrderStatus.CANCELLED,
+                order.getStatusChangedAt(OrderStatus.CANCELLED).orElseThrow()));
 
-        log.info("注文をキャンセルしました: 注文ID={}", orderId);
+        ORDER_CANCELLED.begin().str(orderId).end();
     }
 }
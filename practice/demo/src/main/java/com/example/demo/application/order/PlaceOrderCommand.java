@@ -10,14 +10,26 @@ import java.util.List;
  *
  * @param tableNumber テーブル番号
  * @param items       注文明細リスト
+ * @param storeId     店舗ID（任意、指定時は店舗の価格・提供可否で受け付ける）
  * @author store-order-system
  * @since 1.0.0
  */
 public record PlaceOrderCommand(
         int tableNumber,
-        List<OrderItemCommand> items
+        List<OrderItemCommand> items,
+        String storeId
 ) {
 
+    /**
+     * 店舗を指定しない注文作成コマンドを生成する（共通メニューの価格・提供可否で受け付ける）。
+     *
+     * @param tableNumber テーブル番号
+     * @param items       注文明細リスト
+     */
+    public PlaceOrderCommand(int tableNumber, List<OrderItemCommand> items) {
+        this(tableNumber, items, null);
+    }
+
     /**
      * 注文明細コマンド。
      *
@@ -0,0 +1,194 @@
+package com.example.demo.common.fields;
+
+import com.example.demo.common.SharedUtility;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 部分レスポンス（スパースフィールド）のための項目選択。
+ *
+ * <p>項目名と値の取り出し処理の組を宣言順に保持し、
+ * {@code fields=id,status} のようなカンマ区切りの指定から、
+ * 要求された項目だけを含むマップへの変換を生成する。
+ * 要求されなかった項目の取り出し処理は呼び出されないため、
+ * 税込金額の計算など費用のかかる項目は要求された場合にのみ計算される。</p>
+ *
+ * <h3>使用方法</h3>
+ * <pre>{@code
+ * FieldSelector<MenuItem> selector = FieldSelector.<MenuItem>builder()
+ *         .field("menuItemId", item -> item.getId().getValue())
+ *         .field("priceWithTax", item -> item.getPrice().withTax().getAmount())
+ *         .build();
+ *
+ * FieldSelector.Selection<MenuItem> selection = selector.select("menuItemId");
+ * Map<String, Object> row = selection.apply(menuItem);   // {"menuItemId": "..."}
+ * }</pre>
+ *
+ * <p>選択結果の項目は指定順ではなく宣言順に並ぶ。
+ * 同じ項目の組み合わせは同じ {@link Selection#key()} となるため、キャッシュのキーに使用できる。</p>
+ *
+ * @param <T> 変換元の型
+ * @author store-order-system
+ * @since 1.1.0
+ */
+@SharedUtility(
+        description = "部分レスポンス（fields=指定）のための項目選択",
+        targetLayers = {"webapi", "query"},
+        category = "変換"
+)
+public final class FieldSelector<T> {
+
+    private final Map<String, Function<? super T, ?>> extractors;
+
+    private FieldSelector(Map<String, Function<? super T, ?>> extractors) {
+        this.extractors = Collections.unmodifiableMap(new LinkedHashMap<>(extractors));
+    }
+
+    /**
+     * ビルダーを生成する。
+     *
+     * @param <T> 変換元の型
+     * @return ビルダー
+     */
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * 選択できる項目名を取得する。
+     *
+     * @return 項目名（宣言順）
+     */
+    public Set<String> names() {
+        return extractors.keySet();
+    }
+
+    /**
+     * カンマ区切りの項目指定から選択を生成する。
+     *
+     * @param fields カンマ区切りの項目名（{@code null} または空の場合は全項目）
+     * @return 選択
+     * @throws IllegalArgumentException 未知の項目名が含まれる場合
+     */
+    public Selection<T> select(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return new Selection<T>(new ArrayList<>(extractors.keySet()), new ArrayList<>(extractors.values()));
+        }
+        Set<String> requested = new HashSet<>();
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!extractors.containsKey(name)) {
+                throw new IllegalArgumentException(String.format(Locale.ROOT,
+                        "未知の項目です: %s（指定可能: %s）", name, String.join(",", extractors.keySet())));
+            }
+            requested.add(name);
+        }
+
+        List<String> names = new ArrayList<>();
+        List<Function<? super T, ?>> selected = new ArrayList<>();
+        extractors.forEach((name, extractor) -> {
+            if (requested.contains(name)) {
+                names.add(name);
+                selected.add(extractor);
+            }
+        });
+        return new Selection<T>(names, selected);
+    }
+
+    /**
+     * 項目の選択。
+     *
+     * @param <T> 変換元の型
+     */
+    public static final class Selection<T> implements Function<T, Map<String, Object>> {
+
+        private final List<String> names;
+        private final List<Function<? super T, ?>> extractors;
+
+        private Selection(List<String> names, List<Function<? super T, ?>> extractors) {
+            this.names = List.copyOf(names);
+            this.extractors = Collections.unmodifiableList(new ArrayList<>(extractors));
+        }
+
+        /**
+         * 選択された項目だけを含むマップに変換する。
+         *
+         * @param source 変換元
+         * @return 項目名をキーとしたマップ（宣言順）
+         */
+        @Override
+        public Map<String, Object> apply(T source) {
+            Map<String, Object> row = new LinkedHashMap<>(names.size() * 2);
+            for (int i = 0; i < names.size(); i++) {
+                row.put(names.get(i), extractors.get(i).apply(source));
+            }
+            return row;
+        }
+
+        /**
+         * 選択された項目名を取得する。
+         *
+         * @return 項目名（宣言順）
+         */
+        public List<String> names() {
+            return names;
+        }
+
+        /**
+         * 選択を一意に表すキーを取得する。
+         *
+         * @return 宣言順の項目名をカンマで連結した文字列
+         */
+        public String key() {
+            return String.join(",", names);
+        }
+    }
+
+    /**
+     * {@link FieldSelector} のビルダー。
+     *
+     * @param <T> 変換元の型
+     */
+    public static final class Builder<T> {
+
+        private final Map<String, Function<? super T, ?>> extractors = new LinkedHashMap<>();
+
+        private Builder() {
+        }
+
+        /**
+         * 項目を追加する。
+         *
+         * @param name      項目名
+         * @param extractor 値の取り出し処理
+         * @return このビルダー
+         * @throws IllegalArgumentException 項目名が重複する場合
+         */
+        public Builder<T> field(String name, Function<? super T, ?> extractor) {
+            if (extractors.putIfAbsent(name, extractor) != null) {
+                throw new IllegalArgumentException("項目名が重複しています: " + name);
+            }
+            return this;
+        }
+
+        /**
+         * 項目選択を生成する。
+         *
+         * @return 項目選択
+         */
+        public FieldSelector<T> build() {
+            return new FieldSelector<>(extractors);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+/**
+ * 項目選択ユーティリティパッケージ。
+ *
+ * <p>本パッケージは、APIレスポンスに含める項目をクライアントが指定する
+ * 部分レスポンス（{@code fields=} パラメータ）の機能を提供する。</p>
+ *
+ * <h3>提供クラス</h3>
+ * <ul>
+ *   <li>{@link com.example.demo.common.fields.FieldSelector} - 項目名と値の取り出し処理の対応付け</li>
+ * </ul>
+ *
+ * @see com.example.demo.common.fields.FieldSelector
+ */
+package com.example.demo.common.fields;
@@ -0,0 +1,57 @@
+package com.example.demo.common.jfr;
+
+import com.example.demo.common.SharedUtility;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 例外ハンドリングのJFRイベント。
+ *
+ * <p>例外ハンドラがエラーレスポンスに変換した例外を記録する。既定では無効。</p>
+ *
+ * @author store-order-system
+ * @since 1.1.0
+ */
+@SharedUtility(
+        description = "例外ハンドリングのJFRイベント",
+        targetLayers = {"webapi"},
+        category = "計測"
+)
+@Name("com.example.demo.ExceptionHandled")
+@Label("Exception Handled")
+@Description("例外ハンドラによるエラーレスポンスへの変換")
+@Category({"Store Order", "Web"})
+@Enabled(false)
+@StackTrace(false)
+public class ExceptionHandledJfrEvent extends Event {
+
+    @Label("Exception Class")
+    String exceptionClass;
+
+    @Label("Message")
+    String message;
+
+    @Label("HTTP Status")
+    int status;
+
+    /**
+     * 有効な場合のみイベントを記録する。
+     *
+     * @param exception 例外
+     * @param status    レスポンスのHTTPステータス
+     */
+    public static void emit(Throwable exception, int status) {
+        ExceptionHandledJfrEvent event = new ExceptionHandledJfrEvent();
+        if (event.isEnabled()) {
+            event.exceptionClass = exception.getClass().getName();
+            event.message = exception.getMessage();
+            event.status = status;
+            event.commit();
+        }
+    }
+}
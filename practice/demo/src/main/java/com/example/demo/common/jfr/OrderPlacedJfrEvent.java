@@ -0,0 +1,61 @@
+package com.example.demo.common.jfr;
+
+import com.example.demo.common.SharedUtility;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 注文作成のJFRイベント。
+ *
+ * <p>既定では無効。呼び出し側で {@link #isEnabled()} を判定し、有効な場合のみ
+ * 項目を計算して {@link #record} を呼び出すこと。</p>
+ *
+ * @author store-order-system
+ * @since 1.1.0
+ */
+@SharedUtility(
+        description = "注文作成のJFRイベント",
+        targetLayers = {"infrastructure"},
+        category = "計測"
+)
+@Name("com.example.demo.OrderPlaced")
+@Label("Order Placed")
+@Description("注文の作成")
+@Category({"Store Order", "Order"})
+@Enabled(false)
+@StackTrace(false)
+public class OrderPlacedJfrEvent extends Event {
+
+    @Label("Order ID")
+    String orderId;
+
+    @Label("Table Number")
+    int tableNumber;
+
+    @Label("Item Count")
+    int itemCount;
+
+    @Label("Total Amount")
+    long totalAmount;
+
+    /**
+     * 項目を設定してイベントを記録する。
+     *
+     * @param orderId     注文ID
+     * @param tableNumber テーブル番号
+     * @param itemCount   明細数
+     * @param totalAmount 合計金額（税抜、円）
+     */
+    public void record(String orderId, int tableNumber, int itemCount, long totalAmount) {
+        this.orderId = orderId;
+        this.tableNumber = tableNumber;
+        this.itemCount = itemCount;
+        this.totalAmount = totalAmount;
+        commit();
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.demo.common.jfr;
+
+import com.example.demo.common.SharedUtility;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * 注文ステータス遷移のJFRイベント。
+ *
+ * <p>遷移前のステータスに滞在していた時間を含む。既定では無効。呼び出し側で {@link #isEnabled()} を判定し、
+ * 有効な場合のみ滞在時間を計算して {@link #record} を呼び出すこと。</p>
+ *
+ * @author store-order-system
+ * @since 1.1.0
+ */
+@SharedUtility(
+        description = "注文ステータス遷移のJFRイベント",
+        targetLayers = {"infrastructure"},
+        category = "計測"
+)
+@Name("com.example.demo.OrderStatusTransition")
+@Label("Order Status Transition")
+@Description("注文ステータスの遷移と、遷移前のステータスの滞在時間")
+@Category({"Store Order", "Order"})
+@Enabled(false)
+@StackTrace(false)
+public class OrderStatusTransitionJfrEvent extends Event {
+
+    @Label("Order ID")
+    String orderId;
+
+    @Label("Previous Status")
+    String previousStatus;
+
+    @Label("New Status")
+    String newStatus;
+
+    @Label("Time In Previous Status")
+    @Timespan(Timespan.MILLISECONDS)
+    long timeInState;
+
+    /**
+     * 項目を設定してイベントを記録する。
+     *
+     * @param orderId           注文ID
+     * @param previousStatus    遷移前のステータス
+     * @param newStatus         遷移後のステータス
+     * @param timeInStateMillis 遷移前のステータスの滞在時間（ミリ秒、不明の場合は負の値）
+     */
+    public void record(String orderId, String previousStatus, String newStatus, long timeInStateMillis) {
+        this.orderId = orderId;
+        this.previousStatus = previousStatus;
+        this.newStatus = newStatus;
+        this.timeInState = timeInStateMillis;
+        commit();
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.demo.common.jfr;
+
+import com.example.demo.common.SharedUtility;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * リポジトリ操作のJFRイベント。
+ *
+ * <p>検索・走査の所要時間と、走査した件数・返却した件数を記録する。既定では無効。
+ * 有効時もしきい値（{@code threshold}）未満の操作は {@link #shouldCommit()} で除外される。</p>
+ *
+ * <h3>使用方法</h3>
+ * <pre>{@code
+ * RepositoryOperationJfrEvent event = RepositoryOperationJfrEvent.start();
+ * List<Order> result = ...;
+ * event.end("InMemoryOrderRepository", "findByStatus", store.size(), result.size());
+ * }</pre>
+ *
+ * @author store-order-system
+ * @since 1.1.0
+ */
+@SharedUtility(
+        description = "リポジトリ操作（検索・走査）のJFRイベント",
+        targetLayers = {"infrastructure"},
+        category = "計測"
+)
+@Name("com.example.demo.RepositoryOperation")
+@Label("Repository Operation")
+@Description("リポジトリの検索・走査と、走査した件数")
+@Category({"Store Order", "Repository"})
+@Enabled(false)
+@StackTrace(false)
+public class RepositoryOperationJfrEvent extends Event {
+
+    @Label("Repository")
+    String repository;
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Elements Scanned")
+    long scanned;
+
+    @Label("Elements Returned")
+    long returned;
+
+    /**
+     * 計測を開始する。
+     *
+     * @return イベント（無効の場合も返す。記録の要否は {@link #end} で判定する）
+     */
+    public static RepositoryOperationJfrEvent start() {
+        RepositoryOperationJfrEvent event = new RepositoryOperationJfrEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * 計測を終了し、記録対象の場合のみイベントを記録する。
+     *
+     * @param repository リポジトリ名
+     * @param operation  操作名
+     * @param scanned    走査した件数
+     * @param returned   返却した件数
+     */
+    public void end(String repository, String operation, long scanned, long returned) {
+        end();
+        if (shouldCommit()) {
+            this.repository = repository;
+            this.operation = operation;
+            this.scanned = scanned;
+            this.returned = returned;
+            commit();
+        }
+    }
+}
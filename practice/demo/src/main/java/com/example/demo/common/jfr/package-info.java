@@ -0,0 +1,22 @@
+/**
+ * JFR（Java Flight Recorder）イベントパッケージ。
+ *
+ * <p>本パッケージは、注文システム固有のJFRイベントを提供する。
+ * いずれのイベントも既定では無効（{@code @Enabled(false)}）で、無効の間は
+ * 有効判定のみで項目の設定・記録を行わない。
+ * 有効にするには {@code src/main/resources/jfr/store-order.jfc} を記録の設定に加える。</p>
+ *
+ * <h3>提供クラス</h3>
+ * <ul>
+ *   <li>{@link com.example.demo.common.jfr.OrderPlacedJfrEvent} - 注文作成</li>
+ *   <li>{@link com.example.demo.common.jfr.OrderStatusTransitionJfrEvent} - ステータス遷移と滞在時間</li>
+ *   <li>{@link com.example.demo.common.jfr.RepositoryOperationJfrEvent} - リポジトリの検索・走査と走査件数</li>
+ *   <li>{@link com.example.demo.common.jfr.ExceptionHandledJfrEvent} - 例外ハンドリング</li>
+ * </ul>
+ *
+ * <p>JFRはイベントごとに記録したスレッドを保持するため、同じリクエストの処理で記録された
+ * イベントはスレッドと時刻で対応付けられる。</p>
+ *
+ * @see com.example.demo.common.jfr.RepositoryOperationJfrEvent
+ */
+package com.example.demo.common.jfr;
@@ -3,6 +3,9 @@ package com.example.demo.common.logging;
 import com.example.demo.common.SharedUtility;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.event.Level;
+
+import java.util.function.Supplier;
 
 /**
  * アプリケーション共通ロガー。
@@ -19,6 +22,9 @@ import org.slf4j.LoggerFactory;
  * log.info("処理を開始します: {}", param);
  * log.warn("想定外の状態: {}", state);
  * log.error("処理に失敗しました", exception);
+ *
+ * // 計算に費用がかかる引数は、出力するレベルの場合のみ評価する
+ * log.debug("注文の内容: {}", () -> order.describe());
  * }</pre>
  *
  * <h3>ログレベルポリシー</h3>
@@ -29,6 +35,21 @@ import org.slf4j.LoggerFactory;
  *   <li>{@code ERROR} - システムエラー・予期しない例外</li>
  * </ul>
  *
+ * <h3>オブジェクト生成の抑制</h3>
+ * <p>引数が3個までのログは固定長の引数で受け付けるため、可変長引数の配列を生成しない。
+ * いずれのメソッドも最初にレベルを判定し、出力しない場合は何もしない。
+ * 引数の計算自体に費用がかかる場合は {@link Supplier} を渡すと、出力する場合にのみ評価する。</p>
+ *
+ * <h3>非同期書き込み</h3>
+ * <p>{@link #startAsync(int)} で開始すると、ログは {@link AsyncLogWriter} のリングバッファに積まれ、
+ * 専用のスレッドが書き込む。呼び出し側はメッセージの整形や出力の完了を待たない。
+ * 開始していない場合・停止後はSLF4Jに同期的に書き込む。</p>
+ *
+ * <h3>構造化ログ</h3>
+ * <p>件数の多い業務イベントは {@link #event(String, String, String...)} で {@link EventSite} を定義して出力する。
+ * {@link StructuredEventLog} を開始している場合は整形済みの文字列ではなく型付きのバイナリレコードとして書き込み、
+ * イベントごとに抽出・流量制限を設定できる。</p>
+ *
  * @author store-order-system
  * @since 1.0.0
  */
@@ -39,6 +60,9 @@ import org.slf4j.LoggerFactory;
 )
 public class AppLogger {
 
+    /** 非同期書き込み（開始していない場合は {@code null}） */
+    private static volatile AsyncLogWriter asyncWriter;
+
     private final Logger logger;
 
     private AppLogger(Logger logger) {
@@ -55,6 +79,119 @@ public class AppLogger {
         return new AppLogger(LoggerFactory.getLogger(clazz));
     }
 
+    /**
+     * 非同期書き込みを開始する。
+     *
+     * <p>以降、全ての {@link AppLogger} のログはリングバッファを経由して書き込まれる。
+     * 停止は返却された {@link AsyncLogWriter} の {@link AsyncLogWriter#close()} で行う。</p>
+     *
+     * @param capacity バッファのスロット数（2のべき乗に切り上げる）
+     * @return 非同期書き込み
+     * @throws IllegalStateException    既に開始している場合
+     * @throws IllegalArgumentException スロット数が不正な場合
+     */
+    public static synchronized AsyncLogWriter startAsync(int capacity) {
+        if (asyncWriter != null) {
+            throw new IllegalStateException("非同期書き込みは既に開始しています");
+        }
+        AsyncLogWriter writer = new AsyncLogWriter(capacity);
+        asyncWriter = writer;
+        return writer;
+    }
+
+    /**
+     * 非同期書き込みを解除する（{@link AsyncLogWriter#close()} から呼び出される）。
+     */
+    static synchronized void stopAsync(AsyncLogWriter writer) {
+        if (asyncWriter == writer) {
+            asyncWriter = null;
+        }
+    }
+
+    /**
+     * 構造化ログのイベントを定義する。
+     *
+     * <p>クラスの定数として1回だけ定義し、出力箇所では {@link EventSite#begin()} から値を渡す。
+     * 構造化イベントログを開始していない場合は、{@code message} を整形してINFOレベルで出力する。</p>
+     *
+     * @param name    イベント名（例: {@code order.placed}。抽出・流量制限の設定に使用する）
+     * @param message 文字列ログのメッセージ（SLF4Jプレースホルダ対応、項目の定義順）
+     * @param fields  項目名
+     * @return イベント
+     * @throws IllegalStateException 同じ名前で項目の異なるイベントが定義済みの場合
+     */
+    public EventSite event(String name, String message, String... fields) {
+        return EventSite.register(this, name, message, fields);
+    }
+
+    /**
+     * DEBUGレベルが有効かどうかを判定する。
+     *
+     * @return 有効な場合 {@code true}
+     */
+    public boolean isDebugEnabled() {
+        return logger.isDebugEnabled();
+    }
+
+    /**
+     * INFOレベルが有効かどうかを判定する。
+     *
+     * @return 有効な場合 {@code true}
+     */
+    public boolean isInfoEnabled() {
+        return logger.isInfoEnabled();
+    }
+
+    /**
+     * DEBUGレベルのログを出力する。
+     *
+     * @param message メッセージ
+     */
+    public void debug(String message) {
+        if (logger.isDebugEnabled() && !enqueue(Level.DEBUG, message, 0, null, null, null, null)) {
+            logger.debug(message);
+        }
+    }
+
+    /**
+     * DEBUGレベルのログを出力する。
+     *
+     * @param message メッセージ（SLF4Jプレースホルダ対応）
+     * @param arg     メッセージ引数
+     */
+    public void debug(String message, Object arg) {
+        if (logger.isDebugEnabled() && !enqueue(Level.DEBUG, message, 1, arg, null, null, null)) {
+            logger.debug(message, arg);
+        }
+    }
+
+    /**
+     * DEBUGレベルのログを出力する。
+     *
+     * @param message メッセージ（SLF4Jプレースホルダ対応）
+     * @param arg1    メッセージ引数1
+     * @param arg2    メッセージ引数2
+     */
+    public void debug(String message, Object arg1, Object arg2) {
+        if (logger.isDebugEnabled() && !enqueue(Level.DEBUG, message, 2, arg1, arg2, null, null)) {
+            logger.debug(message, arg1, arg2);
+        }
+    }
+
+    /**
+     * DEBUGレベルのログを出力する。
+     *
+     * @param message メッセージ（SLF4Jプレースホルダ対応）
+     * @param arg1    メッセージ引数1
+     * @param arg2    メッセージ引数2
+     * @param arg3    メッセージ引数3
+     */
+    public void debug(String message, Object arg1, Object arg2, Object arg3) {
+        if (logger.isDebugEnabled() && !enqueue(Level.DEBUG, message, 3, arg1, arg2, arg3, null)) {
+            logger.debug(message, arg1, arg2, arg3);
+        }
+    }
+
     /**
      * DEBUGレベルのログを出力する。
      *
@@ -62,7 +199,86 @@ public class AppLogger {
      * @param args    メッセージ引数
      */
     public void debug(String message, Object... args) {
-        logger.debug(message, args);
+        if (logger.isDebugEnabled() && !enqueue(Level.DEBUG, message, -1, null, null, null, args)) {
+            logger.debug(message, args);
+        }
+    }
+
+    /**
+     * DEBUGレベルのログを出力する。引数はDEBUGレベルが有効な場合のみ評価する。
+     *
+     * @param message メッセージ（SLF4Jプレースホルダ対応）
+     * @param arg     メッセージ引数の供給元
+     */
+    public void debug(String message, Supplier<?> arg) {
+        if (logger.isDebugEnabled()) {
+            debug(message, (Object) arg.get());
+        }
+    }
+
+    /**
+     * DEBUGレベルのログを出力する。引数はDEBUGレベルが有効な場合のみ評価する。
+     *
+     * @param message メッセージ（SLF4Jプレースホルダ対応）
+     * @param arg1    メッセージ引数1の供給元
+     * @param arg2    メッセージ引数2の供給元
+     */
+    public void debug(String message, Supplier<?> arg1, Supplier<?> arg2) {
+        if (logger.isDebugEnabled()) {
+            debug(message, (Object) arg1.get(), (Object) arg2.get());
+        }
+    }
+
+    /**
+     * INFOレベルのログを出力する。
+     *
+     * <p>業務処理の正常な実行記録に使用する。</p>
+     *
+     * @param message メッセージ
+     */
+    public void info(String message) {
+        if (logger.isInfoEnabled() && !enqueue(Level.INFO, message, 0, null, null, null, null)) {
+            logger.info(message);
+        }
+    }
+
+    /**
+     * INFOレベルのログを出力する。
+     *
+     * @param message メッセージ（SLF4Jプレースホルダ対応）
+     * @param arg     メッセージ引数
+     */
+    public void info(String message, Object arg) {
+        if (logger.isInfoEnabled() && !enqueue(Level.INFO, message, 1, arg, null, null, null)) {
+            logger.info(message, arg);
+        }
+    }
+
+    /**
+     * INFOレベルのログを出力する。
+     *
+     * @param message メッセージ（SLF4Jプレースホルダ対応）
+     * @param arg1    メッセージ引数1
+     * @param arg2    メッセージ引数2
+     */
+    public void info(String message, Object arg1, Object arg2) {
+        if (logger.isInfoEnabled() && !enqueue(Level.INFO, message, 2, arg1, arg2, null, null)) {
+            logger.info(message, arg1, arg2);
+        }
+    }
+
+    /**
+     * INFOレベルのログを出力する。
+     *
+     * @param message メッセージ（SLF4Jプレースホルダ対応）
+     * @param arg1    メッセージ引数1
+     * @param arg2    メッセージ引数2
+     * @param arg3    メッセージ引数3
+     */
+    public void info(String message, Object arg1, Object arg2, Object arg3) {
+        if (logger.isInfoEnabled() && !enqueue(Level.INFO, message, 3, arg1, arg2, arg3, null)) {
+            logger.info(message, arg1, arg2, arg3);
+        }
     }
 
     /**
@@ -74,7 +290,84 @@ public class AppLogger {
      * @param args    メッセージ引数
      */
     public void info(String message, Object... args) {
-        logger.info(message, args);
+        if (logger.isInfoEnabled() && !enqueue(Level.INFO, message, -1, null, null, null, args)) {
+            logger.info(message, args);
+        }
+    }
+
+    /**
+     * INFOレベルのログを出力する。引数はINFOレベルが有効な場合のみ評価する。
+     *
+     * @param message メッセージ（SLF4Jプレースホルダ対応）
+     * @param arg     メッセージ引数の供給元
+     */
+    public void info(String message, Supplier<?> arg) {
+        if (logger.isInfoEnabled()) {
+            info(message, (Object) arg.get());
+        }
+    }
+
+    /**
+     * INFOレベルのログを出力する。引数はINFOレベルが有効な場合のみ評価する。
+     *
+     * @param message メッセージ（SLF4Jプレースホルダ対応）
+     * @param arg1    メッセージ引数1の供給元
+     * @param arg2    メッセージ引数2の供給元
+     */
+    public void info(String message, Supplier<?> arg1, Supplier<?> arg2) {
+        if (logger.isInfoEnabled()) {
+            info(message, (Object) arg1.get(), (Object) arg2.get());
+        }
+    }
+
+    /**
+     * WARNレベルのログを出力する。
+     *
+     * @param message メッセージ
+     */
+    public void warn(String message) {
+        if (logger.isWarnEnabled() && !enqueue(Level.WARN, message, 0, null, null, null, null)) {
+            logger.warn(message);
+        }
+    }
+
+    /**
+     * WARNレベルのログを出力する。
+     *
+     * @param message メッセージ（SLF4Jプレースホルダ対応）
+     * @param arg     メッセージ引数
+     */
+    public void warn(String message, Object arg) {
+        if (logger.isWarnEnabled() && !enqueue(Level.WARN, message, 1, arg, null, null, null)) {
+            logger.warn(message, arg);
+        }
+    }
+
+    /**
+     * WARNレベルのログを出力する。
+     *
+     * @param message メッセージ（SLF4Jプレースホルダ対応）
+     * @param arg1    メッセージ引数1
+     * @param arg2    メッセージ引数2
+     */
+    public void warn(String message, Object arg1, Object arg2) {
+        if (logger.isWarnEnabled() && !enqueue(Level.WARN, message, 2, arg1, arg2, null, null)) {
+            logger.warn(message, arg1, arg2);
+        }
+    }
+
+    /**
+     * WARNレベルのログを出力する。
+     *
+     * @param message メッセージ（SLF4Jプレースホルダ対応）
+     * @param arg1    メッセージ引数1
+     * @param arg2    メッセージ引数2
+     * @param arg3    メッセージ引数3
+     */
+    public void warn(String message, Object arg1, Object arg2, Object arg3) {
+        if (logger.isWarnEnabled() && !enqueue(Level.WARN, message, 3, arg1, arg2, arg3, null)) {
+            logger.warn(message, arg1, arg2, arg3);
+        }
     }
 
     /**
@@ -86,7 +379,32 @@ public class AppLogger {
      * @param args    メッセージ引数
      */
     public void warn(String message, Object... args) {
-        logger.warn(message, args);
+        if (logger.isWarnEnabled() && !enqueue(Level.WARN, message, -1, null, null, null, args)) {
+            logger.warn(message, args);
+        }
+    }
+
+    /**
+     * WARNレベルのログを出力する。引数はWARNレベルが有効な場合のみ評価する。
+     *
+     * @param message メッセージ（SLF4Jプレースホルダ対応）
+     * @param arg     メッセージ引数の供給元
+     */
+    public void warn(String message, Supplier<?> arg) {
+        if (logger.isWarnEnabled()) {
+            warn(message, (Object) arg.get());
+        }
+    }
+
+    /**
+     * ERRORレベルのログを出力する。
+     *
+     * @param message メッセージ
+     */
+    public void error(String message) {
+        if (logger.isErrorEnabled() && !enqueue(Level.ERROR, message, 0, null, null, null, null)) {
+            logger.error(message);
+        }
     }
 
     /**
@@ -96,7 +414,34 @@ public class AppLogger {
      * @param throwable 例外
      */
     public void error(String message, Throwable throwable) {
-        logger.error(message, throwable);
+        if (logger.isErrorEnabled() && !enqueue(Level.ERROR, message, 1, throwable, null, null, null)) {
+            logger.error(message, throwable);
+        }
+    }
+
+    /**
+     * ERRORレベルのログを出力する。
+     *
+     * @param message メッセージ（SLF4Jプレースホルダ対応）
+     * @param arg     メッセージ引数
+     */
+    public void error(String message, Object arg) {
+        if (logger.isErrorEnabled() && !enqueue(Level.ERROR, message, 1, arg, null, null, null)) {
+            logger.error(message, arg);
+        }
+    }
+
+    /**
+     * ERRORレベルのログを出力する。
+     *
+     * @param message メッセージ（SLF4Jプレースホルダ対応）
+     * @param arg1    メッセージ引数1
+     * @param arg2    メッセージ引数2（例外の場合は原因として出力する）
+     */
+    public void error(String message, Object arg1, Object arg2) {
+        if (logger.isErrorEnabled() && !enqueue(Level.ERROR, message, 2, arg1, arg2, null, null)) {
+            logger.error(message, arg1, arg2);
+        }
     }
 
     /**
@@ -106,6 +451,19 @@ public class AppLogger {
      * @param args    メッセージ引数
      */
     public void error(String message, Object... args) {
-        logger.error(message, args);
+        if (logger.isErrorEnabled() && !enqueue(Level.ERROR, message, -1, null, null, null, args)) {
+            logger.error(message, args);
+        }
+    }
+
+    /**
+     * 非同期書き込みを開始している場合、ログをリングバッファに積む。
+     *
+     * @return 積んだ場合（満杯のため破棄した場合を含む）{@code true}、同期的に書き込む必要がある場合 {@code false}
+     */
+    private boolean enqueue(Level level, String message, int arity,
+                            Object arg1, Object arg2, Object arg3, Object[] args) {
+        AsyncLogWriter writer = asyncWriter;
+        return writer != null && writer.offer(logger, level, message, arity, arg1, arg2, arg3, args);
     }
 }
@@ -0,0 +1,266 @@
+package com.example.demo.common.logging;
+
+import com.example.demo.common.SharedUtility;
+import org.slf4j.Logger;
+import org.slf4j.event.Level;
+import org.slf4j.spi.LoggingEventBuilder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * ログの非同期書き込み。
+ *
+ * <p>{@link AppLogger} が受け付けたログを事前に確保したリングバッファに積み、
+ * 専用のスレッド（{@value #THREAD_NAME}）がSLF4Jに書き込む。呼び出し側のスレッドは
+ * スロットの確保と参照の設定のみを行い、メッセージの整形やアペンダの入出力を待たない。
+ * スロットは起動時に全て確保して再利用するため、ログ1件ごとのオブジェクト生成はない。</p>
+ *
+ * <h3>バッファが満杯の場合</h3>
+ * <ul>
+ *   <li>{@code WARN} / {@code ERROR} - 呼び出し側のスレッドで同期的に書き込む（失わない）</li>
+ *   <li>{@code DEBUG} / {@code INFO} - 破棄して件数を数える（{@link #droppedCount()}）。
+ *       破棄があった場合は書き込みスレッドが件数をWARNで出力する</li>
+ * </ul>
+ *
+ * <h3>注意事項</h3>
+ * <ul>
+ *   <li>引数の文字列化は書き込みスレッドで行う。引数には不変の値を渡すこと</li>
+ *   <li>ログの日時は書き込み時点のもの（通常は受け付けから数マイクロ秒以内）</li>
+ *   <li>受け付けたスレッドの名前はキー {@code thread} の値として付与する
+ *       （Logbackでは {@code %kvp} で出力できる）</li>
+ * </ul>
+ *
+ * <p>{@link AppLogger#startAsync(int)} で開始し、{@link #close()} で残りを書き込んでから停止する。</p>
+ *
+ * @author store-order-system
+ * @since 1.1.0
+ * @see AppLogger
+ */
+@SharedUtility(
+        description = "ログの非同期書き込み（リングバッファ）",
+        targetLayers = {"infrastructure"},
+        category = "ログ"
+)
+public final class AsyncLogWriter implements AutoCloseable {
+
+    private static final AppLogger log = AppLogger.of(AsyncLogWriter.class);
+
+    /** 書き込みスレッドの名前 */
+    public static final String THREAD_NAME = "async-log-writer";
+
+    /** 書き込むログがない場合の待機時間の上限 */
+    private static final long MAX_IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    /** バッファのスロット数の上限 */
+    private static final int MAX_CAPACITY = 1 << 20;
+
+    /** 停止時に残りを書き込む際の待機時間の上限 */
+    private static final long CLOSE_TIMEOUT_MILLIS = 5_000;
+
+    private final Slot[] slots;
+    private final int mask;
+
+    /** 次に確保するシーケンス番号 */
+    private final AtomicLong claimed = new AtomicLong();
+
+    /** 次に書き込むシーケンス番号（書き込みスレッドのみが更新する） */
+    private volatile long consumed;
+
+    private final LongAdder dropped = new LongAdder();
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param capacity バッファのスロット数（2のべき乗に切り上げる）
+     * @throws IllegalArgumentException スロット数が1未満、または上限を超える場合
+     */
+    AsyncLogWriter(int capacity) {
+        if (capacity < 1 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException(
+                    "バッファのスロット数は1以上" + MAX_CAPACITY + "以下である必要があります: " + capacity);
+        }
+        int size = Math.max(1, Integer.highestOneBit(capacity - 1) << 1);
+        this.slots = new Slot[size];
+        for (int i = 0; i < size; i++) {
+            slots[i] = new Slot(i - size);
+        }
+        this.mask = size - 1;
+        this.writer = new Thread(this::drainLoop, THREAD_NAME);
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * ログを積む。
+     *
+     * @param arity 引数の個数（0〜3）。可変長の場合は {@code -1} を指定し、引数を {@code args} に渡す
+     * @return 受け付けた場合（満杯のため破棄した場合を含む）{@code true}、
+     *         呼び出し側で同期的に書き込む必要がある場合 {@code false}
+     */
+    boolean offer(Logger logger, Level level, String message, int arity,
+                  Object arg1, Object arg2, Object arg3, Object[] args) {
+        long sequence;
+        do {
+            if (!running) {
+                return false;
+            }
+            sequence = claimed.get();
+            if (sequence - consumed >= slots.length) {
+                if (level == Level.DEBUG || level == Level.INFO || level == Level.TRACE) {
+                    dropped.increment();
+                    return true;
+                }
+                return false;
+            }
+        } while (!claimed.compareAndSet(sequence, sequence + 1));
+
+        Slot slot = slots[(int) sequence & mask];
+        slot.logger = logger;
+        slot.level = level;
+        slot.message = message;
+        slot.arity = arity;
+        slot.arg1 = arg1;
+        slot.arg2 = arg2;
+        slot.arg3 = arg3;
+        slot.args = args;
+        slot.thread = Thread.currentThread().getName();
+        slot.published = sequence;
+        return true;
+    }
+
+    /**
+     * 満杯のため破棄したログの累計件数を取得する。
+     *
+     * @return 累計件数
+     */
+    public long droppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * バッファに残っているログの件数を取得する。
+     *
+     * @return 件数
+     */
+    public int pending() {
+        return (int) Math.max(0, claimed.get() - consumed);
+    }
+
+    /**
+     * 新たな受け付けを止め、残りを書き込んでから書き込みスレッドを停止する。
+     *
+     * <p>停止後の {@link AppLogger} は同期的に書き込む。</p>
+     */
+    @Override
+    public void close() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        AppLogger.stopAsync(this);
+        LockSupport.unpark(writer);
+        try {
+            writer.join(CLOSE_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void drainLoop() {
+        long reportedDrops = 0;
+        long idleParkNanos = 1_000;
+        while (true) {
+            long next = consumed;
+            Slot slot = slots[(int) next & mask];
+            if (slot.published == next) {
+                write(slot);
+                slot.clear();
+                consumed = next + 1;
+                idleParkNanos = 1_000;
+                continue;
+            }
+
+            long drops = dropped.sum();
+            if (drops != reportedDrops) {
+                log.warn("ログのバッファが満杯のため破棄しました: dropped={}", drops - reportedDrops);
+                reportedDrops = drops;
+            }
+            if (!running && next == claimed.get()) {
+                return;
+            }
+            LockSupport.parkNanos(this, idleParkNanos);
+            idleParkNanos = Math.min(idleParkNanos * 2, MAX_IDLE_PARK_NANOS);
+        }
+    }
+
+    private static void write(Slot slot) {
+        try {
+            LoggingEventBuilder builder = slot.logger.atLevel(slot.level)
+                    .setMessage(slot.message)
+                    .addKeyValue("thread", slot.thread);
+            int count = slot.arity >= 0 ? slot.arity : slot.args.length;
+            for (int i = 0; i < count; i++) {
+                Object arg = slot.arg(i);
+                // SLF4Jの規約どおり、末尾の例外は引数ではなく原因として扱う
+                if (i == count - 1 && arg instanceof Throwable cause) {
+                    builder.setCause(cause);
+                } else {
+                    builder.addArgument(arg);
+                }
+            }
+            builder.log();
+        } catch (RuntimeException e) {
+            // 1件の書き込み失敗で書き込みスレッドを止めない
+            log.error("ログの書き込みに失敗しました", e);
+        }
+    }
+
+    /**
+     * リングバッファの1スロット。
+     */
+    private static final class Slot {
+
+        /** 書き込み可能になったシーケンス番号 */
+        volatile long published;
+
+        Logger logger;
+        Level level;
+        String message;
+        int arity;
+        Object arg1;
+        Object arg2;
+        Object arg3;
+        Object[] args;
+        String thread;
+
+        Slot(long initial) {
+            this.published = initial;
+        }
+
+        void clear() {
+            logger = null;
+            message = null;
+            arg1 = null;
+            arg2 = null;
+            arg3 = null;
+            args = null;
+            thread = null;
+        }
+
+        Object arg(int index) {
+            if (arity < 0) {
+                return args[index];
+            }
+            return switch (index) {
+                case 0 -> arg1;
+                case 1 -> arg2;
+                default -> arg3;
+            };
+        }
+    }
+}
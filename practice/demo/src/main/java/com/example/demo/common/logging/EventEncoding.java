@@ -0,0 +1,136 @@
+package com.example.demo.common.logging;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 構造化イベントログの符号化・復号の共通処理。
+ *
+ * <p>整数は可変長（varint、符号付きはzigzag）、文字列はバイト数とUTF-8で表す。
+ * 文字列の符号化は一時的なバイト配列を生成せず、バッファに直接書き込む。</p>
+ *
+ * @author store-order-system
+ * @since 1.1.0
+ * @see StructuredEventLog
+ */
+final class EventEncoding {
+
+    private EventEncoding() {
+    }
+
+    /**
+     * 符号なしの可変長整数を書き込む。
+     */
+    static void putVarint(ByteBuffer buffer, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    /**
+     * 符号付きの整数をzigzag符号化して書き込む。
+     */
+    static void putZigzag(ByteBuffer buffer, long value) {
+        putVarint(buffer, (value << 1) ^ (value >> 63));
+    }
+
+    /**
+     * 文字列をバイト数とUTF-8で書き込む。
+     */
+    static void putString(ByteBuffer buffer, String value) {
+        putVarint(buffer, utf8Length(value));
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                buffer.put((byte) c);
+            } else if (c < 0x800) {
+                buffer.put((byte) (0xC0 | (c >> 6)));
+                buffer.put((byte) (0x80 | (c & 0x3F)));
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                buffer.put((byte) (0xF0 | (codePoint >> 18)));
+                buffer.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+                buffer.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+                buffer.put((byte) (0x80 | (codePoint & 0x3F)));
+            } else if (Character.isSurrogate(c)) {
+                buffer.put((byte) '?');
+            } else {
+                buffer.put((byte) (0xE0 | (c >> 12)));
+                buffer.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+                buffer.put((byte) (0x80 | (c & 0x3F)));
+            }
+        }
+    }
+
+    /**
+     * 文字列を書き込む場合の最大バイト数を取得する（長さの varint を含む）。
+     */
+    static int maxStringSize(String value) {
+        return 5 + value.length() * 3;
+    }
+
+    /**
+     * 文字列のUTF-8でのバイト数を取得する（不正なサロゲートは1バイトの {@code ?} として数える）。
+     */
+    static int utf8Length(String value) {
+        int length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                length += 1;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                length += 1;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    /**
+     * 符号なしの可変長整数を読み込む。
+     *
+     * @throws IllegalArgumentException 10バイトを超える場合
+     */
+    static long getVarint(ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("可変長整数が不正です");
+    }
+
+    /**
+     * zigzag符号化された整数を読み込む。
+     */
+    static long getZigzag(ByteBuffer buffer) {
+        long encoded = getVarint(buffer);
+        return (encoded >>> 1) ^ -(encoded & 1);
+    }
+
+    /**
+     * 文字列を読み込む。
+     */
+    static String getString(ByteBuffer buffer) {
+        int length = (int) getVarint(buffer);
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IllegalArgumentException("文字列の長さが不正です: " + length);
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
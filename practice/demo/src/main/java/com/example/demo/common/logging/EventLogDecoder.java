@@ -0,0 +1,201 @@
+package com.example.demo.common.logging;
+
+import com.example.demo.common.SharedUtility;
+
+import java.io.BufferedWriter;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 構造化イベントログの復号ツール。
+ *
+ * <p>{@link StructuredEventLog} が書き込んだファイルを読み、1レコードを1行のJSONとして出力する。
+ * アプリケーションの外（障害調査・集計）で使用する。</p>
+ *
+ * <h3>使用方法</h3>
+ * <pre>
+ * java -cp demo.jar com.example.demo.common.logging.EventLogDecoder logs/events.bin [出力先]
+ * </pre>
+ * <p>出力先を省略した場合は標準出力に書き込む。出力例:</p>
+ * <pre>{@code
+ * {"time":"2026-10-18T03:12:45.120Z","event":"order.placed","weight":1,"orderId":"...","tableNumber":5,"itemCount":3}
+ * }</pre>
+ * <p>{@code weight} はそのレコードが表すイベントの件数で、抽出・流量制限で記録しなかった分を含む。
+ * イベントごとの {@code weight} の合計が発生件数の推定値となる。</p>
+ *
+ * @author store-order-system
+ * @since 1.1.0
+ * @see StructuredEventLog
+ */
+@SharedUtility(
+        description = "構造化イベントログの復号（JSON Lines出力）",
+        targetLayers = {"infrastructure"},
+        category = "ログ"
+)
+public final class EventLogDecoder {
+
+    private EventLogDecoder() {
+    }
+
+    /**
+     * コマンドラインから復号する。
+     *
+     * @param args 入力ファイル、出力先（省略時は標準出力）
+     * @throws IOException 読み書きに失敗した場合
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1 || args.length > 2) {
+            throw new IllegalArgumentException("使用方法: EventLogDecoder <入力ファイル> [出力先]");
+        }
+        Path input = Path.of(args[0]);
+        try (Writer out = new BufferedWriter(new OutputStreamWriter(args.length == 2
+                ? Files.newOutputStream(Path.of(args[1]))
+                : new FileOutputStream(FileDescriptor.out), StandardCharsets.UTF_8))) {
+            decode(input, out);
+        }
+    }
+
+    /**
+     * ファイルを復号する。
+     *
+     * @param input 入力ファイル
+     * @param out   出力先（JSON Lines）
+     * @return 復号したレコードの件数
+     * @throws IOException              読み書きに失敗した場合
+     * @throws IllegalArgumentException ファイルの形式が不正な場合
+     */
+    public static long decode(Path input, Writer out) throws IOException {
+        return decode(ByteBuffer.wrap(Files.readAllBytes(input)), out);
+    }
+
+    /**
+     * バッファを復号する。
+     *
+     * @param in  入力（position から limit まで）
+     * @param out 出力先（JSON Lines）
+     * @return 復号したレコードの件数
+     * @throws IOException              書き込みに失敗した場合
+     * @throws IllegalArgumentException 形式が不正な場合
+     */
+    public static long decode(ByteBuffer in, Writer out) throws IOException {
+        Map<Long, Definition> definitions = new HashMap<>();
+        long baseEpochMillis = 0;
+        long records = 0;
+        StringBuilder line = new StringBuilder(256);
+        while (in.hasRemaining()) {
+            byte tag = in.get(in.position());
+            if (tag == StructuredEventLog.MAGIC[0]) {
+                baseEpochMillis = readSegmentHeader(in);
+                definitions.clear();
+            } else if (tag == StructuredEventLog.TAG_DEFINE) {
+                in.get();
+                long id = EventEncoding.getVarint(in);
+                String name = EventEncoding.getString(in);
+                String[] fields = new String[(int) EventEncoding.getVarint(in)];
+                for (int i = 0; i < fields.length; i++) {
+                    fields[i] = EventEncoding.getString(in);
+                }
+                definitions.put(id, new Definition(name, fields));
+            } else if (tag == StructuredEventLog.TAG_RECORD) {
+                in.get();
+                long id = EventEncoding.getVarint(in);
+                Definition definition = definitions.get(id);
+                if (definition == null) {
+                    throw new IllegalArgumentException("未定義のイベントです: " + id + " (offset " + in.position() + ")");
+                }
+                long time = baseEpochMillis + EventEncoding.getVarint(in);
+                long weight = EventEncoding.getVarint(in);
+
+                line.setLength(0);
+                line.append("{\"time\":\"").append(Instant.ofEpochMilli(time)).append('"');
+                line.append(",\"event\":");
+                appendJsonString(line, definition.name());
+                line.append(",\"weight\":").append(weight);
+                for (String field : definition.fields()) {
+                    line.append(',');
+                    appendJsonString(line, field);
+                    line.append(':');
+                    appendValue(line, in);
+                }
+                line.append("}\n");
+                out.append(line);
+                records++;
+            } else {
+                throw new IllegalArgumentException("不正なタグです: " + tag + " (offset " + in.position() + ")");
+            }
+        }
+        out.flush();
+        return records;
+    }
+
+    private static long readSegmentHeader(ByteBuffer in) {
+        for (byte expected : StructuredEventLog.MAGIC) {
+            if (in.get() != expected) {
+                throw new IllegalArgumentException("構造化イベントログの形式ではありません (offset " + in.position() + ")");
+            }
+        }
+        byte version = in.get();
+        if (version != StructuredEventLog.FORMAT_VERSION) {
+            throw new IllegalArgumentException("未対応の形式バージョンです: " + version);
+        }
+        return in.getLong();
+    }
+
+    private static void appendValue(StringBuilder line, ByteBuffer in) {
+        byte type = in.get();
+        switch (type) {
+            case StructuredEventLog.VALUE_NULL -> line.append("null");
+            case StructuredEventLog.VALUE_LONG -> line.append(EventEncoding.getZigzag(in));
+            case StructuredEventLog.VALUE_STRING -> appendJsonString(line, EventEncoding.getString(in));
+            case StructuredEventLog.VALUE_DOUBLE -> {
+                double value = in.getDouble();
+                if (Double.isFinite(value)) {
+                    line.append(value);
+                } else {
+                    appendJsonString(line, Double.toString(value));
+                }
+            }
+            case StructuredEventLog.VALUE_TRUE -> line.append("true");
+            case StructuredEventLog.VALUE_FALSE -> line.append("false");
+            default -> throw new IllegalArgumentException("不正な値の型です: " + type + " (offset " + in.position() + ")");
+        }
+    }
+
+    private static void appendJsonString(StringBuilder line, String value) {
+        line.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> line.append("\\\"");
+                case '\\' -> line.append("\\\\");
+                case '\n' -> line.append("\\n");
+                case '\r' -> line.append("\\r");
+                case '\t' -> line.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        line.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        line.append(c);
+                    }
+                }
+            }
+        }
+        line.append('"');
+    }
+
+    /**
+     * イベントの定義。
+     */
+    private record Definition(String name, String[] fields) {
+    }
+}
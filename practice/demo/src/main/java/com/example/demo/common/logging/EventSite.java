@@ -0,0 +1,448 @@
+package com.example.demo.common.logging;
+
+import com.example.demo.common.SharedUtility;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 構造化ログのイベント（呼び出し箇所）。
+ *
+ * <p>イベント名・項目名・文字列ログ用のメッセージを1回だけ定義し、ログを出力する箇所では
+ * 項目の値のみを定義順に渡す。{@link StructuredEventLog} を開始している場合は型付きの
+ * バイナリレコードとして書き込み、開始していない場合は従来どおりメッセージを整形して
+ * INFOレベルで出力する。</p>
+ *
+ * <h3>使用方法</h3>
+ * <pre>{@code
+ * private static final AppLogger log = AppLogger.of(OrderApplicationService.class);
+ * private static final EventSite ORDER_PLACED = log.event("order.placed",
+ *         "注文を受け付けました: 注文ID={}, テーブル={}, 明細数={}",
+ *         "orderId", "tableNumber", "itemCount");
+ *
+ * ORDER_PLACED.begin().str(orderId.getValue()).num(tableNumber).num(items.size()).end();
+ * }</pre>
+ *
+ * <h3>抽出・流量制限</h3>
+ * <p>イベントごとに、{@code N}件に1件だけ記録する抽出と、1秒あたりの最大件数を設定できる
+ * （{@link #configure(String, String)}）。記録しないイベントでは {@link #begin()} が何もしない
+ * レコードを返すため、値の符号化も書き込みも行わない。
+ * バイナリレコードには、そのレコードが表す件数を重みとして含め、集計時に件数を推定できるようにする。
+ * 重みは抽出率に、前回の記録以降に流量制限で記録しなかった件数（抽出率を掛けたもの）を加えた値とする。
+ * 最後の記録より後に流量制限で記録しなかった分は、次に記録するまでファイルに現れない
+ * （{@link #suppressedCount()} には含まれる）。
+ * 抽出・流量制限は {@link StructuredEventLog} を開始している場合のみ適用し、
+ * 文字列ログは従来どおり全件を出力する。</p>
+ *
+ * <p>レコードはスレッドごとに1つを再利用する。{@link #begin()} から {@link Record#end()} までの間に
+ * 同じスレッドで別のイベントを開始しないこと。</p>
+ *
+ * @author store-order-system
+ * @since 1.1.0
+ * @see AppLogger#event(String, String, String...)
+ * @see StructuredEventLog
+ */
+@SharedUtility(
+        description = "構造化ログのイベント定義（抽出・流量制限つき）",
+        targetLayers = {"webapi", "application", "query", "infrastructure"},
+        category = "ログ"
+)
+public final class EventSite {
+
+    /** 定義済みのイベント（イベント名ごと） */
+    private static final Map<String, EventSite> SITES = new ConcurrentHashMap<>();
+
+    /** 設定済みの抽出・流量制限（イベント名ごと、イベントの定義前に設定された分を含む） */
+    private static final Map<String, Limits> LIMITS = new ConcurrentHashMap<>();
+
+    private static final AtomicInteger NEXT_ID = new AtomicInteger();
+
+    private static final ThreadLocal<Record> RECORDS = ThreadLocal.withInitial(Record::new);
+
+    private final int id;
+    private final String name;
+    private final String message;
+    private final String[] fields;
+    private final AppLogger logger;
+
+    private volatile Limits limits = Limits.NONE;
+    private final AtomicLong sequence = new AtomicLong();
+
+    /** 流量制限の窓（上位32ビットがエポック秒、下位32ビットがその秒の記録件数） */
+    private final AtomicLong window = new AtomicLong();
+    private final LongAdder suppressed = new LongAdder();
+
+    /** 流量制限で記録しなかった件数のうち、まだ重みに含めていない分（抽出率を掛けた件数） */
+    private final AtomicLong pendingWeight = new AtomicLong();
+
+    private EventSite(int id, String name, String message, String[] fields, AppLogger logger) {
+        this.id = id;
+        this.name = name;
+        this.message = message;
+        this.fields = fields;
+        this.logger = logger;
+    }
+
+    /**
+     * イベントを定義する（{@link AppLogger#event(String, String, String...)} から呼び出される）。
+     *
+     * @throws IllegalStateException 同じ名前で項目の異なるイベントが定義済みの場合
+     */
+    static EventSite register(AppLogger logger, String name, String message, String[] fields) {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("イベント名は必須です");
+        }
+        EventSite site = SITES.computeIfAbsent(name, n -> {
+            EventSite created = new EventSite(NEXT_ID.getAndIncrement(), n, message, fields.clone(), logger);
+            created.limits = LIMITS.getOrDefault(n, Limits.NONE);
+            return created;
+        });
+        if (!List.of(site.fields).equals(List.of(fields))) {
+            throw new IllegalStateException("イベントは異なる項目で定義済みです: " + name);
+        }
+        return site;
+    }
+
+    /**
+     * イベントごとの抽出・流量制限を設定する。
+     *
+     * <p>いずれも {@code イベント名:値} をカンマ区切りで指定する（例: {@code order.status-changed:10}）。
+     * 指定のないイベントは全件を記録する。</p>
+     *
+     * @param sampleEvery  抽出（{@code N}件に1件を記録する）
+     * @param maxPerSecond 流量制限（1秒あたりの最大件数）
+     * @throws IllegalArgumentException 書式・値が不正な場合
+     */
+    public static void configure(String sampleEvery, String maxPerSecond) {
+        Map<String, Integer> every = parse(sampleEvery);
+        Map<String, Integer> perSecond = parse(maxPerSecond);
+        Map<String, Limits> next = new HashMap<>();
+        every.forEach((site, n) -> next.put(site, new Limits(n, perSecond.getOrDefault(site, 0))));
+        perSecond.forEach((site, n) -> next.putIfAbsent(site, new Limits(1, n)));
+
+        LIMITS.clear();
+        LIMITS.putAll(next);
+        for (EventSite site : SITES.values()) {
+            site.limits = next.getOrDefault(site.name, Limits.NONE);
+        }
+    }
+
+    private static Map<String, Integer> parse(String spec) {
+        Map<String, Integer> parsed = new HashMap<>();
+        if (spec == null || spec.isBlank()) {
+            return parsed;
+        }
+        for (String entry : spec.split(",")) {
+            int separator = entry.lastIndexOf(':');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("イベント名:値 の形式で指定してください: " + entry.trim());
+            }
+            int value;
+            try {
+                value = Integer.parseInt(entry.substring(separator + 1).trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("値は整数で指定してください: " + entry.trim(), e);
+            }
+            if (value < 1) {
+                throw new IllegalArgumentException("値は1以上である必要があります: " + entry.trim());
+            }
+            parsed.put(entry.substring(0, separator).trim(), value);
+        }
+        return parsed;
+    }
+
+    /**
+     * レコードを開始する。
+     *
+     * <p>抽出・流量制限により記録しない場合（構造化イベントログの開始中のみ）や、
+     * 文字列ログでINFOレベルが無効な場合は、何もしないレコードを返す。</p>
+     *
+     * @return レコード（定義順に値を渡し、最後に {@link Record#end()} を呼び出すこと）
+     */
+    public Record begin() {
+        Record record = RECORDS.get();
+        StructuredEventLog sink = StructuredEventLog.active();
+        if (sink == null) {
+            return logger.isInfoEnabled() ? record.text(this) : record.skip();
+        }
+        long weight = admit();
+        return weight > 0 ? record.binary(this, sink, weight) : record.skip();
+    }
+
+    /**
+     * 抽出・流量制限により記録しなかった件数を取得する。
+     *
+     * @return 累計件数
+     */
+    public long suppressedCount() {
+        return suppressed.sum();
+    }
+
+    /**
+     * イベント名を取得する。
+     *
+     * @return イベント名
+     */
+    public String name() {
+        return name;
+    }
+
+    int id() {
+        return id;
+    }
+
+    String[] fields() {
+        return fields;
+    }
+
+    /**
+     * 定義レコードの最大バイト数を取得する。
+     */
+    int definitionSize() {
+        int size = 1 + 5 + EventEncoding.maxStringSize(name) + 5;
+        for (String field : fields) {
+            size += EventEncoding.maxStringSize(field);
+        }
+        return size;
+    }
+
+    /**
+     * 抽出・流量制限を適用する。
+     *
+     * @return 記録する場合はレコードの重み、記録しない場合は0
+     */
+    private long admit() {
+        Limits current = limits;
+        if (current.sampleEvery > 1 && sequence.getAndIncrement() % current.sampleEvery != 0) {
+            suppressed.increment();
+            return 0;
+        }
+        if (current.maxPerSecond > 0) {
+            long second = System.currentTimeMillis() / 1000;
+            // 秒の切り替えと件数の加算を1回のCASで行い、切り替え中の加算を失わないようにする
+            while (true) {
+                long state = window.get();
+                long count = (state >>> 32) == second ? state & 0xFFFF_FFFFL : 0;
+                if (count >= current.maxPerSecond) {
+                    suppressed.increment();
+                    pendingWeight.addAndGet(current.sampleEvery);
+                    return 0;
+                }
+                if (window.compareAndSet(state, (second << 32) | (count + 1))) {
+                    break;
+                }
+            }
+            return current.sampleEvery + pendingWeight.getAndSet(0);
+        }
+        return current.sampleEvery;
+    }
+
+    /**
+     * 抽出・流量制限。
+     *
+     * @param sampleEvery  抽出（{@code N}件に1件を記録する）
+     * @param maxPerSecond 1秒あたりの最大件数（0は無制限）
+     */
+    private record Limits(int sampleEvery, int maxPerSecond) {
+
+        static final Limits NONE = new Limits(1, 0);
+    }
+
+    /**
+     * 構造化ログの1レコード。
+     *
+     * <p>スレッドごとに1つを再利用する。値はイベントの項目の定義順に渡すこと。</p>
+     */
+    public static final class Record {
+
+        private enum Mode { SKIP, TEXT, BINARY }
+
+        private Mode mode = Mode.SKIP;
+        private EventSite site;
+        private StructuredEventLog sink;
+        private ByteBuffer buffer = ByteBuffer.allocate(512);
+        private Object[] values;
+        private int count;
+
+        private Record() {
+        }
+
+        private Record skip() {
+            mode = Mode.SKIP;
+            site = null;
+            sink = null;
+            return this;
+        }
+
+        private Record text(EventSite site) {
+            this.mode = Mode.TEXT;
+            this.site = site;
+            this.sink = null;
+            // 文字列ログは非同期書き込みで後から整形されるため、配列は再利用しない
+            this.values = new Object[site.fields.length];
+            this.count = 0;
+            return this;
+        }
+
+        private Record binary(EventSite site, StructuredEventLog sink, long weight) {
+            this.mode = Mode.BINARY;
+            this.site = site;
+            this.sink = sink;
+            this.count = 0;
+            buffer.clear();
+            buffer.put(StructuredEventLog.TAG_RECORD);
+            EventEncoding.putVarint(buffer, site.id);
+            EventEncoding.putVarint(buffer, Math.max(0, System.currentTimeMillis() - sink.baseEpochMillis()));
+            EventEncoding.putVarint(buffer, weight);
+            return this;
+        }
+
+        /**
+         * 文字列の値を追加する。
+         *
+         * @param value 値（{@code null} 可）
+         * @return このレコード
+         */
+        public Record str(String value) {
+            switch (mode) {
+                case TEXT -> add(value);
+                case BINARY -> {
+                    if (value == null) {
+                        putNull();
+                    } else {
+                        ensure(1 + EventEncoding.maxStringSize(value));
+                        buffer.put(StructuredEventLog.VALUE_STRING);
+                        EventEncoding.putString(buffer, value);
+                        count++;
+                    }
+                }
+                default -> {
+                }
+            }
+            return this;
+        }
+
+        /**
+         * 整数の値を追加する。
+         *
+         * @param value 値
+         * @return このレコード
+         */
+        public Record num(long value) {
+            switch (mode) {
+                case TEXT -> add(value);
+                case BINARY -> {
+                    ensure(11);
+                    buffer.put(StructuredEventLog.VALUE_LONG);
+                    EventEncoding.putZigzag(buffer, value);
+                    count++;
+                }
+                default -> {
+                }
+            }
+            return this;
+        }
+
+        /**
+         * 浮動小数点の値を追加する。
+         *
+         * @param value 値
+         * @return このレコード
+         */
+        public Record dec(double value) {
+            switch (mode) {
+                case TEXT -> add(value);
+                case BINARY -> {
+                    ensure(9);
+                    buffer.put(StructuredEventLog.VALUE_DOUBLE);
+                    buffer.putDouble(value);
+                    count++;
+                }
+                default -> {
+                }
+            }
+            return this;
+        }
+
+        /**
+         * 真偽値を追加する。
+         *
+         * @param value 値
+         * @return このレコード
+         */
+        public Record flag(boolean value) {
+            switch (mode) {
+                case TEXT -> add(value);
+                case BINARY -> {
+                    ensure(1);
+                    buffer.put(value ? StructuredEventLog.VALUE_TRUE : StructuredEventLog.VALUE_FALSE);
+                    count++;
+                }
+                default -> {
+                }
+            }
+            return this;
+        }
+
+        /**
+         * レコードを書き込む。
+         *
+         * @throws IllegalStateException 値の個数がイベントの項目数と異なる場合
+         */
+        public void end() {
+            try {
+                switch (mode) {
+                    case TEXT -> {
+                        checkCount();
+                        site.logger.info(site.message, values);
+                    }
+                    case BINARY -> {
+                        checkCount();
+                        buffer.flip();
+                        sink.append(site, buffer);
+                    }
+                    default -> {
+                    }
+                }
+            } finally {
+                values = null;
+                skip();
+            }
+        }
+
+        private void add(Object value) {
+            if (count < values.length) {
+                values[count] = value;
+            }
+            count++;
+        }
+
+        private void putNull() {
+            ensure(1);
+            buffer.put(StructuredEventLog.VALUE_NULL);
+            count++;
+        }
+
+        private void checkCount() {
+            if (count != site.fields.length) {
+                throw new IllegalStateException("イベント " + site.name + " の値は" + site.fields.length
+                        + "個必要です: " + count + "個");
+            }
+        }
+
+        private void ensure(int bytes) {
+            if (buffer.remaining() < bytes) {
+                ByteBuffer grown = ByteBuffer.allocate(Math.max(buffer.capacity() * 2, buffer.position() + bytes));
+                buffer.flip();
+                grown.put(buffer);
+                buffer = grown;
+            }
+        }
+    }
+}
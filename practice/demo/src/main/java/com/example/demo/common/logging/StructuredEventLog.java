@@ -0,0 +1,300 @@
+package com.example.demo.common.logging;
+
+import com.example.demo.common.SharedUtility;
+import com.example.demo.common.exception.SystemException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.BitSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 構造化イベントログ（バイナリ形式）。
+ *
+ * <p>{@link EventSite} のイベントを、整形済みの文字列ではなく型付きの項目としてファイルに書き込む。
+ * イベント名と項目名はファイルごとに1回だけ定義として書き込み、各レコードは番号で参照するため、
+ * 1件あたりの大きさは項目の値の合計とわずかなヘッダに収まる。
+ * レコードは共有のバッファ（{@value #BUFFER_SIZE}バイト）にまとめ、満杯になった時点と
+ * 1秒ごとにファイルへ書き出す。</p>
+ *
+ * <h3>ファイル形式</h3>
+ * <pre>
+ * セグメントヘッダ: "SOEL" 形式バージョン(1バイト) 基準時刻(エポックミリ秒, 8バイト)
+ * 定義:   0x01 イベント番号(varint) イベント名(文字列) 項目数(varint) 項目名(文字列)...
+ * レコード: 0x02 イベント番号(varint) 基準時刻からの経過ミリ秒(varint) 重み(varint) 値...
+ * 値:     0x00 null / 0x01 整数(zigzag varint) / 0x02 文字列 / 0x03 浮動小数点(8バイト) / 0x04 true / 0x05 false
+ * 文字列:  バイト数(varint) UTF-8
+ * </pre>
+ * <p>重みはレコードが表すイベントの件数（抽出率に、直前に流量制限で記録しなかった件数を加えたもの）で、
+ * 集計時に重みの合計から件数を推定するために使用する。
+ * 既存のファイルに追記する場合は新しいセグメントヘッダから始まる。
+ * 読み出しは {@link EventLogDecoder} で行う。</p>
+ *
+ * <p>ログの失敗で業務処理を失敗させないため、書き込みに失敗しても例外は送出しない。
+ * 書き出し前のレコードを破棄して件数を数え（{@link #droppedCount()}）、初回のみ警告を出力する。</p>
+ *
+ * @author store-order-system
+ * @since 1.1.0
+ * @see EventSite
+ * @see EventLogDecoder
+ */
+@SharedUtility(
+        description = "構造化イベントログ（バイナリ形式のファイル出力）",
+        targetLayers = {"infrastructure"},
+        category = "ログ"
+)
+public final class StructuredEventLog implements AutoCloseable {
+
+    /** セグメントの先頭を示すマジックナンバー */
+    static final byte[] MAGIC = {'S', 'O', 'E', 'L'};
+
+    /** 形式バージョン */
+    static final byte FORMAT_VERSION = 1;
+
+    static final byte TAG_DEFINE = 0x01;
+    static final byte TAG_RECORD = 0x02;
+
+    static final byte VALUE_NULL = 0x00;
+    static final byte VALUE_LONG = 0x01;
+    static final byte VALUE_STRING = 0x02;
+    static final byte VALUE_DOUBLE = 0x03;
+    static final byte VALUE_TRUE = 0x04;
+    static final byte VALUE_FALSE = 0x05;
+
+    /** 書き出し前にレコードをまとめるバッファの大きさ */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /** 書き込み中のログ（開始していない場合は {@code null}） */
+    private static volatile StructuredEventLog active;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private final long baseEpochMillis;
+    private final BitSet defined = new BitSet();
+    private final ScheduledExecutorService flusher;
+    private long records;
+    private long buffered;
+    private long dropped;
+    private boolean failureReported;
+    private boolean closed;
+
+    private StructuredEventLog(Path path, FileChannel channel, long baseEpochMillis) {
+        this.path = path;
+        this.channel = channel;
+        this.baseEpochMillis = baseEpochMillis;
+        startSegment();
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "structured-event-log-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flushQuietly, 1, 1, TimeUnit.SECONDS);
+    }
+
+    /**
+     * ファイルを開いて書き込みを開始する。
+     *
+     * <p>以降、{@link EventSite} のイベントは文字列のログではなくこのファイルに書き込まれる。
+     * 停止は {@link #close()} で行う。</p>
+     *
+     * @param path 出力先（存在する場合は追記する）
+     * @return 構造化イベントログ
+     * @throws IllegalStateException 既に開始している場合
+     * @throws SystemException       ファイルを開けない場合
+     */
+    public static synchronized StructuredEventLog open(Path path) {
+        if (active != null) {
+            throw new IllegalStateException("構造化イベントログは既に開始しています: " + active.path);
+        }
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            FileChannel channel = FileChannel.open(path,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            StructuredEventLog log = new StructuredEventLog(path, channel, System.currentTimeMillis());
+            active = log;
+            return log;
+        } catch (IOException e) {
+            throw new SystemException("EVENT_LOG_ERROR", "構造化イベントログを開けません: " + path, e);
+        }
+    }
+
+    /**
+     * 書き込み中のログを取得する。
+     *
+     * @return 構造化イベントログ（開始していない場合は {@code null}）
+     */
+    static StructuredEventLog active() {
+        return active;
+    }
+
+    /**
+     * 基準時刻を取得する。
+     *
+     * @return エポックミリ秒
+     */
+    long baseEpochMillis() {
+        return baseEpochMillis;
+    }
+
+    /**
+     * 符号化済みのレコードを追記する。
+     *
+     * <p>このファイルで初めて使うイベントの場合は、先に定義を書き込む。
+     * 書き込みに失敗した場合は例外を送出せず、このレコードと書き出し前のレコードを破棄する。</p>
+     *
+     * @param site   イベント
+     * @param record 符号化済みのレコード（position から limit まで）
+     */
+    synchronized void append(EventSite site, ByteBuffer record) {
+        if (closed) {
+            return;
+        }
+        try {
+            if (!defined.get(site.id())) {
+                writeDefinition(site);
+                defined.set(site.id());
+            }
+            if (record.remaining() > buffer.remaining()) {
+                flush();
+            }
+            if (record.remaining() > buffer.remaining()) {
+                while (record.hasRemaining()) {
+                    channel.write(record);
+                }
+            } else {
+                buffer.put(record);
+                buffered++;
+            }
+            records++;
+        } catch (IOException | RuntimeException e) {
+            discard(e, 1);
+        }
+    }
+
+    /**
+     * 書き込んだレコードの件数を取得する。
+     *
+     * @return 件数
+     */
+    public synchronized long recordCount() {
+        return records;
+    }
+
+    /**
+     * 書き込みに失敗して破棄したレコードの件数を取得する。
+     *
+     * @return 件数
+     */
+    public synchronized long droppedCount() {
+        return dropped;
+    }
+
+    /**
+     * 出力先を取得する。
+     *
+     * @return 出力先
+     */
+    public Path path() {
+        return path;
+    }
+
+    /**
+     * 残りを書き出してファイルを閉じる。
+     *
+     * <p>停止後の {@link EventSite} は文字列のログに戻る。</p>
+     */
+    @Override
+    public void close() {
+        synchronized (StructuredEventLog.class) {
+            if (active == this) {
+                active = null;
+            }
+        }
+        flusher.shutdownNow();
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                flush();
+                channel.close();
+            } catch (IOException e) {
+                throw new SystemException("EVENT_LOG_ERROR", "構造化イベントログを閉じられません: " + path, e);
+            }
+        }
+    }
+
+    private void startSegment() {
+        buffer.put(MAGIC).put(FORMAT_VERSION).putLong(baseEpochMillis);
+    }
+
+    private void writeDefinition(EventSite site) throws IOException {
+        ByteBuffer definition = ByteBuffer.allocate(site.definitionSize());
+        definition.put(TAG_DEFINE);
+        EventEncoding.putVarint(definition, site.id());
+        EventEncoding.putString(definition, site.name());
+        EventEncoding.putVarint(definition, site.fields().length);
+        for (String field : site.fields()) {
+            EventEncoding.putString(definition, field);
+        }
+        definition.flip();
+        if (definition.remaining() > buffer.remaining()) {
+            flush();
+        }
+        buffer.put(definition);
+    }
+
+    private synchronized void flushQuietly() {
+        if (closed) {
+            return;
+        }
+        try {
+            flush();
+        } catch (IOException | RuntimeException e) {
+            discard(e, 0);
+        }
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+        buffered = 0;
+    }
+
+    /**
+     * 書き込みの失敗を記録し、書き出し前のレコードを破棄する。
+     *
+     * <p>定義も書き出し前に破棄された可能性があるため、新しいセグメントを開始し、
+     * 以降のレコードでは定義から書き直す。</p>
+     *
+     * @param cause 失敗の原因
+     * @param lost  書き出し前のレコード以外に失われたレコードの件数
+     */
+    private void discard(Exception cause, int lost) {
+        records -= buffered;
+        dropped += buffered + lost;
+        buffered = 0;
+        buffer.clear();
+        defined.clear();
+        startSegment();
+        if (!failureReported) {
+            failureReported = true;
+            AppLogger.of(StructuredEventLog.class).warn(
+                    "構造化イベントログに書き込めません。書き込めなかったレコードは破棄します: {}", path, cause);
+        }
+    }
+}
@@ -18,6 +18,18 @@
  * }
  * }</pre>
  *
+ * <h3>非同期書き込み</h3>
+ * <p>{@code app.logging.async.enabled=true} の場合、ログは
+ * {@link com.example.demo.common.logging.AsyncLogWriter} のリングバッファを経由して
+ * 専用のスレッドが書き込む。呼び出し側はアペンダの入出力を待たない。</p>
+ *
+ * <h3>構造化ログ</h3>
+ * <p>件数の多い業務イベント（注文受付・ステータス更新など）は
+ * {@link com.example.demo.common.logging.EventSite} として定義して出力する。
+ * {@code app.logging.structured.enabled=true} の場合は
+ * {@link com.example.demo.common.logging.StructuredEventLog} が型付きのバイナリレコードとして書き込み、
+ * {@link com.example.demo.common.logging.EventLogDecoder} でJSON Linesに復号できる。</p>
+ *
  * <h3>なぜ共通ロガーを使うのか</h3>
  * <ul>
  *   <li>ログフォーマットの統一（トレースID・操作コンテキストの自動付与）</li>
@@ -26,5 +38,8 @@
  * </ul>
  *
  * @see com.example.demo.common.logging.AppLogger
+ * @see com.example.demo.common.logging.AsyncLogWriter
+ * @see com.example.demo.common.logging.EventSite
+ * @see com.example.demo.common.logging.StructuredEventLog
  */
 package com.example.demo.common.logging;
@@ -0,0 +1,137 @@
+package com.example.demo.common.metrics;
+
+import com.example.demo.common.SharedUtility;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * ロックフリーのレイテンシヒストグラム（HDR Histogram方式）。
+ *
+ * <p>値を対数・線形の組み合わせのバケットに振り分けて件数を数える。
+ * 0〜127は1刻み、それ以上は2のべき乗ごとの区間を64等分したバケットとなるため、
+ * 値の大きさに関わらず相対誤差は約1.6%以内に収まる。</p>
+ *
+ * <p>記録はバケット添字の算出（ビット演算のみ）と {@link AtomicLongArray} への加算だけで、
+ * ロックも確保も行わない。複数スレッドから同時に記録・参照できる。
+ * 参照結果は記録と並行して取得されるため、厳密な時点の値ではない。</p>
+ *
+ * <h3>使用方法</h3>
+ * <pre>{@code
+ * LatencyHistogram histogram = new LatencyHistogram();
+ * histogram.record(elapsedMillis);
+ *
+ * LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+ * long p99 = snapshot.p99();
+ * }</pre>
+ *
+ * <p>{@value #MAX_TRACKABLE_VALUE} を超える値は最大のバケットに記録される。
+ * ミリ秒単位で約49日まで区別できる。</p>
+ *
+ * @author store-order-system
+ * @since 1.1.0
+ */
+@SharedUtility(
+        description = "ロックフリーのレイテンシヒストグラム（パーセンタイル算出）",
+        targetLayers = {"webapi", "application", "query", "infrastructure"},
+        category = "計測"
+)
+public class LatencyHistogram {
+
+    /** 1刻みで数える範囲・各区間の分割数を決めるビット数 */
+    private static final int SUB_BUCKET_BITS = 7;
+
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+    private static final int HALF_SUB_BUCKET_COUNT = SUB_BUCKET_COUNT >> 1;
+
+    /** 区別できる最大値 */
+    public static final long MAX_TRACKABLE_VALUE = (1L << 32) - 1;
+
+    private static final int BUCKET_COUNT = indexOf(MAX_TRACKABLE_VALUE) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * 値を記録する。
+     *
+     * @param value 記録する値（負の値は0として扱う）
+     */
+    public void record(long value) {
+        long clamped = Math.max(0, Math.min(value, MAX_TRACKABLE_VALUE));
+        counts.incrementAndGet(indexOf(clamped));
+        long current = max.get();
+        while (clamped > current && !max.compareAndSet(current, clamped)) {
+            current = max.get();
+        }
+    }
+
+    /**
+     * 記録件数とパーセンタイルを取得する。
+     *
+     * <p>パーセンタイルは該当するバケットの上限値（最大値を超えない）を返す。</p>
+     *
+     * @return スナップショット
+     */
+    public Snapshot snapshot() {
+        long[] copy = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            copy[i] = counts.get(i);
+            total += copy[i];
+        }
+        long observedMax = max.get();
+        if (total == 0) {
+            return new Snapshot(0, 0, 0, 0, 0);
+        }
+        return new Snapshot(total,
+                valueAt(copy, total, 50.0, observedMax),
+                valueAt(copy, total, 95.0, observedMax),
+                valueAt(copy, total, 99.0, observedMax),
+                observedMax);
+    }
+
+    private static long valueAt(long[] counts, long total, double percentile, long observedMax) {
+        long rank = Math.max(1, (long) Math.ceil(total * percentile / 100.0));
+        long cumulative = 0;
+        for (int i = 0; i < counts.length; i++) {
+            cumulative += counts[i];
+            if (cumulative >= rank) {
+                return Math.min(upperBoundOf(i), observedMax);
+            }
+        }
+        return observedMax;
+    }
+
+    private static int indexOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - (SUB_BUCKET_BITS - 1);
+        return SUB_BUCKET_COUNT + (shift - 1) * HALF_SUB_BUCKET_COUNT
+                + (int) ((value >>> shift) - HALF_SUB_BUCKET_COUNT);
+    }
+
+    private static long upperBoundOf(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int offset = index - SUB_BUCKET_COUNT;
+        int shift = offset / HALF_SUB_BUCKET_COUNT + 1;
+        long subBucket = offset % HALF_SUB_BUCKET_COUNT + HALF_SUB_BUCKET_COUNT;
+        return ((subBucket + 1) << shift) - 1;
+    }
+
+    /**
+     * ヒストグラムのスナップショット。
+     *
+     * @param count 記録件数
+     * @param p50   50パーセンタイル
+     * @param p95   95パーセンタイル
+     * @param p99   99パーセンタイル
+     * @param max   最大値
+     */
+    public record Snapshot(long count, long p50, long p95, long p99, long max) {
+    }
+}
@@ -0,0 +1,14 @@
+/**
+ * 計測ユーティリティパッケージ。
+ *
+ * <p>本パッケージは、処理時間などの計測値を集計する機能を提供する。
+ * 業務処理の更新経路から呼び出されることを想定し、ロックを使用しない実装とする。</p>
+ *
+ * <h3>提供クラス</h3>
+ * <ul>
+ *   <li>{@link com.example.demo.common.metrics.LatencyHistogram} - レイテンシヒストグラム（パーセンタイル算出）</li>
+ * </ul>
+ *
+ * @see com.example.demo.common.metrics.LatencyHistogram
+ */
+package com.example.demo.common.metrics;
@@ -27,6 +27,26 @@
  *     <td>日付・時刻操作の汎用関数群</td>
  *     <td>全レイヤー</td>
  *   </tr>
+ *   <tr>
+ *     <td>{@link com.example.demo.common.metrics.LatencyHistogram}</td>
+ *     <td>レイテンシヒストグラム（パーセンタイル算出）</td>
+ *     <td>webapi / application / query / infrastructure</td>
+ *   </tr>
+ *   <tr>
+ *     <td>{@link com.example.demo.common.fields.FieldSelector}</td>
+ *     <td>部分レスポンス（fields=指定）のための項目選択</td>
+ *     <td>webapi / query</td>
+ *   </tr>
+ *   <tr>
+ *     <td>{@link com.example.demo.common.text.TextNormalizer}</td>
+ *     <td>検索用の文字列正規化</td>
+ *     <td>全レイヤー</td>
+ *   </tr>
+ *   <tr>
+ *     <td>{@link com.example.demo.common.jfr.RepositoryOperationJfrEvent} ほか</td>
+ *     <td>JFRのカスタムイベント（既定で無効）</td>
+ *     <td>webapi / infrastructure</td>
+ *   </tr>
  * </table>
  *
  * <h2>新規参画者向け</h2>
@@ -43,5 +63,9 @@
  * @see com.example.demo.common.logging
  * @see com.example.demo.common.exception
  * @see com.example.demo.common.date
+ * @see com.example.demo.common.metrics
+ * @see com.example.demo.common.fields
+ * @see com.example.demo.common.text
+ * @see com.example.demo.common.jfr
  */
 package com.example.demo.common;
@@ -0,0 +1,70 @@
+package com.example.demo.common.text;
+
+import com.example.demo.common.SharedUtility;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * 検索用の文字列正規化ユーティリティ。
+ *
+ * <p>日本語の表記揺れを吸収し、部分一致検索で比較できる形に揃える。
+ * 索引の作成と検索語の正規化の両方で同じ処理を使用すること。</p>
+ *
+ * <h3>使用方法</h3>
+ * <pre>{@code
+ * TextNormalizer.normalize("ﾊﾟｽﾀ");          // "パスタ"（半角カナ → 全角カナ）
+ * TextNormalizer.normalize("ぱすた");          // "パスタ"（ひらがな → カタカナ）
+ * TextNormalizer.normalize("Ｃａｅｓａｒ サラダ"); // "caesarサラダ"（全角英数 → 半角・小文字、空白除去）
+ * }</pre>
+ *
+ * <h3>正規化の内容</h3>
+ * <ol>
+ *   <li>Unicode NFKC 正規化（全角英数記号 → 半角、半角カナ → 全角カナ、濁点の結合）</li>
+ *   <li>ひらがな → カタカナ</li>
+ *   <li>英字の小文字化</li>
+ *   <li>空白の除去</li>
+ * </ol>
+ *
+ * @author store-order-system
+ * @since 1.1.0
+ */
+@SharedUtility(
+        description = "検索用の文字列正規化（全角半角・ひらがなカタカナの統一）",
+        targetLayers = {"all"},
+        category = "文字列"
+)
+public final class TextNormalizer {
+
+    /** ひらがなとカタカナのコードポイントの差 */
+    private static final int KATAKANA_OFFSET = 'ァ' - 'ぁ';
+
+    private TextNormalizer() {
+        // ユーティリティクラスのためインスタンス化を禁止
+    }
+
+    /**
+     * 検索用に文字列を正規化する。
+     *
+     * @param text 対象文字列（{@code null} の場合は空文字列を返す）
+     * @return 正規化後の文字列
+     */
+    public static String normalize(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        String nfkc = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder normalized = new StringBuilder(nfkc.length());
+        for (int i = 0; i < nfkc.length(); i++) {
+            char c = nfkc.charAt(i);
+            if (Character.isWhitespace(c) || Character.isSpaceChar(c)) {
+                continue;
+            }
+            if (c >= 'ぁ' && c <= 'ゖ') {
+                c = (char) (c + KATAKANA_OFFSET);
+            }
+            normalized.append(c);
+        }
+        return normalized.toString();
+    }
+}
@@ -0,0 +1,13 @@
+/**
+ * 文字列ユーティリティパッケージ。
+ *
+ * <p>本パッケージは、検索などで使用する文字列の正規化機能を提供する。</p>
+ *
+ * <h3>提供クラス</h3>
+ * <ul>
+ *   <li>{@link com.example.demo.common.text.TextNormalizer} - 検索用の文字列正規化</li>
+ * </ul>
+ *
+ * @see com.example.demo.common.text.TextNormalizer
+ */
+package com.example.demo.common.text;
@@ -0,0 +1,35 @@
+package com.example.demo.domain.model.menu;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * メニュー項目の提供可否変更を表すドメインイベント。
+ *
+ * <p>品切れ・販売再開がカタログに反映された後に発行される。
+ * {@code catalogVersion} は反映後のカタログのバージョンで、変更の順序を表す。</p>
+ *
+ * @param menuItem       変更後のメニュー項目
+ * @param catalogVersion 反映後のカタログのバージョン
+ * @param occurredAt     発生日時
+ * @author store-order-system
+ * @since 1.1.0
+ */
+public record MenuAvailabilityChangedEvent(
+        MenuItem menuItem,
+        long catalogVersion,
+        LocalDateTime occurredAt
+) {
+
+    /**
+     * メニュー提供可否変更イベントを生成する。
+     *
+     * @param menuItem       変更後のメニュー項目
+     * @param catalogVersion 反映後のカタログのバージョン
+     * @param occurredAt     発生日時
+     */
+    public MenuAvailabilityChangedEvent {
+        Objects.requireNonNull(menuItem, "メニュー項目は必須です");
+        Objects.requireNonNull(occurredAt, "発生日時は必須です");
+    }
+}
@@ -15,6 +15,7 @@ import java.util.Objects;
  *   <li>メニュー項目は一意のIDを持つ</li>
  *   <li>価格は0円以上</li>
  *   <li>提供不可のメニュー項目は注文できない</li>
+ *   <li>価格の変更は {@link PriceHistory} に版として記録し、現在の版番号を保持する</li>
  * </ul>
  *
  * @author store-order-system
@@ -24,6 +25,13 @@ import java.util.Objects;
  */
 public class MenuItem {
 
+    /**
+     * 共通の価格履歴に版を持たない単価の版番号。
+     *
+     * <p>店舗の上書き価格は {@link PriceHistory} に記録されないため、共通の版番号を借りずにこの値とする。</p>
+     */
+    public static final int NO_PRICE_VERSION = 0;
+
     /** メニュー項目ID */
     private final MenuItemId id;
 
@@ -36,8 +44,16 @@ public class MenuItem {
     /** カテゴリ */
     private final MenuCategory category;
 
-    /** 提供可否 */
-    private boolean available;
+    /** 単価の版番号（{@link PriceHistory} の版、店舗の上書き価格の場合は {@link #NO_PRICE_VERSION}） */
+    private final int priceVersion;
+
+    /**
+     * 提供可否。
+     *
+     * <p>カタログに登録済みの項目は複数のスレッドから共有されるため書き換えない。
+     * 提供可否は {@link #withAvailability(boolean)} で作った複製を登録し直すことで変更する。</p>
+     */
+    private final boolean available;
 
     /**
      * メニュー項目を生成する。
@@ -49,28 +65,67 @@ public class MenuItem {
      * @throws IllegalArgumentException メニュー名が空の場合
      */
     public MenuItem(MenuItemId id, String name, Money price, MenuCategory category) {
+        this(id, name, price, category, 1, true);
+    }
+
+    private MenuItem(MenuItemId id, String name, Money price, MenuCategory category,
+                     int priceVersion, boolean available) {
         if (name == null || name.isBlank()) {
             throw new IllegalArgumentException("メニュー名は空にできません");
         }
+        if (priceVersion < NO_PRICE_VERSION) {
+            throw new IllegalArgumentException("価格の版番号は0以上である必要があります: " + priceVersion);
+        }
         this.id = Objects.requireNonNull(id, "メニュー項目IDは必須です");
         this.name = name;
         this.price = Objects.requireNonNull(price, "価格は必須です");
         this.category = Objects.requireNonNull(category, "カテゴリは必須です");
-        this.available = true;
+        this.priceVersion = priceVersion;
+        this.available = available;
     }
 
     /**
-     * メニュー項目を提供可能にする。
+     * 提供可否だけを変えた複製を生成する。
+     *
+     * @param available 提供可否
+     * @return 新しいメニュー項目（提供可否が同じ場合はこのインスタンス）
      */
-    public void enable() {
-        this.available = true;
+    public MenuItem withAvailability(boolean available) {
+        if (this.available == available) {
+            return this;
+        }
+        return new MenuItem(id, name, price, category, priceVersion, available);
     }
 
     /**
-     * メニュー項目を提供不可にする。
+     * 単価とその版番号だけを変えた複製を生成する。
+     *
+     * @param price        単価（税抜）
+     * @param priceVersion 単価の版番号（1以上）
+     * @return 新しいメニュー項目（単価・版番号が同じ場合はこのインスタンス）
+     * @throws IllegalArgumentException 版番号が1未満の場合
      */
-    public void disable() {
-        this.available = false;
+    public MenuItem withPrice(Money price, int priceVersion) {
+        if (priceVersion < 1) {
+            throw new IllegalArgumentException("価格の版番号は1以上である必要があります: " + priceVersion);
+        }
+        if (this.price.equals(price) && this.priceVersion == priceVersion) {
+            return this;
+        }
+        return new MenuItem(id, name, price, category, priceVersion, available);
+    }
+
+    /**
+     * 店舗の上書き価格に変えた複製を生成する。
+     *
+     * <p>上書き価格は共通の価格履歴に版を持たないため、版番号は {@link #NO_PRICE_VERSION} とする。</p>
+     *
+     * @param price 店舗の単価（税抜）
+     * @return 新しいメニュー項目
+     */
+    public MenuItem withStorePrice(Money price) {
+        return new MenuItem(id, name, Objects.requireNonNull(price, "価格は必須です"), category,
+                NO_PRICE_VERSION, available);
     }
 
     /**
@@ -109,6 +164,15 @@ public class MenuItem {
         return price;
     }
 
+    /**
+     * 単価の版番号を取得する。
+     *
+     * @return 版番号（1始まり、店舗の上書き価格の場合は {@link #NO_PRICE_VERSION}）
+     */
+    public int getPriceVersion() {
+        return priceVersion;
+    }
+
     /**
      * カテゴリを取得する。
      *
@@ -137,6 +201,7 @@ public class MenuItem {
                 "id=" + id +
                 ", name='" + name + '\'' +
                 ", price=" + price +
+                ", priceVersion=" + priceVersion +
                 ", category=" + category +
                 ", available=" + available +
                 '}';
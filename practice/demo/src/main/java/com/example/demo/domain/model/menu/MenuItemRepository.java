@@ -1,6 +1,11 @@
 package com.example.demo.domain.model.menu;
 
+import com.example.demo.domain.type.Money;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -24,6 +29,52 @@ public interface MenuItemRepository {
      */
     void save(MenuItem menuItem);
 
+    /**
+     * 複数のメニュー項目を一括で保存する。
+     *
+     * <p>新規の場合は追加、既存の場合は更新する。カタログのバージョンは1回だけ進む。
+     * メニューファイルの取り込みなど、多数の項目をまとめて登録する場合に使用する。</p>
+     *
+     * @param menuItems 保存するメニュー項目
+     */
+    void saveAll(List<MenuItem> menuItems);
+
+    /**
+     * メニュー項目の提供可否を変更する。
+     *
+     * <p>登録済みのインスタンスは書き換えず、提供可否を変えた複製に置き換えて
+     * カタログのバージョンを進める。戻り値を返した時点で、以降の検索には変更後の状態が反映される。</p>
+     *
+     * @param id        メニュー項目ID
+     * @param available 提供可否
+     * @return 変更後のメニュー項目とカタログのバージョン（存在しない場合は空）
+     */
+    Optional<AvailabilityChange> changeAvailability(MenuItemId id, boolean available);
+
+    /**
+     * メニュー項目の単価を変更する。
+     *
+     * <p>価格履歴に新しい版を追記し、版番号を進めた複製に置き換える。
+     * 単価が現在と同じ場合は何もしない。</p>
+     *
+     * @param id            メニュー項目ID
+     * @param price         新しい単価（税抜）
+     * @param effectiveFrom 適用開始日時
+     * @return 変更後のメニュー項目（存在しない場合は空）
+     * @throws IllegalArgumentException 適用開始日時が最新の版より前の場合
+     */
+    Optional<MenuItem> changePrice(MenuItemId id, Money price, LocalDateTime effectiveFrom);
+
+    /**
+     * メニュー項目の価格履歴を取得する。
+     *
+     * <p>削除済みのメニュー項目の履歴も、過去の注文の監査のため保持する。</p>
+     *
+     * @param id メニュー項目ID
+     * @return 価格履歴（登録されたことがない場合は空）
+     */
+    Optional<PriceHistory> findPriceHistory(MenuItemId id);
+
     /**
      * メニュー項目IDで検索する。
      *
@@ -32,6 +83,18 @@ public interface MenuItemRepository {
      */
     Optional<MenuItem> findById(MenuItemId id);
 
+    /**
+     * 複数のメニュー項目IDでまとめて検索する。
+     *
+     * <p>注文の明細のように複数の項目を解決する場合に使用する。
+     * 永続化先が外部の場合も1回の問い合わせで取得すること。
+     * すべての項目は同じ時点の状態で返す。</p>
+     *
+     * @param ids メニュー項目ID（重複可）
+     * @return メニュー項目IDとメニュー項目の対応（存在しないIDは含まない）
+     */
+    Map<MenuItemId, MenuItem> findAllById(Collection<MenuItemId> ids);
+
     /**
      * 全メニュー項目を取得する。
      *
@@ -54,10 +117,43 @@ public interface MenuItemRepository {
      */
     List<MenuItem> findAvailable();
 
+    /**
+     * メニュー名の部分一致で検索する。
+     *
+     * <p>全角・半角、ひらがな・カタカナ、英字の大文字・小文字の違いは区別しない。
+     * 検索語を含む項目を優先し、一部が一致する項目も関連度の順に返す。</p>
+     *
+     * @param keyword 検索語
+     * @param limit   最大件数
+     * @return 該当するメニュー項目一覧（関連度順）
+     */
+    List<MenuItem> searchByName(String keyword, int limit);
+
     /**
      * メニュー項目を削除する。
      *
      * @param id 削除対象のメニュー項目ID
      */
     void deleteById(MenuItemId id);
+
+    /**
+     * メニューカタログのバージョンを取得する。
+     *
+     * <p>保存・削除のたびに増加する。参照側はこの値が変わらない限り
+     * カタログの内容が変わっていないとみなし、組み立て済みの結果を再利用できる。
+     * そのため、メニュー項目の変更は必ず {@link #save(MenuItem)} を経由すること。</p>
+     *
+     * @return カタログのバージョン
+     */
+    long version();
+
+    /**
+     * 提供可否の変更結果。
+     *
+     * @param menuItem       変更後のメニュー項目
+     * @param catalogVersion 反映後のカタログのバージョン
+     * @param changed        提供可否が変わった場合 {@code true}（既に同じ状態だった場合 {@code false}）
+     */
+    record AvailabilityChange(MenuItem menuItem, long catalogVersion, boolean changed) {
+    }
 }
@@ -0,0 +1,168 @@
+package com.example.demo.domain.model.menu;
+
+import com.example.demo.domain.type.Money;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * メニュー項目の価格履歴を表す値オブジェクト。
+ *
+ * <p>価格の変更を適用開始日時の順に追記していく（過去の版は変更・削除しない）。
+ * 適用開始日時はマイクロ秒単位の {@code long} 配列、価格は {@link Money} 配列として
+ * 版の順に保持するため、版ごとのオブジェクトを持たず、件数が増えても省メモリで済む。
+ * 「ある日時に適用されていた価格」は適用開始日時の二分探索で O(log n) で求める。</p>
+ *
+ * <h3>ビジネスルール</h3>
+ * <ul>
+ *   <li>版番号は1始まりで、追記のたびに1つ進む</li>
+ *   <li>適用開始日時は直前の版より前にできない（同じ日時の場合は後の版が優先される）</li>
+ *   <li>最初の版の適用開始日時より前の価格は存在しない</li>
+ * </ul>
+ *
+ * <p>不変オブジェクトのため、追記すると新しいインスタンスを返す。</p>
+ *
+ * @author store-order-system
+ * @since 1.1.0
+ * @see PriceVersion
+ */
+public final class PriceHistory {
+
+    private final long[] effectiveFromMicros;
+    private final Money[] prices;
+
+    private PriceHistory(long[] effectiveFromMicros, Money[] prices) {
+        this.effectiveFromMicros = effectiveFromMicros;
+        this.prices = prices;
+    }
+
+    /**
+     * 最初の版だけを持つ価格履歴を生成する。
+     *
+     * @param price         単価（税抜）
+     * @param effectiveFrom 適用開始日時
+     * @return 価格履歴
+     */
+    public static PriceHistory of(Money price, LocalDateTime effectiveFrom) {
+        Objects.requireNonNull(price, "価格は必須です");
+        Objects.requireNonNull(effectiveFrom, "適用開始日時は必須です");
+        return new PriceHistory(new long[]{toMicros(effectiveFrom)}, new Money[]{price});
+    }
+
+    /**
+     * 新しい版を追記した価格履歴を生成する。
+     *
+     * @param price         単価（税抜）
+     * @param effectiveFrom 適用開始日時
+     * @return 新しい価格履歴
+     * @throws IllegalArgumentException 適用開始日時が最新の版より前の場合
+     */
+    public PriceHistory append(Money price, LocalDateTime effectiveFrom) {
+        Objects.requireNonNull(price, "価格は必須です");
+        Objects.requireNonNull(effectiveFrom, "適用開始日時は必須です");
+        long micros = toMicros(effectiveFrom);
+        int size = prices.length;
+        if (micros < effectiveFromMicros[size - 1]) {
+            throw new IllegalArgumentException(
+                    "適用開始日時は最新の版（" + latest().effectiveFrom() + "）より前にできません: " + effectiveFrom);
+        }
+        long[] nextMicros = Arrays.copyOf(effectiveFromMicros, size + 1);
+        Money[] nextPrices = Arrays.copyOf(prices, size + 1);
+        nextMicros[size] = micros;
+        nextPrices[size] = price;
+        return new PriceHistory(nextMicros, nextPrices);
+    }
+
+    /**
+     * 指定日時に適用されていた価格の版を取得する。
+     *
+     * @param time 日時
+     * @return 価格の版（最初の版より前の場合は空）
+     */
+    public Optional<PriceVersion> at(LocalDateTime time) {
+        long micros = toMicros(time);
+        // 適用開始日時が time 以下の最後の版を探す
+        int low = 0;
+        int high = effectiveFromMicros.length - 1;
+        int found = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (effectiveFromMicros[mid] <= micros) {
+                found = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return found < 0 ? Optional.empty() : Optional.of(versionAt(found));
+    }
+
+    /**
+     * 版番号で価格の版を取得する。
+     *
+     * @param version 版番号
+     * @return 価格の版
+     * @throws IllegalArgumentException 版番号が存在しない場合
+     */
+    public PriceVersion version(int version) {
+        if (version < 1 || version > prices.length) {
+            throw new IllegalArgumentException("価格の版が存在しません: " + version);
+        }
+        return versionAt(version - 1);
+    }
+
+    /**
+     * 最新の版を取得する。
+     *
+     * @return 最新の価格の版
+     */
+    public PriceVersion latest() {
+        return versionAt(prices.length - 1);
+    }
+
+    /**
+     * 版の数を取得する。
+     *
+     * @return 版の数
+     */
+    public int size() {
+        return prices.length;
+    }
+
+    /**
+     * すべての版を取得する。
+     *
+     * @return 価格の版一覧（古い順、変更不可）
+     */
+    public List<PriceVersion> versions() {
+        List<PriceVersion> versions = new ArrayList<>(prices.length);
+        for (int i = 0; i < prices.length; i++) {
+            versions.add(versionAt(i));
+        }
+        return Collections.unmodifiableList(versions);
+    }
+
+    private PriceVersion versionAt(int index) {
+        return new PriceVersion(index + 1, prices[index], fromMicros(effectiveFromMicros[index]));
+    }
+
+    private static long toMicros(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + time.getNano() / 1_000;
+    }
+
+    private static LocalDateTime fromMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+
+    @Override
+    public String toString() {
+        return "PriceHistory{versions=" + prices.length + ", latest=" + latest() + '}';
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.demo.domain.model.menu;
+
+import com.example.demo.domain.type.Money;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * メニュー項目の価格の版。
+ *
+ * @param version       版番号（1始まり、価格を変更するたびに1つ進む）
+ * @param price         単価（税抜）
+ * @param effectiveFrom 適用開始日時
+ * @author store-order-system
+ * @since 1.1.0
+ * @see PriceHistory
+ */
+public record PriceVersion(int version, Money price, LocalDateTime effectiveFrom) {
+
+    /**
+     * 価格の版を生成する。
+     *
+     * @param version       版番号
+     * @param price         単価（税抜）
+     * @param effectiveFrom 適用開始日時
+     */
+    public PriceVersion {
+        Objects.requireNonNull(price, "価格は必須です");
+        Objects.requireNonNull(effectiveFrom, "適用開始日時は必須です");
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.demo.domain.model.menu;
+
+import com.example.demo.domain.type.Money;
+import com.example.demo.domain.type.StoreId;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 店舗別メニューリポジトリインターフェース。
+ *
+ * <p>全店舗で共通のメニュー（{@link MenuItemRepository}）に、店舗ごとの差分
+ * （価格の上書き・品切れ）を重ねたメニューを提供する出力ポート。
+ * 差分のない項目は共通のメニュー項目をそのまま返す。</p>
+ *
+ * <h3>重ね合わせのルール</h3>
+ * <ul>
+ *   <li>価格: 店舗の上書き価格があればそれを、なければ共通の価格を使用する</li>
+ *   <li>提供可否: 共通で提供可能、かつ店舗で品切れになっていない場合のみ提供可能</li>
+ *   <li>上書き価格は価格履歴の対象外とし、単価の版番号は共通の版番号を引き継ぐ</li>
+ * </ul>
+ *
+ * @author store-order-system
+ * @since 1.1.0
+ * @see MenuItemRepository
+ */
+public interface StoreMenuRepository {
+
+    /**
+     * 店舗の全メニュー項目を取得する。
+     *
+     * @param storeId 店舗ID
+     * @return メニュー項目一覧（共通メニューの登録順）
+     */
+    List<MenuItem> findAll(StoreId storeId);
+
+    /**
+     * 店舗のカテゴリ別メニュー項目を取得する。
+     *
+     * @param storeId  店舗ID
+     * @param category カテゴリ
+     * @return メニュー項目一覧
+     */
+    List<MenuItem> findByCategory(StoreId storeId, MenuCategory category);
+
+    /**
+     * 店舗で提供可能なメニュー項目を取得する。
+     *
+     * @param storeId 店舗ID
+     * @return 提供可能なメニュー項目一覧
+     */
+    List<MenuItem> findAvailable(StoreId storeId);
+
+    /**
+     * 複数のメニュー項目IDで店舗のメニュー項目をまとめて検索する。
+     *
+     * @param storeId 店舗ID
+     * @param ids     メニュー項目ID（重複可）
+     * @return メニュー項目IDとメニュー項目の対応（存在しないIDは含まない）
+     * @see MenuItemRepository#findAllById(Collection)
+     */
+    Map<MenuItemId, MenuItem> findAllById(StoreId storeId, Collection<MenuItemId> ids);
+
+    /**
+     * 店舗の価格を上書きする。
+     *
+     * @param storeId 店舗ID
+     * @param id      メニュー項目ID
+     * @param price   店舗の単価（税抜、{@code null} の場合は上書きを解除して共通の価格に戻す）
+     * @return メニュー項目が存在した場合 {@code true}
+     */
+    boolean overridePrice(StoreId storeId, MenuItemId id, Money price);
+
+    /**
+     * 店舗での提供可否を変更する。
+     *
+     * @param storeId   店舗ID
+     * @param id        メニュー項目ID
+     * @param available 提供可否（{@code false} で店舗のみ品切れ）
+     * @return メニュー項目が存在した場合 {@code true}
+     */
+    boolean changeAvailability(StoreId storeId, MenuItemId id, boolean available);
+
+    /**
+     * 店舗に共通のメニューとの差分があるかを判定する。
+     *
+     * <p>差分のない店舗のメニューは共通のメニューと同じになる。</p>
+     *
+     * @param storeId 店舗ID
+     * @return 価格の上書き・品切れのいずれかがある場合 {@code true}
+     */
+    boolean hasOverlay(StoreId storeId);
+
+    /**
+     * 店舗別の差分のバージョンを取得する。
+     *
+     * <p>いずれかの店舗の差分が変更されるたびに増加する。</p>
+     *
+     * @return バージョン
+     */
+    long version();
+}
@@ -1,13 +1,17 @@
 package com.example.demo.domain.model.order;
 
+import com.example.demo.common.date.DateUtils;
 import com.example.demo.domain.type.Money;
 import com.example.demo.domain.type.TableNumber;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 
 /**
  * 注文を表す集約ルートエンティティ。
@@ -16,6 +20,11 @@ import java.util.Objects;
  * 注文は複数の注文明細（{@link OrderItem}）を持ち、
  * ステータスに応じた状態遷移のビジネスルールを保持する。</p>
  *
+ * <p>各ステータスへ遷移した時刻を、{@link OrderStatus} の序数を添字とする
+ * 配列として保持する。ステータスごとの滞在時間（{@link #timeIn(OrderStatus)}）の算出に使用する。
+ * 注文日時・遷移時刻はいずれも {@link DateUtils#now()} から取得し、
+ * ドメインイベントの発生日時と同じ時計に揃える。</p>
+ *
  * <h3>集約の不変条件</h3>
  * <ul>
  *   <li>注文には1つ以上の注文明細が必要</li>
@@ -46,6 +55,9 @@ public class Order {
     /** 注文日時 */
     private final LocalDateTime orderedAt;
 
+    /** ステータスごとの遷移時刻（未到達は {@code null}。添字は {@link OrderStatus#ordinal()}） */
+    private final LocalDateTime[] statusChangedAt = new LocalDateTime[OrderStatus.values().length];
+
     /**
      * 新規注文を作成する。
      *
@@ -57,6 +69,11 @@ public class Order {
      * @throws IllegalArgumentException 注文明細が空の場合
      */
     public Order(OrderId id, TableNumber tableNumber, List<OrderItem> items) {
+        this(id, tableNumber, items, DateUtils.now());
+        this.statusChangedAt[OrderStatus.PLACED.ordinal()] = orderedAt;
+    }
+
+    private Order(OrderId id, TableNumber tableNumber, List<OrderItem> items, LocalDateTime orderedAt) {
         if (items == null || items.isEmpty()) {
             throw new IllegalArgumentException("注文には1つ以上の注文明細が必要です");
         }
@@ -64,24 +81,33 @@ public class Order {
         this.tableNumber = Objects.requireNonNull(tableNumber, "テーブル番号は必須です");
         this.items = new ArrayList<>(items);
         this.status = OrderStatus.PLACED;
-        this.orderedAt = LocalDateTime.now();
+        this.orderedAt = Objects.requireNonNull(orderedAt, "注文日時は必須です");
     }
 
     /**
      * 永続化データから注文を復元する（リコンストラクタ）。
      *
-     * @param id          注文ID
-     * @param tableNumber テーブル番号
-     * @param items       注文明細リスト
-     * @param status      注文ステータス
-     * @param orderedAt   注文日時
+     * <p>遷移時刻に含まれないステータスは未到達として扱う。受付（PLACED）の遷移時刻が
+     * 含まれない場合は注文日時を用いる。</p>
+     *
+     * @param id              注文ID
+     * @param tableNumber     テーブル番号
+     * @param items           注文明細リスト
+     * @param status          注文ステータス
+     * @param orderedAt       注文日時
+     * @param statusChangedAt ステータスごとの遷移時刻
      * @return 復元された注文
      */
     public static Order reconstruct(OrderId id, TableNumber tableNumber,
                                      List<OrderItem> items, OrderStatus status,
-                                     LocalDateTime orderedAt) {
-        Order order = new Order(id, tableNumber, items);
-        order.status = status;
+                                     LocalDateTime orderedAt,
+                                     Map<OrderStatus, LocalDateTime> statusChangedAt) {
+        Order order = new Order(id, tableNumber, items, orderedAt);
+        order.status = Objects.requireNonNull(status, "注文ステータスは必須です");
+        statusChangedAt.forEach((reached, at) -> order.statusChangedAt[reached.ordinal()] = at);
+        if (order.statusChangedAt[OrderStatus.PLACED.ordinal()] == null) {
+            order.statusChangedAt[OrderStatus.PLACED.ordinal()] = orderedAt;
+        }
         return order;
     }
 
@@ -101,6 +127,7 @@ public class Order {
                             this.status.getDisplayName(), newStatus.getDisplayName()));
         }
         this.status = newStatus;
+        this.statusChangedAt[newStatus.ordinal()] = DateUtils.now();
     }
 
     /**
@@ -132,13 +159,35 @@ public class Order {
         return totalAmount().withTax();
     }
 
+    /**
+     * 指定のステータスに滞在した時間を取得する。
+     *
+     * <p>ステータスへ遷移した時刻から、次のステータスへ遷移した時刻までの時間を返す。
+     * 状態遷移は一方向のため、次のステータスは序数が後の到達済みステータスのうち最初のものとなる。</p>
+     *
+     * @param status ステータス
+     * @return 滞在時間（未到達、または滞在中の場合は空）
+     */
+    public Optional<Duration> timeIn(OrderStatus status) {
+        LocalDateTime enteredAt = statusChangedAt[status.ordinal()];
+        if (enteredAt == null) {
+            return Optional.empty();
+        }
+        for (int next = status.ordinal() + 1; next < statusChangedAt.length; next++) {
+            if (statusChangedAt[next] != null) {
+                return Optional.of(Duration.between(enteredAt, statusChangedAt[next]));
+            }
+        }
+        return Optional.empty();
+    }
+
     /**
      * この注文がアクティブ（未完了）かどうかを判定する。
      *
      * @return アクティブな場合 {@code true}
      */
     public boolean isActive() {
-        return status != OrderStatus.SERVED && status != OrderStatus.CANCELLED;
+        return status.isActive();
     }
 
     // --- Getter ---
@@ -188,6 +237,16 @@ public class Order {
         return orderedAt;
     }
 
+    /**
+     * 指定のステータスへ遷移した時刻を取得する。
+     *
+     * @param status ステータス
+     * @return 遷移時刻（未到達の場合は空）
+     */
+    public Optional<LocalDateTime> getStatusChangedAt(OrderStatus status) {
+        return Optional.ofNullable(statusChangedAt[status.ordinal()]);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
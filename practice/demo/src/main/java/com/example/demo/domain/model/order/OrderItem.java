@@ -27,6 +27,9 @@ public class OrderItem {
     /** 注文時の単価（税抜） */
     private final Money unitPrice;
 
+    /** 注文時の単価の版番号（不明・店舗の上書き価格の場合は0） */
+    private final int priceVersion;
+
     /** 数量 */
     private final Quantity quantity;
 
@@ -39,6 +42,24 @@ public class OrderItem {
      * @param quantity     数量
      */
     public OrderItem(MenuItemId menuItemId, String menuItemName, Money unitPrice, Quantity quantity) {
+        this(menuItemId, menuItemName, unitPrice, 0, quantity);
+    }
+
+    /**
+     * 単価の版番号を指定して注文明細を生成する。
+     *
+     * <p>版番号からメニュー項目の価格履歴（{@code PriceHistory}）の版を引けるため、
+     * 注文後の価格改定の監査や再計算に使用できる。</p>
+     *
+     * @param menuItemId   メニュー項目ID
+     * @param menuItemName メニュー名
+     * @param unitPrice    注文時の単価（税抜）
+     * @param priceVersion 注文時の単価の版番号（店舗の上書き価格の場合は0）
+     * @param quantity     数量
+     */
+    public OrderItem(MenuItemId menuItemId, String menuItemName, Money unitPrice, int priceVersion,
+                     Quantity quantity) {
+        this.priceVersion = priceVersion;
         this.menuItemId = Objects.requireNonNull(menuItemId, "メニュー項目IDは必須です");
         this.menuItemName = Objects.requireNonNull(menuItemName, "メニュー名は必須です");
         this.unitPrice = Objects.requireNonNull(unitPrice, "単価は必須です");
@@ -83,6 +104,15 @@ public class OrderItem {
         return unitPrice;
     }
 
+    /**
+     * 注文時の単価の版番号を取得する。
+     *
+     * @return 版番号（不明・店舗の上書き価格の場合は0）
+     */
+    public int getPriceVersion() {
+        return priceVersion;
+    }
+
     /**
      * 数量を取得する。
      *
@@ -0,0 +1,33 @@
+package com.example.demo.domain.model.order;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 注文作成を表すドメインイベント。
+ *
+ * <p>注文が作成され永続化された後に発行される。
+ * Query側の読み取りモデルなど、注文の変化を購読するコンポーネントが利用する。</p>
+ *
+ * @param order      作成された注文
+ * @param occurredAt 発生日時
+ * @author store-order-system
+ * @since 1.1.0
+ * @see OrderStatusChangedEvent
+ */
+public record OrderPlacedEvent(
+        Order order,
+        LocalDateTime occurredAt
+) {
+
+    /**
+     * 注文作成イベントを生成する。
+     *
+     * @param order      作成された注文
+     * @param occurredAt 発生日時
+     */
+    public OrderPlacedEvent {
+        Objects.requireNonNull(order, "注文は必須です");
+        Objects.requireNonNull(occurredAt, "発生日時は必須です");
+    }
+}
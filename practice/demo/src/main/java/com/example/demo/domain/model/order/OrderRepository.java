@@ -3,6 +3,7 @@ package com.example.demo.domain.model.order;
 import com.example.demo.domain.type.TableNumber;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -59,6 +60,33 @@ public interface OrderRepository {
      */
     List<Order> findByStatus(OrderStatus status);
 
+    /**
+     * ステータスごとの注文件数を取得する。
+     *
+     * <p>保存・削除のたびに更新される集計値を返すため、
+     * 注文件数に依存せず定数時間で応答できることを実装に求める。</p>
+     *
+     * @param status 注文ステータス
+     * @return 該当ステータスの注文件数
+     */
+    long countByStatus(OrderStatus status);
+
+    /**
+     * テーブルごとのアクティブな注文件数を取得する。
+     *
+     * <p>アクティブな注文が存在しないテーブルは含まれない。</p>
+     *
+     * @return テーブル番号をキーとしたアクティブな注文件数
+     */
+    Map<TableNumber, Long> countActiveByTableNumber();
+
+    /**
+     * アクティブ（未完了）な注文の総件数を取得する。
+     *
+     * @return アクティブな注文件数
+     */
+    long countActive();
+
     /**
      * 注文を削除する。
      *
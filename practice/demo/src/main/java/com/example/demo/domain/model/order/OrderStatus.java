@@ -48,6 +48,15 @@ public enum OrderStatus {
         return displayName;
     }
 
+    /**
+     * このステータスがアクティブ（未完了）かどうかを判定する。
+     *
+     * @return 提供済み・キャンセル以外の場合 {@code true}
+     */
+    public boolean isActive() {
+        return this != SERVED && this != CANCELLED;
+    }
+
     /**
      * このステータスから指定されたステータスへの遷移が有効かどうかを判定する。
      *
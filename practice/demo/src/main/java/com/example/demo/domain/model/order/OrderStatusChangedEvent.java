@@ -0,0 +1,41 @@
+package com.example.demo.domain.model.order;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 注文ステータス変更を表すドメインイベント。
+ *
+ * <p>注文のステータスが遷移し永続化された後に発行される。
+ * キャンセルもステータス遷移の一つとしてこのイベントで通知される。</p>
+ *
+ * @param order          ステータスが変更された注文
+ * @param previousStatus 遷移前のステータス
+ * @param newStatus      遷移後のステータス
+ * @param occurredAt     発生日時
+ * @author store-order-system
+ * @since 1.1.0
+ * @see OrderPlacedEvent
+ */
+public record OrderStatusChangedEvent(
+        Order order,
+        OrderStatus previousStatus,
+        OrderStatus newStatus,
+        LocalDateTime occurredAt
+) {
+
+    /**
+     * 注文ステータス変更イベントを生成する。
+     *
+     * @param order          ステータスが変更された注文
+     * @param previousStatus 遷移前のステータス
+     * @param newStatus      遷移後のステータス
+     * @param occurredAt     発生日時
+     */
+    public OrderStatusChangedEvent {
+        Objects.requireNonNull(order, "注文は必須です");
+        Objects.requireNonNull(previousStatus, "遷移前のステータスは必須です");
+        Objects.requireNonNull(newStatus, "遷移後のステータスは必須です");
+        Objects.requireNonNull(occurredAt, "発生日時は必須です");
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.demo.domain.type;
+
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+/**
+ * 店舗IDを表す値オブジェクト。
+ *
+ * <p>複数店舗で共通のメニューを使用する場合に、店舗ごとの価格・提供可否を識別するために使用する。</p>
+ *
+ * @author store-order-system
+ * @since 1.1.0
+ */
+public class StoreId {
+
+    /** 店舗IDの形式（英数字・ハイフン・アンダースコア、64文字以内） */
+    private static final Pattern FORMAT = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+
+    /** 店舗ID */
+    private final String value;
+
+    /**
+     * 店舗IDを生成する。
+     *
+     * @param value 店舗ID（英数字・ハイフン・アンダースコア、64文字以内）
+     * @throws IllegalArgumentException 店舗IDが空、または形式が不正な場合
+     */
+    public StoreId(String value) {
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("店舗IDは空にできません");
+        }
+        if (!FORMAT.matcher(value).matches()) {
+            throw new IllegalArgumentException(
+                    "店舗IDは英数字・ハイフン・アンダースコアの64文字以内で指定してください: " + value);
+        }
+        this.value = value;
+    }
+
+    /**
+     * 店舗IDを生成するファクトリメソッド。
+     *
+     * @param value 店舗ID
+     * @return 店舗IDオブジェクト
+     */
+    public static StoreId of(String value) {
+        return new StoreId(value);
+    }
+
+    /**
+     * 店舗IDの値を取得する。
+     *
+     * @return 店舗ID
+     */
+    public String getValue() {
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        StoreId that = (StoreId) o;
+        return value.equals(that.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(value);
+    }
+
+    @Override
+    public String toString() {
+        return "店舗" + value;
+    }
+}
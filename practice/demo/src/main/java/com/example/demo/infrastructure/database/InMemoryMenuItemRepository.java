@@ -1,16 +1,24 @@
 package com.example.demo.infrastructure.database;
 
+import com.example.demo.common.date.DateUtils;
+import com.example.demo.common.jfr.RepositoryOperationJfrEvent;
 import com.example.demo.domain.model.menu.MenuCategory;
 import com.example.demo.domain.model.menu.MenuItem;
 import com.example.demo.domain.model.menu.MenuItemId;
 import com.example.demo.domain.model.menu.MenuItemRepository;
+import com.example.demo.domain.model.menu.PriceHistory;
+import com.example.demo.domain.type.Money;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
 
 /**
  * メニュー項目リポジトリのインメモリ実装。
@@ -18,8 +26,22 @@ import java.util.stream.Collectors;
  * <p>ヘキサゴナルアーキテクチャにおけるアダプタ（出力アダプタ）として、
  * メニュー項目の永続化をメモリ上で実現する。DB不要の検証用実装。</p>
  *
- * <p>スレッドセーフな {@link ConcurrentHashMap} を使用し、
- * 同時アクセスに対応する。</p>
+ * <p>メニューは {@link MenuCatalogSnapshot}（不変のスナップショット）として保持し、
+ * 保存・削除のたびに新しいスナップショットを作成して差し替える（コピーオンライト）。
+ * 参照はスナップショットを読むだけのため、ロックを取らず、一覧取得でもリストを新たに生成しない。
+ * 書き込み同士はロックで直列化する。</p>
+ *
+ * <p>名前検索用の {@link MenuNameIndex} も同じロックの中で差分更新する。</p>
+ *
+ * <p>提供可否の変更（品切れ・販売再開）も新しいスナップショットとして公開する。
+ * volatile 書き込みで公開するため、変更が戻った時点で注文受付のスレッドからも見える。</p>
+ *
+ * <p>価格履歴（{@link PriceHistory}）はメニュー項目ごとに保持し、保存・価格変更の際に
+ * 単価が変わっていれば版を追記する。保存されるメニュー項目には最新の版番号を設定する。
+ * 削除したメニュー項目の履歴は残す。</p>
+ *
+ * <p>ID・名前による検索は {@link RepositoryOperationJfrEvent} として所要時間と走査件数を記録する
+ * （JFRで有効にした場合のみ）。一覧系はスナップショットを返すだけのため記録しない。</p>
  *
  * @author store-order-system
  * @since 1.0.0
@@ -28,40 +50,165 @@ import java.util.stream.Collectors;
 @Repository
 public class InMemoryMenuItemRepository implements MenuItemRepository {
 
-    /** インメモリストレージ */
-    private final Map<String, MenuItem> store = new ConcurrentHashMap<>();
+    private static final String NAME = "InMemoryMenuItemRepository";
+
+    /** 書き込みの直列化に使用するロック */
+    private final Object writeLock = new Object();
+
+    /** 現在のカタログ */
+    private volatile MenuCatalogSnapshot snapshot = MenuCatalogSnapshot.EMPTY;
+
+    /** メニュー名の索引 */
+    private final MenuNameIndex nameIndex = new MenuNameIndex();
+
+    /** 価格履歴（メニュー項目IDごと） */
+    private final Map<String, PriceHistory> priceHistories = new ConcurrentHashMap<>();
 
     @Override
     public void save(MenuItem menuItem) {
-        store.put(menuItem.getId().getValue(), menuItem);
+        synchronized (writeLock) {
+            snapshot = snapshot.withSaved(List.of(recordPrice(menuItem, DateUtils.now())));
+            nameIndex.put(menuItem.getId().getValue(), menuItem.getName());
+        }
+    }
+
+    @Override
+    public void saveAll(List<MenuItem> menuItems) {
+        if (menuItems.isEmpty()) {
+            return;
+        }
+        Map<String, String> names = new LinkedHashMap<>(menuItems.size() * 2);
+        for (MenuItem menuItem : menuItems) {
+            names.put(menuItem.getId().getValue(), menuItem.getName());
+        }
+        synchronized (writeLock) {
+            LocalDateTime now = DateUtils.now();
+            List<MenuItem> recorded = new ArrayList<>(menuItems.size());
+            for (MenuItem menuItem : menuItems) {
+                recorded.add(recordPrice(menuItem, now));
+            }
+            snapshot = snapshot.withSaved(recorded);
+            nameIndex.putAll(names);
+        }
+    }
+
+    @Override
+    public Optional<MenuItem> changePrice(MenuItemId id, Money price, LocalDateTime effectiveFrom) {
+        synchronized (writeLock) {
+            MenuItem current = snapshot.get(id.getValue());
+            if (current == null) {
+                return Optional.empty();
+            }
+            if (current.getPrice().equals(price)) {
+                return Optional.of(current);
+            }
+            PriceHistory history = priceHistories.get(id.getValue()).append(price, effectiveFrom);
+            priceHistories.put(id.getValue(), history);
+            MenuItem changed = current.withPrice(price, history.latest().version());
+            snapshot = snapshot.withSaved(List.of(changed));
+            return Optional.of(changed);
+        }
+    }
+
+    @Override
+    public Optional<PriceHistory> findPriceHistory(MenuItemId id) {
+        return Optional.ofNullable(priceHistories.get(id.getValue()));
+    }
+
+    @Override
+    public Optional<AvailabilityChange> changeAvailability(MenuItemId id, boolean available) {
+        synchronized (writeLock) {
+            MenuCatalogSnapshot current = snapshot;
+            if (current.get(id.getValue()) == null) {
+                return Optional.empty();
+            }
+            MenuCatalogSnapshot next = current.withAvailability(id.getValue(), available);
+            snapshot = next;
+            return Optional.of(new AvailabilityChange(next.get(id.getValue()), next.version(), next != current));
+        }
     }
 
     @Override
     public Optional<MenuItem> findById(MenuItemId id) {
-        return Optional.ofNullable(store.get(id.getValue()));
+        RepositoryOperationJfrEvent event = RepositoryOperationJfrEvent.start();
+        MenuItem menuItem = snapshot.get(id.getValue());
+        event.end(NAME, "findById", 1, menuItem != null ? 1 : 0);
+        return Optional.ofNullable(menuItem);
+    }
+
+    @Override
+    public Map<MenuItemId, MenuItem> findAllById(Collection<MenuItemId> ids) {
+        RepositoryOperationJfrEvent event = RepositoryOperationJfrEvent.start();
+        MenuCatalogSnapshot current = snapshot;
+        Map<MenuItemId, MenuItem> found = new HashMap<>(ids.size() * 2);
+        for (MenuItemId id : ids) {
+            MenuItem menuItem = current.get(id.getValue());
+            if (menuItem != null) {
+                found.put(id, menuItem);
+            }
+        }
+        event.end(NAME, "findAllById", ids.size(), found.size());
+        return found;
     }
 
     @Override
     public List<MenuItem> findAll() {
-        return List.copyOf(store.values());
+        return snapshot.all();
     }
 
     @Override
     public List<MenuItem> findByCategory(MenuCategory category) {
-        return store.values().stream()
-                .filter(item -> item.getCategory() == category)
-                .collect(Collectors.toList());
+        return snapshot.byCategory(category);
     }
 
     @Override
     public List<MenuItem> findAvailable() {
-        return store.values().stream()
-                .filter(MenuItem::isAvailable)
-                .collect(Collectors.toList());
+        return snapshot.available();
+    }
+
+    @Override
+    public List<MenuItem> searchByName(String keyword, int limit) {
+        RepositoryOperationJfrEvent event = RepositoryOperationJfrEvent.start();
+        MenuCatalogSnapshot current = snapshot;
+        List<String> ids = nameIndex.search(keyword, limit);
+        List<MenuItem> result = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            MenuItem item = current.get(id);
+            if (item != null) {
+                result.add(item);
+            }
+        }
+        event.end(NAME, "searchByName", ids.size(), result.size());
+        return result;
     }
 
     @Override
     public void deleteById(MenuItemId id) {
-        store.remove(id.getValue());
+        synchronized (writeLock) {
+            snapshot = snapshot.withRemoved(id.getValue());
+            nameIndex.remove(id.getValue());
+        }
+    }
+
+    @Override
+    public long version() {
+        return snapshot.version();
+    }
+
+    /**
+     * 単価を価格履歴に反映し、最新の版番号を設定したメニュー項目を返す。書き込みロックの中で呼び出す。
+     */
+    private MenuItem recordPrice(MenuItem menuItem, LocalDateTime now) {
+        String id = menuItem.getId().getValue();
+        PriceHistory history = priceHistories.get(id);
+        if (history == null) {
+            history = PriceHistory.of(menuItem.getPrice(), now);
+        } else if (!history.latest().price().equals(menuItem.getPrice())) {
+            // 最新の版が先日付の場合も追記できるよう、適用開始日時はその版以降とする
+            LocalDateTime latestFrom = history.latest().effectiveFrom();
+            history = history.append(menuItem.getPrice(), now.isBefore(latestFrom) ? latestFrom : now);
+        }
+        priceHistories.put(id, history);
+        return menuItem.withPrice(menuItem.getPrice(), history.latest().version());
     }
 }
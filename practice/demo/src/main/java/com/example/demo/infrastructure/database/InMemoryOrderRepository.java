@@ -1,5 +1,6 @@
 package com.example.demo.infrastructure.database;
 
+import com.example.demo.common.jfr.RepositoryOperationJfrEvent;
 import com.example.demo.domain.model.order.*;
 import com.example.demo.domain.type.TableNumber;
 import org.springframework.stereotype.Repository;
@@ -19,6 +20,12 @@ import java.util.stream.Collectors;
  * <p>スレッドセーフな {@link ConcurrentHashMap} を使用し、
  * 同時アクセスに対応する。</p>
  *
+ * <p>件数系の参照は {@link OrderStatusCounters} が保存・削除時に更新する
+ * 集計値から返すため、全件走査を行わない。</p>
+ *
+ * <p>検索・走査は {@link RepositoryOperationJfrEvent} として所要時間と走査件数を記録する
+ * （JFRで有効にした場合のみ）。</p>
+ *
  * @author store-order-system
  * @since 1.0.0
  * @see OrderRepository
@@ -26,41 +33,77 @@ import java.util.stream.Collectors;
 @Repository
 public class InMemoryOrderRepository implements OrderRepository {
 
+    private static final String NAME = "InMemoryOrderRepository";
+
     /** インメモリストレージ */
     private final Map<String, Order> store = new ConcurrentHashMap<>();
 
+    /** 件数カウンタ */
+    private final OrderStatusCounters counters = new OrderStatusCounters();
+
     @Override
     public void save(Order order) {
         store.put(order.getId().getValue(), order);
+        counters.recordSave(order);
     }
 
     @Override
     public Optional<Order> findById(OrderId id) {
-        return Optional.ofNullable(store.get(id.getValue()));
+        RepositoryOperationJfrEvent event = RepositoryOperationJfrEvent.start();
+        Order order = store.get(id.getValue());
+        event.end(NAME, "findById", 1, order != null ? 1 : 0);
+        return Optional.ofNullable(order);
     }
 
     @Override
     public List<Order> findAll() {
-        return List.copyOf(store.values());
+        RepositoryOperationJfrEvent event = RepositoryOperationJfrEvent.start();
+        List<Order> orders = List.copyOf(store.values());
+        event.end(NAME, "findAll", orders.size(), orders.size());
+        return orders;
     }
 
     @Override
     public List<Order> findActiveByTableNumber(TableNumber tableNumber) {
-        return store.values().stream()
+        RepositoryOperationJfrEvent event = RepositoryOperationJfrEvent.start();
+        List<Order> orders = store.values().stream()
                 .filter(order -> order.getTableNumber().equals(tableNumber))
                 .filter(Order::isActive)
                 .collect(Collectors.toList());
+        event.end(NAME, "findActiveByTableNumber", store.size(), orders.size());
+        return orders;
     }
 
     @Override
     public List<Order> findByStatus(OrderStatus status) {
-        return store.values().stream()
+        RepositoryOperationJfrEvent event = RepositoryOperationJfrEvent.start();
+        List<Order> orders = store.values().stream()
                 .filter(order -> order.getStatus() == status)
                 .collect(Collectors.toList());
+        event.end(NAME, "findByStatus", store.size(), orders.size());
+        return orders;
+    }
+
+    @Override
+    public long countByStatus(OrderStatus status) {
+        return counters.countByStatus(status);
+    }
+
+    @Override
+    public Map<TableNumber, Long> countActiveByTableNumber() {
+        return counters.countActiveByTable();
+    }
+
+    @Override
+    public long countActive() {
+        return counters.countActive();
     }
 
     @Override
     public void deleteById(OrderId id) {
-        store.remove(id.getValue());
+        Order removed = store.remove(id.getValue());
+        if (removed != null) {
+            counters.recordDelete(removed);
+        }
     }
 }
@@ -0,0 +1,171 @@
+package com.example.demo.infrastructure.database;
+
+import com.example.demo.domain.model.menu.MenuCategory;
+import com.example.demo.domain.model.menu.MenuItem;
+import com.example.demo.domain.model.menu.MenuItemId;
+import com.example.demo.domain.model.menu.MenuItemRepository;
+import com.example.demo.domain.model.menu.StoreMenuRepository;
+import com.example.demo.domain.type.Money;
+import com.example.demo.domain.type.StoreId;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 店舗別メニューリポジトリのインメモリ実装。
+ *
+ * <p>共通メニューは {@link MenuItemRepository} から取得し、店舗ごとの差分
+ * （{@link StoreMenuOverlay}）を重ねて返す。1件の重ね合わせは価格の上書きの検索と
+ * 品切れのビット参照のみで、件数に依存しない。差分のない店舗・項目では
+ * 共通のメニュー項目・一覧をそのまま返し、新たなオブジェクトを作らない。</p>
+ *
+ * <p>品切れのビット位置（差分スロット）は、いずれかの店舗で初めて品切れになった
+ * メニュー項目にのみ全店舗共通で採番する。そのため品切れのビット列の長さは
+ * 差分のある項目数で決まり、共通メニューの件数には依存しない。</p>
+ *
+ * <p>差分の変更はロックで直列化し、店舗ごとのスナップショットを差し替える。参照はロックを取らない。</p>
+ *
+ * @author store-order-system
+ * @since 1.1.0
+ * @see StoreMenuRepository
+ */
+@Repository
+public class InMemoryStoreMenuRepository implements StoreMenuRepository {
+
+    /** 書き込みの直列化に使用するロック */
+    private final Object writeLock = new Object();
+
+    /** 店舗ごとの差分（差分のない店舗は含まない） */
+    private final Map<StoreId, StoreMenuOverlay> overlays = new ConcurrentHashMap<>();
+
+    /** 差分スロット番号（メニュー項目ID → スロット） */
+    private final Map<String, Integer> slots = new ConcurrentHashMap<>();
+
+    private final MenuItemRepository menuItemRepository;
+
+    /** 差分のバージョン */
+    private volatile long version;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param menuItemRepository 共通メニューのリポジトリ
+     */
+    public InMemoryStoreMenuRepository(MenuItemRepository menuItemRepository) {
+        this.menuItemRepository = menuItemRepository;
+    }
+
+    @Override
+    public List<MenuItem> findAll(StoreId storeId) {
+        return resolveAll(overlay(storeId), menuItemRepository.findAll(), false);
+    }
+
+    @Override
+    public List<MenuItem> findByCategory(StoreId storeId, MenuCategory category) {
+        return resolveAll(overlay(storeId), menuItemRepository.findByCategory(category), false);
+    }
+
+    @Override
+    public List<MenuItem> findAvailable(StoreId storeId) {
+        StoreMenuOverlay overlay = overlay(storeId);
+        if (overlay.isEmpty()) {
+            return menuItemRepository.findAvailable();
+        }
+        return resolveAll(overlay, menuItemRepository.findAvailable(), true);
+    }
+
+    @Override
+    public Map<MenuItemId, MenuItem> findAllById(StoreId storeId, Collection<MenuItemId> ids) {
+        Map<MenuItemId, MenuItem> found = menuItemRepository.findAllById(ids);
+        StoreMenuOverlay overlay = overlay(storeId);
+        if (overlay.isEmpty()) {
+            return found;
+        }
+        Map<MenuItemId, MenuItem> resolved = new HashMap<>(found.size() * 2);
+        found.forEach((id, menuItem) -> resolved.put(id, resolve(overlay, menuItem)));
+        return resolved;
+    }
+
+    @Override
+    public boolean overridePrice(StoreId storeId, MenuItemId id, Money price) {
+        synchronized (writeLock) {
+            if (menuItemRepository.findById(id).isEmpty()) {
+                return false;
+            }
+            update(storeId, overlay(storeId).withPrice(id.getValue(), price));
+            return true;
+        }
+    }
+
+    @Override
+    public boolean changeAvailability(StoreId storeId, MenuItemId id, boolean available) {
+        synchronized (writeLock) {
+            if (menuItemRepository.findById(id).isEmpty()) {
+                return false;
+            }
+            Integer slot = slots.get(id.getValue());
+            if (slot == null) {
+                if (available) {
+                    return true;
+                }
+                slot = slots.size();
+                slots.put(id.getValue(), slot);
+            }
+            update(storeId, overlay(storeId).withAvailability(slot, available));
+            return true;
+        }
+    }
+
+    @Override
+    public boolean hasOverlay(StoreId storeId) {
+        return !overlay(storeId).isEmpty();
+    }
+
+    @Override
+    public long version() {
+        return version;
+    }
+
+    private StoreMenuOverlay overlay(StoreId storeId) {
+        return overlays.getOrDefault(storeId, StoreMenuOverlay.EMPTY);
+    }
+
+    /**
+     * 店舗の差分を差し替える。書き込みロックの中で呼び出す。
+     */
+    private void update(StoreId storeId, StoreMenuOverlay next) {
+        StoreMenuOverlay current = overlay(storeId);
+        if (next == current) {
+            return;
+        }
+        if (next.isEmpty()) {
+            overlays.remove(storeId);
+        } else {
+            overlays.put(storeId, next);
+        }
+        version++;
+    }
+
+    private MenuItem resolve(StoreMenuOverlay overlay, MenuItem base) {
+        return overlay.resolve(base, slots.getOrDefault(base.getId().getValue(), -1));
+    }
+
+    private List<MenuItem> resolveAll(StoreMenuOverlay overlay, List<MenuItem> base, boolean availableOnly) {
+        if (overlay.isEmpty()) {
+            return base;
+        }
+        List<MenuItem> resolved = new ArrayList<>(base.size());
+        for (MenuItem menuItem : base) {
+            MenuItem storeItem = resolve(overlay, menuItem);
+            if (!availableOnly || storeItem.isAvailable()) {
+                resolved.add(storeItem);
+            }
+        }
+        return resolved;
+    }
+}
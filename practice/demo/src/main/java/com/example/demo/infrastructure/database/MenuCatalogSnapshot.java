@@ -0,0 +1,180 @@
+package com.example.demo.infrastructure.database;
+
+import com.example.demo.domain.model.menu.MenuCategory;
+import com.example.demo.domain.model.menu.MenuItem;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * メニューカタログの不変スナップショット。
+ *
+ * <p>メニュー項目の一覧と、ID・カテゴリの索引、提供可能一覧を1つの不変オブジェクトとして保持する。
+ * 変更のたびに新しいスナップショットを作成して差し替える（コピーオンライト）ため、
+ * 参照側はロックも一時オブジェクトの生成も伴わずに検索できる。</p>
+ *
+ * <ul>
+ *   <li>ID → メニュー項目の索引</li>
+ *   <li>カテゴリ → メニュー項目一覧の索引（{@link EnumMap}）</li>
+ *   <li>提供可能なメニュー項目の一覧</li>
+ * </ul>
+ *
+ * <p>メニューの変更は開店前の準備や品切れ時に限られ、参照は注文のたびに発生するため、
+ * 変更時に全体を作り直す費用は参照側の節約で十分に回収できる。
+ * 項目の並びは登録順で、更新しても位置は変わらない。</p>
+ *
+ * @author store-order-system
+ * @since 1.1.0
+ * @see InMemoryMenuItemRepository
+ */
+public final class MenuCatalogSnapshot {
+
+    /** 空のカタログ */
+    public static final MenuCatalogSnapshot EMPTY = new MenuCatalogSnapshot(0, List.of());
+
+    private final long version;
+    private final List<MenuItem> items;
+    private final Map<String, Integer> positionById;
+    private final Map<MenuCategory, List<MenuItem>> byCategory;
+    private final List<MenuItem> availableItems;
+
+    private MenuCatalogSnapshot(long version, List<MenuItem> items) {
+        this.version = version;
+        this.items = Collections.unmodifiableList(items);
+
+        Map<String, Integer> positions = new HashMap<>(items.size() * 2);
+        Map<MenuCategory, List<MenuItem>> categories = new EnumMap<>(MenuCategory.class);
+        List<MenuItem> availableList = new ArrayList<>();
+        for (int i = 0; i < items.size(); i++) {
+            MenuItem item = items.get(i);
+            positions.put(item.getId().getValue(), i);
+            categories.computeIfAbsent(item.getCategory(), c -> new ArrayList<>()).add(item);
+            if (item.isAvailable()) {
+                availableList.add(item);
+            }
+        }
+        for (MenuCategory category : MenuCategory.values()) {
+            categories.compute(category, (c, list) ->
+                    list == null ? List.of() : Collections.unmodifiableList(list));
+        }
+
+        this.positionById = positions;
+        this.byCategory = categories;
+        this.availableItems = Collections.unmodifiableList(availableList);
+    }
+
+    /**
+     * メニュー項目を追加・更新したスナップショットを作成する。
+     *
+     * <p>既存の項目は同じ位置で置き換え、新規の項目は末尾に追加する。
+     * 提供可否はこの時点の {@link MenuItem#isAvailable()} で確定する。</p>
+     *
+     * @param changed 追加・更新するメニュー項目
+     * @return 新しいスナップショット（バージョンは1つ進む）
+     */
+    public MenuCatalogSnapshot withSaved(List<MenuItem> changed) {
+        List<MenuItem> next = new ArrayList<>(items);
+        Map<String, Integer> added = new HashMap<>();
+        for (MenuItem item : changed) {
+            String id = item.getId().getValue();
+            Integer position = positionById.get(id);
+            if (position == null) {
+                position = added.get(id);
+            }
+            if (position != null) {
+                next.set(position, item);
+            } else {
+                added.put(id, next.size());
+                next.add(item);
+            }
+        }
+        return new MenuCatalogSnapshot(version + 1, next);
+    }
+
+    /**
+     * メニュー項目の提供可否を変更したスナップショットを作成する。
+     *
+     * <p>既存のインスタンスは書き換えず、提供可否を変えた複製に置き換える。</p>
+     *
+     * @param id        メニュー項目ID
+     * @param available 提供可否
+     * @return 新しいスナップショット（存在しない場合・提供可否が同じ場合はこのスナップショット）
+     */
+    public MenuCatalogSnapshot withAvailability(String id, boolean available) {
+        Integer position = positionById.get(id);
+        if (position == null || items.get(position).isAvailable() == available) {
+            return this;
+        }
+        List<MenuItem> next = new ArrayList<>(items);
+        next.set(position, items.get(position).withAvailability(available));
+        return new MenuCatalogSnapshot(version + 1, next);
+    }
+
+    /**
+     * メニュー項目を削除したスナップショットを作成する。
+     *
+     * @param id 削除するメニュー項目ID
+     * @return 新しいスナップショット（存在しない場合はこのスナップショット）
+     */
+    public MenuCatalogSnapshot withRemoved(String id) {
+        Integer position = positionById.get(id);
+        if (position == null) {
+            return this;
+        }
+        List<MenuItem> next = new ArrayList<>(items);
+        next.remove((int) position);
+        return new MenuCatalogSnapshot(version + 1, next);
+    }
+
+    /**
+     * カタログのバージョンを取得する。
+     *
+     * @return バージョン
+     */
+    public long version() {
+        return version;
+    }
+
+    /**
+     * IDでメニュー項目を取得する。
+     *
+     * @param id メニュー項目ID
+     * @return メニュー項目（存在しない場合は {@code null}）
+     */
+    public MenuItem get(String id) {
+        Integer position = positionById.get(id);
+        return position != null ? items.get(position) : null;
+    }
+
+    /**
+     * 全メニュー項目を取得する。
+     *
+     * @return メニュー項目一覧（登録順、変更不可）
+     */
+    public List<MenuItem> all() {
+        return items;
+    }
+
+    /**
+     * カテゴリのメニュー項目を取得する。
+     *
+     * @param category カテゴリ
+     * @return メニュー項目一覧（登録順、変更不可）
+     */
+    public List<MenuItem> byCategory(MenuCategory category) {
+        return byCategory.get(category);
+    }
+
+    /**
+     * 提供可能なメニュー項目を取得する。
+     *
+     * @return メニュー項目一覧（登録順、変更不可）
+     */
+    public List<MenuItem> available() {
+        return availableItems;
+    }
+}
@@ -1,69 +1,57 @@
 package com.example.demo.infrastructure.database;
 
-import com.example.demo.domain.model.menu.*;
-import com.example.demo.domain.type.Money;
+import com.example.demo.common.logging.AppLogger;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
 import org.springframework.stereotype.Component;
 
 /**
  * メニュー初期データ投入コンポーネント。
  *
- * <p>アプリケーション起動時にサンプルのメニューデータを投入する。
+ * <p>アプリケーション起動時にメニューファイルを取り込む。
  * DB不使用のため、インメモリリポジトリに直接データを登録する。</p>
  *
+ * <p>取り込むファイルは {@code app.menu.import.location} で指定する
+ * （既定はクラスパス上のサンプル {@code menu/menu.csv}）。
+ * {@code file:} 接頭辞で店舗ごとのファイルを指定でき、形式は拡張子（.csv / .json）で判定する。
+ * 取り込みは {@link MenuImporter} による一括登録のため、起動時間は件数に比例する。</p>
+ *
  * @author store-order-system
  * @since 1.0.0
  */
 @Component
 public class MenuDataInitializer implements CommandLineRunner {
 
-    private final MenuItemRepository menuItemRepository;
+    private static final AppLogger log = AppLogger.of(MenuDataInitializer.class);
+
+    private final MenuImporter menuImporter;
+    private final ResourceLoader resourceLoader;
+    private final String location;
 
     /**
      * コンストラクタ。
      *
-     * @param menuItemRepository メニュー項目リポジトリ
+     * @param menuImporter   メニューの一括取り込み
+     * @param resourceLoader リソースローダー
+     * @param location       メニューファイルの場所
      */
-    public MenuDataInitializer(MenuItemRepository menuItemRepository) {
-        this.menuItemRepository = menuItemRepository;
+    public MenuDataInitializer(MenuImporter menuImporter,
+                               ResourceLoader resourceLoader,
+                               @Value("${app.menu.import.location:classpath:menu/menu.csv}") String location) {
+        this.menuImporter = menuImporter;
+        this.resourceLoader = resourceLoader;
+        this.location = location;
     }
 
     @Override
     public void run(String... args) {
-        // 前菜
-        saveMenuItem("appetizer-001", "シーザーサラダ", 580, MenuCategory.APPETIZER);
-        saveMenuItem("appetizer-002", "枝豆", 380, MenuCategory.APPETIZER);
-        saveMenuItem("appetizer-003", "冷奴", 350, MenuCategory.APPETIZER);
-
-        // メイン料理
-        saveMenuItem("main-001", "ハンバーグステーキ", 1280, MenuCategory.MAIN_COURSE);
-        saveMenuItem("main-002", "チキン南蛮", 980, MenuCategory.MAIN_COURSE);
-        saveMenuItem("main-003", "サーモンのグリル", 1480, MenuCategory.MAIN_COURSE);
-        saveMenuItem("main-004", "和風パスタ", 980, MenuCategory.MAIN_COURSE);
-
-        // サイドメニュー
-        saveMenuItem("side-001", "ライス", 200, MenuCategory.SIDE_DISH);
-        saveMenuItem("side-002", "味噌汁", 150, MenuCategory.SIDE_DISH);
-        saveMenuItem("side-003", "フライドポテト", 380, MenuCategory.SIDE_DISH);
-
-        // ドリンク
-        saveMenuItem("drink-001", "烏龍茶", 250, MenuCategory.DRINK);
-        saveMenuItem("drink-002", "コーラ", 280, MenuCategory.DRINK);
-        saveMenuItem("drink-003", "生ビール", 550, MenuCategory.DRINK);
-        saveMenuItem("drink-004", "オレンジジュース", 300, MenuCategory.DRINK);
-
-        // デザート
-        saveMenuItem("dessert-001", "バニラアイス", 350, MenuCategory.DESSERT);
-        saveMenuItem("dessert-002", "チョコレートケーキ", 480, MenuCategory.DESSERT);
-    }
-
-    private void saveMenuItem(String id, String name, int price, MenuCategory category) {
-        MenuItem item = new MenuItem(
-                MenuItemId.of(id),
-                name,
-                Money.of(price),
-                category
-        );
-        menuItemRepository.save(item);
+        Resource resource = resourceLoader.getResource(location);
+        if (!resource.exists()) {
+            log.warn("メニューファイルが見つからないため、初期メニューを登録しません: {}", location);
+            return;
+        }
+        menuImporter.importFrom(resource);
     }
 }
@@ -0,0 +1,26 @@
+package com.example.demo.infrastructure.database;
+
+import java.util.List;
+
+/**
+ * メニュー取り込みの結果。
+ *
+ * @param source         取り込み元
+ * @param imported       取り込んだ件数
+ * @param rejected       不正のため取り込まなかった件数
+ * @param errors         不正行の内容（先頭から最大100件）
+ * @param elapsedMillis  所要時間（ミリ秒）
+ * @param itemsPerSecond スループット（件/秒）
+ * @author store-order-system
+ * @since 1.1.0
+ * @see MenuImporter
+ */
+public record MenuImportResult(
+        String source,
+        int imported,
+        int rejected,
+        List<String> errors,
+        long elapsedMillis,
+        double itemsPerSecond
+) {
+}
@@ -0,0 +1,424 @@
+package com.example.demo.infrastructure.database;
+
+import com.example.demo.common.exception.SystemException;
+import com.example.demo.common.logging.AppLogger;
+import com.example.demo.domain.model.menu.MenuCategory;
+import com.example.demo.domain.model.menu.MenuItem;
+import com.example.demo.domain.model.menu.MenuItemId;
+import com.example.demo.domain.model.menu.MenuItemRepository;
+import com.example.demo.domain.type.Money;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * メニューの一括取り込み。
+ *
+ * <p>CSV・JSON形式のメニューファイルを先頭から順に読み、一定件数（{@value #BATCH_SIZE}件）ごとに
+ * 並列で検証してメニュー項目に変換する。ファイル全体を文字列やツリーとして読み込まないため、
+ * 読み込み中に保持する未検証の行は1バッチ分に限られる。
+ * 検証を通過した項目は最後に {@link MenuItemRepository#saveAll(List)} で一度に登録するため、
+ * カタログの作り直しと索引の更新は1回で済む。</p>
+ *
+ * <h3>CSV形式</h3>
+ * <pre>
+ * id,name,price,category,available
+ * main-001,ハンバーグステーキ,1280,MAIN_COURSE,true
+ * </pre>
+ * <p>1行目はヘッダ。{@code available} 列は省略可能（省略時は提供可）で、値は {@code true} / {@code false} のみ。
+ * ダブルクォートで囲んだ値の中ではカンマ・改行と {@code ""}（クォート自体）を使用できる（RFC 4180）。</p>
+ *
+ * <h3>JSON形式</h3>
+ * <pre>{@code
+ * [
+ *   {"id": "main-001", "name": "ハンバーグステーキ", "price": 1280, "category": "MAIN_COURSE"}
+ * ]
+ * }</pre>
+ *
+ * <p>不正な行（必須項目の欠落・価格やカテゴリの誤り・IDの重複）は取り込まずに件数と内容を結果に含める。
+ * 取り込み件数・所要時間・スループット（件/秒）はログに出力し、{@link #lastResult()} で参照できる。</p>
+ *
+ * @author store-order-system
+ * @since 1.1.0
+ * @see MenuDataInitializer
+ */
+@Component
+public class MenuImporter {
+
+    private static final AppLogger log = AppLogger.of(MenuImporter.class);
+
+    /** 並列検証の単位となる行数 */
+    private static final int BATCH_SIZE = 1024;
+
+    /** 結果に含める不正行の最大件数 */
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    private final MenuItemRepository menuItemRepository;
+    private final ObjectMapper objectMapper;
+
+    /** 直近の取り込み結果 */
+    private volatile MenuImportResult lastResult;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param menuItemRepository メニュー項目リポジトリ
+     * @param objectMapper       Springが管理するObjectMapper（JSON形式の読み込みに使用）
+     */
+    public MenuImporter(MenuItemRepository menuItemRepository, ObjectMapper objectMapper) {
+        this.menuItemRepository = menuItemRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * メニューファイルを取り込む。
+     *
+     * <p>形式はファイル名の拡張子（{@code .csv} / {@code .json}）で判定する。</p>
+     *
+     * @param resource メニューファイル
+     * @return 取り込み結果
+     * @throws IllegalArgumentException 拡張子が未対応の場合
+     * @throws SystemException          ファイルの読み込みに失敗した場合
+     */
+    public MenuImportResult importFrom(Resource resource) {
+        Format format = Format.fromFilename(resource.getFilename());
+        try (InputStream in = resource.getInputStream()) {
+            return importFrom(in, format, resource.getDescription());
+        } catch (IOException e) {
+            throw new SystemException("MENU_IMPORT_ERROR",
+                    "メニューファイルの読み込みに失敗しました: " + resource.getDescription(), e);
+        }
+    }
+
+    /**
+     * メニューを入力ストリームから取り込む。
+     *
+     * @param in     入力ストリーム（UTF-8、呼び出し側で閉じること）
+     * @param format 形式
+     * @param source 取り込み元の説明（ログ・結果に使用）
+     * @return 取り込み結果
+     * @throws IOException 読み込みに失敗した場合
+     */
+    public MenuImportResult importFrom(InputStream in, Format format, String source) throws IOException {
+        long start = System.nanoTime();
+        Collector collector = new Collector();
+        switch (format) {
+            case CSV -> readCsv(in, collector);
+            case JSON -> readJson(in, collector);
+        }
+        collector.flush();
+
+        menuItemRepository.saveAll(collector.items);
+        long elapsedNanos = System.nanoTime() - start;
+
+        MenuImportResult result = new MenuImportResult(source, collector.items.size(), collector.rejected,
+                List.copyOf(collector.errors), elapsedNanos / 1_000_000,
+                elapsedNanos > 0 ? collector.items.size() * 1_000_000_000.0 / elapsedNanos : 0);
+        lastResult = result;
+
+        log.info("メニューを取り込みました: source={}, imported={}, rejected={}, elapsed={}ms, throughput={}件/秒",
+                source, result.imported(), result.rejected(), result.elapsedMillis(),
+                Math.round(result.itemsPerSecond()));
+        if (result.rejected() > 0) {
+            log.warn("取り込めなかったメニュー行があります: rejected={}, errors={}",
+                    result.rejected(), result.errors());
+        }
+        return result;
+    }
+
+    /**
+     * 直近の取り込み結果を取得する。
+     *
+     * @return 取り込み結果（未実行の場合は {@code null}）
+     */
+    public MenuImportResult lastResult() {
+        return lastResult;
+    }
+
+    private void readCsv(InputStream in, Consumer<Row> sink) throws IOException {
+        CsvReader reader = new CsvReader(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)));
+        List<String> columns = reader.next();
+        if (columns == null) {
+            return;
+        }
+        columns.set(0, stripBom(columns.get(0)));
+        int idColumn = columns.indexOf("id");
+        int nameColumn = columns.indexOf("name");
+        int priceColumn = columns.indexOf("price");
+        int categoryColumn = columns.indexOf("category");
+        int availableColumn = columns.indexOf("available");
+        if (idColumn < 0 || nameColumn < 0 || priceColumn < 0 || categoryColumn < 0) {
+            throw new IllegalArgumentException(
+                    "CSVのヘッダには id, name, price, category が必要です: " + columns);
+        }
+
+        List<String> values;
+        while ((values = reader.next()) != null) {
+            if (values.size() == 1 && values.get(0).isBlank()) {
+                continue;
+            }
+            sink.accept(new Row(reader.recordLine(),
+                    column(values, idColumn),
+                    column(values, nameColumn),
+                    column(values, priceColumn),
+                    column(values, categoryColumn),
+                    column(values, availableColumn)));
+        }
+    }
+
+    private void readJson(InputStream in, Consumer<Row> sink) throws IOException {
+        try (JsonParser parser = objectMapper.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("JSONはメニュー項目の配列である必要があります");
+            }
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                int lineNumber = parser.getTokenLocation().getLineNr();
+                JsonRow row = objectMapper.readValue(parser, JsonRow.class);
+                sink.accept(new Row(lineNumber, row.id(), row.name(), row.price(), row.category(),
+                        row.available()));
+            }
+        }
+    }
+
+    /**
+     * 1行を検証してメニュー項目に変換する。並列に呼び出される。
+     */
+    private static Validated validate(Row row) {
+        try {
+            if (row.id() == null || row.id().isBlank()) {
+                throw new IllegalArgumentException("id が空です");
+            }
+            if (row.price() == null || row.price().isBlank()) {
+                throw new IllegalArgumentException("price が空です");
+            }
+            if (row.category() == null || row.category().isBlank()) {
+                throw new IllegalArgumentException("category が空です");
+            }
+            MenuItem item = new MenuItem(
+                    MenuItemId.of(row.id().trim()),
+                    row.name(),
+                    new Money(new BigDecimal(row.price().trim())),
+                    MenuCategory.valueOf(row.category().trim().toUpperCase(Locale.ROOT)))
+                    .withAvailability(parseAvailable(row.available()));
+            return new Validated(row.line(), item, null);
+        } catch (RuntimeException e) {
+            return new Validated(row.line(), null, e.getMessage());
+        }
+    }
+
+    /**
+     * 提供可否の値を解釈する。省略時は提供可とし、{@code true} / {@code false} 以外は不正とする。
+     */
+    private static boolean parseAvailable(String value) {
+        if (value == null || value.isBlank()) {
+            return true;
+        }
+        String trimmed = value.trim();
+        if (trimmed.equalsIgnoreCase("true")) {
+            return true;
+        }
+        if (trimmed.equalsIgnoreCase("false")) {
+            return false;
+        }
+        throw new IllegalArgumentException("available は true または false である必要があります: " + value);
+    }
+
+    private static String column(List<String> values, int index) {
+        return index >= 0 && index < values.size() ? values.get(index) : null;
+    }
+
+    private static String stripBom(String header) {
+        return !header.isEmpty() && header.charAt(0) == '\uFEFF' ? header.substring(1) : header;
+    }
+
+    /**
+     * CSVをレコード単位で読み込む。
+     *
+     * <p>ダブルクォートで囲んだ値の中の改行はレコードの区切りとせず、値の一部として次の行を読み続ける。</p>
+     */
+    private static final class CsvReader {
+
+        private final BufferedReader reader;
+        private int lineNumber;
+        private int recordLine;
+
+        CsvReader(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        /**
+         * 次のレコードを列に分割して読み込む（ダブルクォートによる囲み・エスケープに対応）。
+         *
+         * @return 列（ファイルの終端の場合は {@code null}）
+         * @throws IllegalArgumentException ダブルクォートが閉じられないままファイルが終わった場合
+         */
+        List<String> next() throws IOException {
+            String line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            lineNumber++;
+            recordLine = lineNumber;
+
+            List<String> values = new ArrayList<>();
+            StringBuilder current = new StringBuilder();
+            boolean quoted = false;
+            while (true) {
+                for (int i = 0; i < line.length(); i++) {
+                    char c = line.charAt(i);
+                    if (quoted) {
+                        if (c == '"') {
+                            if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                                current.append('"');
+                                i++;
+                            } else {
+                                quoted = false;
+                            }
+                        } else {
+                            current.append(c);
+                        }
+                    } else if (c == '"') {
+                        quoted = true;
+                    } else if (c == ',') {
+                        values.add(current.toString());
+                        current.setLength(0);
+                    } else {
+                        current.append(c);
+                    }
+                }
+                if (!quoted) {
+                    break;
+                }
+                line = reader.readLine();
+                if (line == null) {
+                    throw new IllegalArgumentException(
+                            recordLine + "行目: ダブルクォートが閉じられていません");
+                }
+                lineNumber++;
+                current.append('\n');
+            }
+            values.add(current.toString());
+            return values;
+        }
+
+        /**
+         * 直近に読み込んだレコードの開始行を取得する。
+         *
+         * @return 行番号（1始まり）
+         */
+        int recordLine() {
+            return recordLine;
+        }
+    }
+
+    /**
+     * 読み込んだ行をバッチ単位で検証し、結果を集める。
+     */
+    private static final class Collector implements Consumer<Row> {
+
+        private final List<Row> batch = new ArrayList<>(BATCH_SIZE);
+        private final List<MenuItem> items = new ArrayList<>();
+        private final Set<String> ids = new HashSet<>();
+        private final List<String> errors = new ArrayList<>();
+        private int rejected;
+
+        @Override
+        public void accept(Row row) {
+            batch.add(row);
+            if (batch.size() >= BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (batch.isEmpty()) {
+                return;
+            }
+            List<Validated> validated = batch.parallelStream()
+                    .map(MenuImporter::validate)
+                    .collect(Collectors.toList());
+            batch.clear();
+
+            for (Validated result : validated) {
+                if (result.item() == null) {
+                    reject(result.line(), result.error());
+                } else if (!ids.add(result.item().getId().getValue())) {
+                    reject(result.line(), "id が重複しています: " + result.item().getId().getValue());
+                } else {
+                    items.add(result.item());
+                }
+            }
+        }
+
+        private void reject(int line, String error) {
+            rejected++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(line + "行目: " + error);
+            }
+        }
+    }
+
+    /**
+     * 取り込み形式。
+     */
+    public enum Format {
+
+        /** CSV（UTF-8、ヘッダ行あり） */
+        CSV,
+
+        /** JSON（メニュー項目の配列） */
+        JSON;
+
+        /**
+         * ファイル名の拡張子から形式を判定する。
+         *
+         * @param filename ファイル名
+         * @return 形式
+         * @throws IllegalArgumentException 拡張子が未対応の場合
+         */
+        public static Format fromFilename(String filename) {
+            String lower = filename != null ? filename.toLowerCase(Locale.ROOT) : "";
+            if (lower.endsWith(".csv")) {
+                return CSV;
+            }
+            if (lower.endsWith(".json")) {
+                return JSON;
+            }
+            throw new IllegalArgumentException("未対応のメニューファイル形式です: " + filename);
+        }
+    }
+
+    /**
+     * 読み込んだ1行（未検証）。
+     */
+    private record Row(int line, String id, String name, String price, String category, String available) {
+    }
+
+    /**
+     * JSON形式の1要素。
+     */
+    private record JsonRow(String id, String name, String price, String category, String available) {
+    }
+
+    /**
+     * 検証結果。
+     */
+    private record Validated(int line, MenuItem item, String error) {
+    }
+}
@@ -0,0 +1,224 @@
+package com.example.demo.infrastructure.database;
+
+import com.example.demo.common.text.TextNormalizer;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * メニュー名のn-gram索引。
+ *
+ * <p>正規化したメニュー名（{@link TextNormalizer}）の1文字（ユニグラム）と
+ * 連続する2文字（バイグラム）ごとに、そのn-gramを含むメニュー項目IDの集合を保持する。
+ * 検索語のバイグラムごとに該当する集合を引いて項目ごとの一致数を数え、
+ * 正規化後の名前への部分一致で順位を確定する。3文字以上の連続一致もこの確認で判定できるため、
+ * トライグラムの索引は持たない。1文字の検索語はユニグラムで引く。
+ * 走査するのは検索語のn-gramを含む項目のみで、カタログ全体の件数には依存しない。</p>
+ *
+ * <h3>順位付け</h3>
+ * <ol>
+ *   <li>検索語を含む項目（前方一致、名前に占める検索語の割合が大きい順）</li>
+ *   <li>検索語を含まないが、バイグラムの半数以上が一致する項目（一致率の高い順）</li>
+ * </ol>
+ * <p>同じスコアの場合は名前の短い順、ID順とする。上位の件数分だけをヒープで保持するため、
+ * 候補が多い場合も全件の並べ替えは行わない。</p>
+ *
+ * <p>更新はメニュー項目単位で差分のみを反映する（名前が変わらない場合は何もしない）。
+ * 更新は呼び出し側で直列化すること。検索はロックを取らずに更新と並行して行える。</p>
+ *
+ * @author store-order-system
+ * @since 1.1.0
+ * @see InMemoryMenuItemRepository#searchByName(String, int)
+ */
+public class MenuNameIndex {
+
+    /** 部分一致でない項目を候補とする最小のバイグラム一致率 */
+    private static final double MIN_PARTIAL_RATIO = 0.5;
+
+    private final Map<String, Set<String>> postings = new ConcurrentHashMap<>();
+    private final Map<String, String> normalizedNames = new ConcurrentHashMap<>();
+
+    /**
+     * メニュー項目の名前を索引に反映する。
+     *
+     * @param id   メニュー項目ID
+     * @param name メニュー名
+     */
+    public void put(String id, String name) {
+        String normalized = TextNormalizer.normalize(name);
+        String previous = normalizedNames.put(id, normalized);
+        if (normalized.equals(previous)) {
+            return;
+        }
+        if (previous != null) {
+            for (String gram : grams(previous)) {
+                removePosting(gram, id);
+            }
+        }
+        for (String gram : grams(normalized)) {
+            postings.computeIfAbsent(gram, g -> ConcurrentHashMap.newKeySet()).add(id);
+        }
+    }
+
+    /**
+     * 複数のメニュー項目の名前を一括で索引に反映する。
+     *
+     * <p>追加するIDをn-gramごとにまとめてから集合に加えるため、
+     * 件数の多い取り込みでも集合の拡張が n-gram ごとに1回で済む。</p>
+     *
+     * @param names メニュー項目IDとメニュー名の対応
+     */
+    public void putAll(Map<String, String> names) {
+        Map<String, List<String>> added = new HashMap<>();
+        names.forEach((id, name) -> {
+            String normalized = TextNormalizer.normalize(name);
+            String previous = normalizedNames.put(id, normalized);
+            if (normalized.equals(previous)) {
+                return;
+            }
+            if (previous != null) {
+                for (String gram : grams(previous)) {
+                    removePosting(gram, id);
+                }
+            }
+            for (String gram : grams(normalized)) {
+                added.computeIfAbsent(gram, g -> new ArrayList<>()).add(id);
+            }
+        });
+        added.forEach((gram, ids) -> {
+            Set<String> existing = postings.get(gram);
+            if (existing != null) {
+                existing.addAll(ids);
+            } else {
+                Set<String> created = ConcurrentHashMap.newKeySet(ids.size());
+                created.addAll(ids);
+                postings.merge(gram, created, (current, fresh) -> {
+                    current.addAll(fresh);
+                    return current;
+                });
+            }
+        });
+    }
+
+    /**
+     * メニュー項目を索引から削除する。
+     *
+     * @param id メニュー項目ID
+     */
+    public void remove(String id) {
+        String previous = normalizedNames.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (String gram : grams(previous)) {
+            removePosting(gram, id);
+        }
+    }
+
+    /**
+     * 名前で検索する。
+     *
+     * @param keyword 検索語（正規化前）
+     * @param limit   最大件数
+     * @return メニュー項目ID（順位順）
+     */
+    public List<String> search(String keyword, int limit) {
+        String query = TextNormalizer.normalize(keyword);
+        if (query.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        Comparator<Scored> ranking = Comparator.comparingDouble(Scored::score).reversed()
+                .thenComparingInt(Scored::length)
+                .thenComparing(Scored::id);
+        PriorityQueue<Scored> top = new PriorityQueue<>(limit + 1, ranking.reversed());
+
+        if (query.length() == 1) {
+            Set<String> ids = postings.getOrDefault(query, Set.of());
+            for (String id : ids) {
+                offer(top, limit, id, query, 1, 1);
+            }
+        } else {
+            Set<String> queryGrams = bigrams(query);
+            Map<String, Integer> matchedGrams = new HashMap<>();
+            for (String gram : queryGrams) {
+                for (String id : postings.getOrDefault(gram, Set.of())) {
+                    matchedGrams.merge(id, 1, Integer::sum);
+                }
+            }
+            int minMatched = Math.max(1, (int) Math.ceil(queryGrams.size() * MIN_PARTIAL_RATIO));
+            matchedGrams.forEach((id, matched) -> {
+                if (matched >= minMatched) {
+                    offer(top, limit, id, query, matched, queryGrams.size());
+                }
+            });
+        }
+
+        List<Scored> ranked = new ArrayList<>(top);
+        ranked.sort(ranking);
+        List<String> result = new ArrayList<>(ranked.size());
+        for (Scored scored : ranked) {
+            result.add(scored.id());
+        }
+        return result;
+    }
+
+    /**
+     * 候補のスコアを計算し、上位 {@code limit} 件に入る場合のみ保持する。
+     */
+    private void offer(PriorityQueue<Scored> top, int limit, String id, String query,
+                       int matchedGrams, int queryGrams) {
+        String name = normalizedNames.get(id);
+        if (name == null) {
+            return;
+        }
+        double score;
+        if (name.contains(query)) {
+            score = 1.0 + (name.startsWith(query) ? 0.5 : 0) + 0.5 * query.length() / name.length();
+        } else if (query.length() > 1) {
+            score = 0.9 * matchedGrams / queryGrams;
+        } else {
+            return;
+        }
+        top.add(new Scored(id, name.length(), score));
+        if (top.size() > limit) {
+            top.poll();
+        }
+    }
+
+    private void removePosting(String gram, String id) {
+        postings.computeIfPresent(gram, (g, ids) -> {
+            ids.remove(id);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    /**
+     * 索引に登録するn-gram（ユニグラムとバイグラム）を取得する。
+     */
+    private static Set<String> grams(String normalized) {
+        Set<String> grams = bigrams(normalized);
+        for (int i = 0; i < normalized.length(); i++) {
+            grams.add(normalized.substring(i, i + 1));
+        }
+        return grams;
+    }
+
+    private static Set<String> bigrams(String normalized) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + 2 <= normalized.length(); i++) {
+            grams.add(normalized.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    private record Scored(String id, int length, double score) {
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.demo.infrastructure.database;
+
+import com.example.demo.domain.model.order.Order;
+import com.example.demo.domain.model.order.OrderStatus;
+import com.example.demo.domain.type.TableNumber;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 注文件数のストライプカウンタ。
+ *
+ * <p>ステータス別・テーブル別（アクティブのみ）・アクティブ総数の注文件数を
+ * {@link LongAdder} で保持し、保存・削除のたびに差分だけを反映する。
+ * 読み取りは注文件数に依存しない定数時間で完了する。</p>
+ *
+ * <p>{@link Order} はステータスをインスタンス内で書き換えるため、
+ * 前回集計時のステータスを注文IDごとに記録し、遷移元の件数を減算する。
+ * 同一注文に対する更新は {@link ConcurrentHashMap#compute} で直列化される。</p>
+ *
+ * @author store-order-system
+ * @since 1.1.0
+ * @see InMemoryOrderRepository
+ */
+public class OrderStatusCounters {
+
+    /** ステータス別件数 */
+    private final Map<OrderStatus, LongAdder> byStatus = new EnumMap<>(OrderStatus.class);
+
+    /** テーブル番号別のアクティブ件数 */
+    private final Map<Integer, LongAdder> activeByTable = new ConcurrentHashMap<>();
+
+    /** アクティブ総数 */
+    private final LongAdder active = new LongAdder();
+
+    /** 注文IDごとの集計済みステータス */
+    private final Map<String, OrderStatus> countedStatus = new ConcurrentHashMap<>();
+
+    /**
+     * カウンタを生成する。
+     */
+    public OrderStatusCounters() {
+        for (OrderStatus status : OrderStatus.values()) {
+            byStatus.put(status, new LongAdder());
+        }
+    }
+
+    /**
+     * 注文の保存を反映する。
+     *
+     * <p>前回集計時からステータスが変わっていない場合は何もしない。</p>
+     *
+     * @param order 保存された注文
+     */
+    public void recordSave(Order order) {
+        int table = order.getTableNumber().getValue();
+        countedStatus.compute(order.getId().getValue(), (id, previous) -> {
+            OrderStatus current = order.getStatus();
+            if (previous != current) {
+                if (previous != null) {
+                    add(previous, table, -1);
+                }
+                add(current, table, 1);
+            }
+            return current;
+        });
+    }
+
+    /**
+     * 注文の削除を反映する。
+     *
+     * @param order 削除された注文
+     */
+    public void recordDelete(Order order) {
+        int table = order.getTableNumber().getValue();
+        countedStatus.computeIfPresent(order.getId().getValue(), (id, previous) -> {
+            add(previous, table, -1);
+            return null;
+        });
+    }
+
+    /**
+     * ステータス別の件数を取得する。
+     *
+     * @param status 注文ステータス
+     * @return 件数
+     */
+    public long countByStatus(OrderStatus status) {
+        return byStatus.get(status).sum();
+    }
+
+    /**
+     * テーブル別のアクティブ件数を取得する。
+     *
+     * @return テーブル番号順のアクティブ件数（0件のテーブルは除く）
+     */
+    public Map<TableNumber, Long> countActiveByTable() {
+        Map<TableNumber, Long> result = new LinkedHashMap<>();
+        new TreeMap<>(activeByTable).forEach((table, adder) -> {
+            long count = adder.sum();
+            if (count > 0) {
+                result.put(TableNumber.of(table), count);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * アクティブ総数を取得する。
+     *
+     * @return アクティブな注文件数
+     */
+    public long countActive() {
+        return active.sum();
+    }
+
+    private void add(OrderStatus status, int table, int delta) {
+        byStatus.get(status).add(delta);
+        if (status.isActive()) {
+            active.add(delta);
+            activeByTable.computeIfAbsent(table, t -> new LongAdder()).add(delta);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.demo.infrastructure.database;
+
+import com.example.demo.domain.model.menu.MenuItem;
+import com.example.demo.domain.type.Money;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 店舗ごとのメニュー差分の不変スナップショット。
+ *
+ * <p>共通メニューとの差分だけを保持する。</p>
+ * <ul>
+ *   <li>価格の上書き: メニュー項目ID → 店舗の単価</li>
+ *   <li>品切れ: 差分スロット番号（{@link InMemoryStoreMenuRepository} が全店舗共通で採番）の {@link BitSet}</li>
+ * </ul>
+ *
+ * <p>差分のない店舗はこのオブジェクトを持たず、差分のある店舗も差分の件数分しかメモリを使わない。
+ * 店舗数 × メニュー数の表は作らない。変更のたびに新しいスナップショットを作成して差し替える
+ * （コピーオンライト）ため、参照側はロックを取らずに重ね合わせられる。</p>
+ *
+ * @author store-order-system
+ * @since 1.1.0
+ * @see InMemoryStoreMenuRepository
+ */
+public final class StoreMenuOverlay {
+
+    /** 差分のない店舗 */
+    public static final StoreMenuOverlay EMPTY = new StoreMenuOverlay(Map.of(), new BitSet());
+
+    private final Map<String, Money> prices;
+    private final BitSet soldOut;
+
+    private StoreMenuOverlay(Map<String, Money> prices, BitSet soldOut) {
+        this.prices = prices;
+        this.soldOut = soldOut;
+    }
+
+    /**
+     * 共通のメニュー項目に店舗の差分を重ねる。
+     *
+     * <p>価格を上書きした項目の版番号は {@link MenuItem#NO_PRICE_VERSION} となる
+     * （共通の版番号を引き継ぐと、版から引いた価格履歴と単価が一致しなくなるため）。</p>
+     *
+     * @param base 共通のメニュー項目
+     * @param slot メニュー項目の差分スロット番号（未採番の場合は {@code -1}）
+     * @return 店舗のメニュー項目（差分がない場合は {@code base} そのもの）
+     */
+    public MenuItem resolve(MenuItem base, int slot) {
+        Money price = prices.isEmpty() ? null : prices.get(base.getId().getValue());
+        boolean available = base.isAvailable() && (slot < 0 || !soldOut.get(slot));
+        MenuItem resolved = price != null ? base.withStorePrice(price) : base;
+        return resolved.withAvailability(available);
+    }
+
+    /**
+     * 価格の上書きを変更したスナップショットを作成する。
+     *
+     * @param id    メニュー項目ID
+     * @param price 店舗の単価（{@code null} の場合は上書きを解除）
+     * @return 新しいスナップショット（変更がない場合はこのスナップショット）
+     */
+    public StoreMenuOverlay withPrice(String id, Money price) {
+        if (price == null ? !prices.containsKey(id) : price.equals(prices.get(id))) {
+            return this;
+        }
+        Map<String, Money> next = new HashMap<>(prices);
+        if (price == null) {
+            next.remove(id);
+        } else {
+            next.put(id, price);
+        }
+        return new StoreMenuOverlay(next, soldOut);
+    }
+
+    /**
+     * 品切れを変更したスナップショットを作成する。
+     *
+     * @param slot      メニュー項目の差分スロット番号
+     * @param available 提供可否（{@code false} で品切れ）
+     * @return 新しいスナップショット（変更がない場合はこのスナップショット）
+     */
+    public StoreMenuOverlay withAvailability(int slot, boolean available) {
+        if (soldOut.get(slot) != available) {
+            return this;
+        }
+        BitSet next = (BitSet) soldOut.clone();
+        next.set(slot, !available);
+        return new StoreMenuOverlay(prices, next);
+    }
+
+    /**
+     * 差分がないかどうかを判定する。
+     *
+     * @return 差分がない場合 {@code true}
+     */
+    public boolean isEmpty() {
+        return prices.isEmpty() && soldOut.isEmpty();
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.demo.infrastructure.jfr;
+
+import com.example.demo.common.jfr.OrderPlacedJfrEvent;
+import com.example.demo.common.jfr.OrderStatusTransitionJfrEvent;
+import com.example.demo.domain.model.order.Order;
+import com.example.demo.domain.model.order.OrderPlacedEvent;
+import com.example.demo.domain.model.order.OrderStatusChangedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 注文ライフサイクルのJFR記録。
+ *
+ * <p>注文作成・ステータス変更のドメインイベントを購読し、
+ * {@link OrderPlacedJfrEvent} / {@link OrderStatusTransitionJfrEvent} として記録する。
+ * JFRのイベントは既定で無効のため、有効にしていない場合は判定のみで項目の計算も行わない。</p>
+ *
+ * <p>設定ファイル {@code store-order.jfc} は {@code src/main/resources/jfr} にある。</p>
+ *
+ * <h3>有効化</h3>
+ * <pre>
+ * java -XX:StartFlightRecording:settings=default,settings=store-order.jfc -jar demo.jar
+ * jcmd &lt;pid&gt; JFR.start settings=default settings=store-order.jfc
+ * </pre>
+ *
+ * @author store-order-system
+ * @since 1.1.0
+ */
+@Component
+public class OrderLifecycleJfrRecorder {
+
+    /**
+     * 注文作成を記録する。
+     *
+     * @param event 注文作成イベント
+     */
+    @EventListener
+    public void on(OrderPlacedEvent event) {
+        OrderPlacedJfrEvent jfr = new OrderPlacedJfrEvent();
+        if (!jfr.isEnabled()) {
+            return;
+        }
+        Order order = event.order();
+        jfr.record(order.getId().getValue(), order.getTableNumber().getValue(),
+                order.getItems().size(), order.totalAmount().getAmount().longValue());
+    }
+
+    /**
+     * ステータス遷移と遷移前のステータスの滞在時間を記録する。
+     *
+     * @param event 注文ステータス変更イベント
+     */
+    @EventListener
+    public void on(OrderStatusChangedEvent event) {
+        OrderStatusTransitionJfrEvent jfr = new OrderStatusTransitionJfrEvent();
+        if (!jfr.isEnabled()) {
+            return;
+        }
+        long timeInState = event.order().timeIn(event.previousStatus())
+                .map(Duration::toMillis)
+                .orElse(-1L);
+        jfr.record(event.order().getId().getValue(),
+                event.previousStatus().name(), event.newStatus().name(), timeInState);
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.demo.infrastructure.logging;
+
+import com.example.demo.common.logging.AppLogger;
+import com.example.demo.common.logging.AsyncLogWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * ログの非同期書き込み設定クラス。
+ *
+ * <p>{@code app.logging.async.enabled=true} の場合に {@link AppLogger} の非同期書き込みを開始する。
+ * バッファのスロット数は {@code app.logging.async.buffer-size} で変更できる。
+ * アプリケーションの停止時は {@link AsyncLogWriter#close()} により残りのログを書き込んでから停止する。</p>
+ *
+ * <p>既定は無効。有効にすると、ログのパターンに出力されるスレッド名は書き込みスレッドとなり
+ * （呼び出し元のスレッド名はキー {@code thread} の値として渡す）、引数の文字列化も書き込みスレッドで
+ * 後から行われる。</p>
+ *
+ * @author store-order-system
+ * @since 1.1.0
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.logging.async.enabled", havingValue = "true")
+public class AsyncLoggingConfig {
+
+    @Value("${app.logging.async.buffer-size:8192}")
+    private int bufferSize;
+
+    /**
+     * ログの非同期書き込みのBean。
+     *
+     * @return 非同期書き込み
+     */
+    @Bean
+    public AsyncLogWriter asyncLogWriter() {
+        return AppLogger.startAsync(bufferSize);
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.demo.infrastructure.logging;
+
+import com.example.demo.common.logging.EventSite;
+import com.example.demo.common.logging.StructuredEventLog;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+/**
+ * 構造化イベントログ設定クラス。
+ *
+ * <p>{@code app.logging.structured.*} の設定を反映する。</p>
+ *
+ * <ul>
+ *   <li>{@code enabled} - {@code true} の場合、{@link EventSite} のイベントを
+ *       {@code path} のバイナリファイルに書き込む（{@code false} の場合は文字列のINFOログ）</li>
+ *   <li>{@code sample-every} / {@code max-per-second} - イベントごとの抽出・流量制限
+ *       （{@code イベント名:値} のカンマ区切り）。バイナリファイルへの書き込みにのみ適用し、
+ *       文字列ログは全件を出力する</li>
+ * </ul>
+ *
+ * @author store-order-system
+ * @since 1.1.0
+ */
+@Configuration
+public class StructuredEventLogConfig {
+
+    /**
+     * コンストラクタ。イベントごとの抽出・流量制限を反映する。
+     *
+     * @param sampleEvery  抽出（{@code N}件に1件を記録する）
+     * @param maxPerSecond 流量制限（1秒あたりの最大件数）
+     */
+    public StructuredEventLogConfig(@Value("${app.logging.structured.sample-every:}") String sampleEvery,
+                                    @Value("${app.logging.structured.max-per-second:}") String maxPerSecond) {
+        EventSite.configure(sampleEvery, maxPerSecond);
+    }
+
+    /**
+     * 構造化イベントログのBean。
+     *
+     * @param path 出力先
+     * @return 構造化イベントログ
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.logging.structured.enabled", havingValue = "true")
+    public StructuredEventLog structuredEventLog(
+            @Value("${app.logging.structured.path:logs/events.bin}") String path) {
+        return StructuredEventLog.open(Path.of(path));
+    }
+}
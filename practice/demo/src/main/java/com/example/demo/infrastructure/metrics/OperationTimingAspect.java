@@ -0,0 +1,171 @@
+package com.example.demo.infrastructure.metrics;
+
+import com.example.demo.common.exception.BusinessException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ユースケース・リポジトリの処理時間計測。
+ *
+ * <p>アプリケーションサービス（{@code application..*Service}）、クエリサービス
+ * （{@code query..*QueryService}）、リポジトリ実装（{@code infrastructure.database..*Repository}）の
+ * publicメソッドの処理時間を、タイマー {@value #METRIC_NAME} に記録する。</p>
+ *
+ * <h3>タグ</h3>
+ * <ul>
+ *   <li>{@code layer} - {@code application} / {@code query} / {@code repository}</li>
+ *   <li>{@code class} / {@code method} - 計測対象のクラス名・メソッド名（オーバーロードは同じタイマー）</li>
+ *   <li>{@code outcome} - {@code success} / {@code rejected}（入力・状態の不正、業務例外）/ {@code error}</li>
+ * </ul>
+ *
+ * <h3>ヒストグラム</h3>
+ * <p>パーセンタイルヒストグラム（バケット一式）を出力するのは、ユースケースの入口である
+ * アプリケーションサービスの成功時のみとする。それ以外（クエリサービス・リポジトリ、
+ * および {@code rejected} / {@code error}）はSLOの境界（{@code 1ms} / {@code 10ms} / {@code 100ms}）の
+ * バケットのみとし、Prometheusの系列数を抑える。</p>
+ *
+ * <p>Prometheusはバケットのないタイマーを {@code summary} として出力するため、
+ * 同じメトリクス名に {@code histogram} と混在すると不正な出力となる。
+ * すべてのタイマーに必ずバケットを持たせ、型を {@code histogram} に揃える。</p>
+ *
+ * <p>タイマーはメソッドごとに初回の呼び出しで {@code success} のみを登録し、
+ * {@code rejected} / {@code error} はその結果が初めて発生した時点で登録する。
+ * 2回目以降の記録はメソッドをキーにした検索と {@link Timer#record(long, TimeUnit)} のみで、
+ * タグやサンプルのオブジェクトを生成しない。</p>
+ *
+ * @author store-order-system
+ * @since 1.1.0
+ * @see StoreSizeMetrics
+ */
+@Aspect
+@Component
+public class OperationTimingAspect {
+
+    /** タイマー名（Prometheusでは {@code app_operation_seconds}） */
+    public static final String METRIC_NAME = "app.operation";
+
+    /** アプリケーションサービスの成功時以外のSLOの境界 */
+    private static final Duration[] SLO_BOUNDARIES = {
+            Duration.ofMillis(1), Duration.ofMillis(10), Duration.ofMillis(100)};
+
+    private final MeterRegistry registry;
+    private final Map<Method, Timers> timers = new ConcurrentHashMap<>();
+
+    /**
+     * コンストラクタ。
+     *
+     * @param registry メーターレジストリ
+     */
+    public OperationTimingAspect(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * 計測対象のメソッドを実行し、処理時間を記録する。
+     *
+     * @param joinPoint 実行対象
+     * @return 実行結果
+     * @throws Throwable 実行対象が送出した例外（そのまま再送出する）
+     */
+    @Around("execution(public * com.example.demo.application..*Service.*(..))"
+            + " || execution(public * com.example.demo.query..*QueryService.*(..))"
+            + " || execution(public * com.example.demo.infrastructure.database..*Repository.*(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Timers methodTimers = timers.get(method);
+        if (methodTimers == null) {
+            methodTimers = timers.computeIfAbsent(method, this::register);
+        }
+
+        long start = System.nanoTime();
+        try {
+            Object result = joinPoint.proceed();
+            methodTimers.success().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (IllegalArgumentException | IllegalStateException | BusinessException e) {
+            methodTimers.rejected().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        } catch (Throwable e) {
+            methodTimers.error().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    private Timers register(Method method) {
+        String className = method.getDeclaringClass().getSimpleName();
+        String layer = className.endsWith("Repository") ? "repository"
+                : method.getDeclaringClass().getPackageName().contains(".query") ? "query"
+                : "application";
+        return new Timers(layer, className, method.getName());
+    }
+
+    private Timer timer(String layer, String className, String methodName, String outcome) {
+        Timer.Builder builder = Timer.builder(METRIC_NAME)
+                .description("ユースケース・リポジトリの処理時間")
+                .tags("layer", layer, "class", className, "method", methodName, "outcome", outcome);
+        if (outcome.equals("success") && layer.equals("application")) {
+            builder.publishPercentileHistogram()
+                    .minimumExpectedValue(Duration.ofNanos(50_000))
+                    .maximumExpectedValue(Duration.ofSeconds(10));
+        } else {
+            builder.serviceLevelObjectives(SLO_BOUNDARIES);
+        }
+        return builder.register(registry);
+    }
+
+    /**
+     * メソッドごとの結果別タイマー。
+     *
+     * <p>{@code rejected} / {@code error} は初回の発生時に登録する。同時に登録しても
+     * {@link MeterRegistry} が同じタイマーを返すため、ロックは取らない。</p>
+     */
+    private final class Timers {
+
+        private final String layer;
+        private final String className;
+        private final String methodName;
+        private final Timer success;
+        private volatile Timer rejected;
+        private volatile Timer error;
+
+        Timers(String layer, String className, String methodName) {
+            this.layer = layer;
+            this.className = className;
+            this.methodName = methodName;
+            this.success = timer(layer, className, methodName, "success");
+        }
+
+        Timer success() {
+            return success;
+        }
+
+        Timer rejected() {
+            Timer registered = rejected;
+            if (registered == null) {
+                registered = timer(layer, className, methodName, "rejected");
+                rejected = registered;
+            }
+            return registered;
+        }
+
+        Timer error() {
+            Timer registered = error;
+            if (registered == null) {
+                registered = timer(layer, className, methodName, "error");
+                error = registered;
+            }
+            return registered;
+        }
+    }
+}
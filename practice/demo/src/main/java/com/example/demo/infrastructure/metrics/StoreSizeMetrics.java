@@ -0,0 +1,98 @@
+package com.example.demo.infrastructure.metrics;
+
+import com.example.demo.domain.model.menu.MenuItemRepository;
+import com.example.demo.domain.model.menu.StoreMenuRepository;
+import com.example.demo.domain.model.order.OrderRepository;
+import com.example.demo.domain.model.order.OrderStatus;
+import com.example.demo.infrastructure.database.MenuImportResult;
+import com.example.demo.infrastructure.database.MenuImporter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+/**
+ * ストアの件数ゲージ。
+ *
+ * <p>注文・メニューの件数と、直近のメニュー取り込みの結果をゲージとして公開する。
+ * 値は取得時（Prometheusのスクレイプ時）にのみ計算し、業務処理の経路には影響しない。
+ * いずれも件数を数え直さずに取得できる値のみを使用する。</p>
+ *
+ * <ul>
+ *   <li>{@code app.orders} - ステータス別の注文件数（タグ {@code status}）</li>
+ *   <li>{@code app.orders.active} - 未完了の注文件数</li>
+ *   <li>{@code app.menu.items} - メニュー項目数（全体・提供可能、タグ {@code scope}）</li>
+ *   <li>{@code app.menu.catalog.version} - メニューカタログのバージョン（店舗の差分を含む。
+ *       {@link com.example.demo.query.menu.MenuQueryService#getCatalogVersion()} と同じ値）</li>
+ *   <li>{@code app.menu.import.items} / {@code app.menu.import.throughput} - 直近の取り込み件数・スループット（件/秒）</li>
+ * </ul>
+ *
+ * @author store-order-system
+ * @since 1.1.0
+ * @see OperationTimingAspect
+ */
+@Component
+public class StoreSizeMetrics implements MeterBinder {
+
+    private final OrderRepository orderRepository;
+    private final MenuItemRepository menuItemRepository;
+    private final StoreMenuRepository storeMenuRepository;
+    private final MenuImporter menuImporter;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param orderRepository     注文リポジトリ
+     * @param menuItemRepository  メニュー項目リポジトリ
+     * @param storeMenuRepository 店舗別メニューリポジトリ
+     * @param menuImporter        メニューの一括取り込み
+     */
+    public StoreSizeMetrics(OrderRepository orderRepository,
+                            MenuItemRepository menuItemRepository,
+                            StoreMenuRepository storeMenuRepository,
+                            MenuImporter menuImporter) {
+        this.orderRepository = orderRepository;
+        this.menuItemRepository = menuItemRepository;
+        this.storeMenuRepository = storeMenuRepository;
+        this.menuImporter = menuImporter;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (OrderStatus status : OrderStatus.values()) {
+            Gauge.builder("app.orders", orderRepository, repository -> repository.countByStatus(status))
+                    .description("ステータス別の注文件数")
+                    .tag("status", status.name())
+                    .register(registry);
+        }
+        Gauge.builder("app.orders.active", orderRepository, OrderRepository::countActive)
+                .description("未完了の注文件数")
+                .register(registry);
+
+        Gauge.builder("app.menu.items", menuItemRepository, repository -> repository.findAll().size())
+                .description("メニュー項目数")
+                .tag("scope", "all")
+                .register(registry);
+        Gauge.builder("app.menu.items", menuItemRepository, repository -> repository.findAvailable().size())
+                .description("メニュー項目数")
+                .tag("scope", "available")
+                .register(registry);
+        Gauge.builder("app.menu.catalog.version", this,
+                        metrics -> metrics.menuItemRepository.version() + metrics.storeMenuRepository.version())
+                .description("メニューカタログのバージョン")
+                .register(registry);
+
+        Gauge.builder("app.menu.import.items", menuImporter, importer -> {
+                    MenuImportResult result = importer.lastResult();
+                    return result != null ? result.imported() : 0;
+                })
+                .description("直近のメニュー取り込み件数")
+                .register(registry);
+        Gauge.builder("app.menu.import.throughput", menuImporter, importer -> {
+                    MenuImportResult result = importer.lastResult();
+                    return result != null ? result.itemsPerSecond() : 0;
+                })
+                .description("直近のメニュー取り込みのスループット（件/秒）")
+                .register(registry);
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.demo.query.kitchen;
+
+import com.example.demo.domain.model.menu.MenuCategory;
+import com.example.demo.domain.model.menu.MenuItem;
+import com.example.demo.domain.model.menu.MenuItemId;
+import com.example.demo.domain.model.menu.MenuItemRepository;
+import com.example.demo.domain.model.order.OrderStatus;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * キッチンレイテンシクエリサービス（Query側）。
+ *
+ * <p>注文がステータスごとに滞在した時間のパーセンタイル（p50/p95/p99）を提供する。
+ * {@link TimeInStateRecorder} がステータス更新時に記録したヒストグラムを参照するため、
+ * 注文件数に依存せず応答する。</p>
+ *
+ * @author store-order-system
+ * @since 1.1.0
+ * @see TimeInStateView
+ */
+@Service
+public class KitchenLatencyQueryService {
+
+    private final TimeInStateRecorder timeInStateRecorder;
+    private final MenuItemRepository menuItemRepository;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param timeInStateRecorder ステータス滞在時間の記録
+     * @param menuItemRepository  メニュー項目リポジトリ（表示名の解決に使用）
+     */
+    public KitchenLatencyQueryService(TimeInStateRecorder timeInStateRecorder,
+                                      MenuItemRepository menuItemRepository) {
+        this.timeInStateRecorder = timeInStateRecorder;
+        this.menuItemRepository = menuItemRepository;
+    }
+
+    /**
+     * ステータス滞在時間の分布を取得する。
+     *
+     * @param groupBy 集計単位（{@code menuItem}, {@code category}, {@code all}）
+     * @param status  ステータスフィルタ（任意）
+     * @return ステータス滞在時間ビュー一覧（集計単位のキー・ステータスの順）
+     * @throws IllegalArgumentException 集計単位またはステータスが不正な場合
+     */
+    public List<TimeInStateView> getTimeInState(String groupBy, String status) {
+        TimeInStateRecorder.Grouping grouping = switch (groupBy.toLowerCase(Locale.ROOT)) {
+            case "menuitem" -> TimeInStateRecorder.Grouping.MENU_ITEM;
+            case "category" -> TimeInStateRecorder.Grouping.CATEGORY;
+            case "all" -> TimeInStateRecorder.Grouping.ALL;
+            default -> throw new IllegalArgumentException(
+                    "集計単位は menuItem, category, all のいずれかを指定してください: " + groupBy);
+        };
+        OrderStatus statusFilter = status != null ? OrderStatus.valueOf(status) : null;
+
+        return timeInStateRecorder.snapshots(grouping).stream()
+                .filter(entry -> statusFilter == null || entry.status() == statusFilter)
+                .sorted(Comparator.comparing(TimeInStateRecorder.Entry::group)
+                        .thenComparing(TimeInStateRecorder.Entry::status))
+                .map(entry -> new TimeInStateView(
+                        entry.group(),
+                        displayNameOf(grouping, entry.group()),
+                        entry.status().name(),
+                        entry.snapshot().count(),
+                        entry.snapshot().p50(),
+                        entry.snapshot().p95(),
+                        entry.snapshot().p99(),
+                        entry.snapshot().max()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 集計単位のキーから表示名を解決する。
+     */
+    private String displayNameOf(TimeInStateRecorder.Grouping grouping, String group) {
+        return switch (grouping) {
+            case MENU_ITEM -> menuItemRepository.findById(MenuItemId.of(group))
+                    .map(MenuItem::getName)
+                    .orElse(group);
+            case CATEGORY -> MenuCategory.valueOf(group).getDisplayName();
+            case ALL -> "全体";
+        };
+    }
+}
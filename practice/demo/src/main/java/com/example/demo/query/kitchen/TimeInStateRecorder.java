@@ -0,0 +1,156 @@
+package com.example.demo.query.kitchen;
+
+import com.example.demo.common.metrics.LatencyHistogram;
+import com.example.demo.domain.model.menu.MenuCategory;
+import com.example.demo.domain.model.menu.MenuItem;
+import com.example.demo.domain.model.menu.MenuItemId;
+import com.example.demo.domain.model.menu.MenuItemRepository;
+import com.example.demo.domain.model.order.OrderItem;
+import com.example.demo.domain.model.order.OrderStatus;
+import com.example.demo.domain.model.order.OrderStatusChangedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ステータス滞在時間の記録。
+ *
+ * <p>注文ステータス変更イベントを購読し、遷移前のステータスに滞在した時間を
+ * メニュー項目別・カテゴリ別・全体の {@link LatencyHistogram} に記録する。
+ * 調理中（PREPARING）・提供準備完了（READY）の滞在時間がキッチンの主要な指標となる。</p>
+ *
+ * <p>記録はステータス更新の処理中に同期的に行われるため、ロックを使用しない。
+ * ヒストグラムの取得は既存のものがあれば {@link ConcurrentHashMap#get(Object)} のみで済み、
+ * 初めてのメニュー項目・カテゴリの場合に限り生成を伴う。</p>
+ *
+ * <p>キャンセルへの遷移は調理時間の指標を歪めるため記録しない。</p>
+ *
+ * @author store-order-system
+ * @since 1.1.0
+ * @see KitchenLatencyQueryService
+ */
+@Component
+public class TimeInStateRecorder {
+
+    /** 全体集計のキー */
+    public static final String ALL = "ALL";
+
+    private final MenuItemRepository menuItemRepository;
+    private final Map<Key, LatencyHistogram> byMenuItem = new ConcurrentHashMap<>();
+    private final Map<Key, LatencyHistogram> byCategory = new ConcurrentHashMap<>();
+    private final Map<OrderStatus, LatencyHistogram> overall = new EnumMap<>(OrderStatus.class);
+
+    /**
+     * コンストラクタ。
+     *
+     * @param menuItemRepository メニュー項目リポジトリ（カテゴリの解決に使用）
+     */
+    public TimeInStateRecorder(MenuItemRepository menuItemRepository) {
+        this.menuItemRepository = menuItemRepository;
+        for (OrderStatus status : OrderStatus.values()) {
+            overall.put(status, new LatencyHistogram());
+        }
+    }
+
+    /**
+     * 注文ステータス変更イベントから滞在時間を記録する。
+     *
+     * @param event 注文ステータス変更イベント
+     */
+    @EventListener
+    public void on(OrderStatusChangedEvent event) {
+        if (event.newStatus() == OrderStatus.CANCELLED) {
+            return;
+        }
+        OrderStatus status = event.previousStatus();
+        Optional<Duration> timeIn = event.order().timeIn(status);
+        if (timeIn.isEmpty()) {
+            return;
+        }
+        long millis = timeIn.get().toMillis();
+        overall.get(status).record(millis);
+
+        Set<MenuItemId> menuItemIds = new HashSet<>();
+        for (OrderItem item : event.order().getItems()) {
+            if (menuItemIds.add(item.getMenuItemId())) {
+                histogram(byMenuItem, new Key(item.getMenuItemId().getValue(), status)).record(millis);
+            }
+        }
+        Set<MenuCategory> categories = EnumSet.noneOf(MenuCategory.class);
+        for (MenuItem menuItem : menuItemRepository.findAllById(menuItemIds).values()) {
+            categories.add(menuItem.getCategory());
+        }
+        for (MenuCategory category : categories) {
+            histogram(byCategory, new Key(category.name(), status)).record(millis);
+        }
+    }
+
+    /**
+     * 集計単位ごとのスナップショットを取得する。
+     *
+     * @param grouping 集計単位
+     * @return スナップショット（記録のない組み合わせは含まない）
+     */
+    public List<Entry> snapshots(Grouping grouping) {
+        List<Entry> entries = new ArrayList<>();
+        switch (grouping) {
+            case MENU_ITEM -> byMenuItem.forEach((key, histogram) ->
+                    entries.add(new Entry(key.group(), key.status(), histogram.snapshot())));
+            case CATEGORY -> byCategory.forEach((key, histogram) ->
+                    entries.add(new Entry(key.group(), key.status(), histogram.snapshot())));
+            case ALL -> overall.forEach((status, histogram) -> {
+                LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+                if (snapshot.count() > 0) {
+                    entries.add(new Entry(ALL, status, snapshot));
+                }
+            });
+        }
+        return entries;
+    }
+
+    private static LatencyHistogram histogram(Map<Key, LatencyHistogram> histograms, Key key) {
+        LatencyHistogram histogram = histograms.get(key);
+        return histogram != null ? histogram : histograms.computeIfAbsent(key, k -> new LatencyHistogram());
+    }
+
+    /**
+     * 集計単位。
+     */
+    public enum Grouping {
+
+        /** メニュー項目別 */
+        MENU_ITEM,
+
+        /** カテゴリ別 */
+        CATEGORY,
+
+        /** 全体 */
+        ALL
+    }
+
+    /**
+     * 集計単位・ステータスごとのスナップショット。
+     *
+     * @param group    集計単位のキー
+     * @param status   ステータス
+     * @param snapshot ヒストグラムのスナップショット
+     */
+    public record Entry(String group, OrderStatus status, LatencyHistogram.Snapshot snapshot) {
+    }
+
+    /**
+     * ヒストグラムのキー。
+     */
+    private record Key(String group, OrderStatus status) {
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.demo.query.kitchen;
+
+/**
+ * ステータス滞在時間ビュー（Query用DTO）。
+ *
+ * <p>集計単位（メニュー項目・カテゴリ・全体）とステータスごとの滞在時間の分布を表現する。
+ * パーセンタイルは約1.6%以内の誤差を含む。</p>
+ *
+ * @param groupKey    集計単位のキー（メニュー項目ID・カテゴリ名、全体の場合は {@code ALL}）
+ * @param groupName   集計単位の表示名
+ * @param status      ステータス
+ * @param count       件数
+ * @param p50Millis   50パーセンタイル（ミリ秒）
+ * @param p95Millis   95パーセンタイル（ミリ秒）
+ * @param p99Millis   99パーセンタイル（ミリ秒）
+ * @param maxMillis   最大値（ミリ秒）
+ * @author store-order-system
+ * @since 1.1.0
+ */
+public record TimeInStateView(
+        String groupKey,
+        String groupName,
+        String status,
+        long count,
+        long p50Millis,
+        long p95Millis,
+        long p99Millis,
+        long maxMillis
+) {
+}
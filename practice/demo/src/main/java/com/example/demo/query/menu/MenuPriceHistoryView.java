@@ -0,0 +1,35 @@
+package com.example.demo.query.menu;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * メニュー価格履歴ビュー（Query用DTO）。
+ *
+ * @param menuItemId メニュー項目ID
+ * @param versions   価格の版一覧（古い順）
+ * @author store-order-system
+ * @since 1.1.0
+ */
+public record MenuPriceHistoryView(
+        String menuItemId,
+        List<PriceVersionView> versions
+) {
+
+    /**
+     * 価格の版ビュー。
+     *
+     * @param version       版番号
+     * @param price         単価（税抜）
+     * @param priceWithTax  単価（税込）
+     * @param effectiveFrom 適用開始日時
+     */
+    public record PriceVersionView(
+            int version,
+            BigDecimal price,
+            BigDecimal priceWithTax,
+            LocalDateTime effectiveFrom
+    ) {
+    }
+}
@@ -1,11 +1,21 @@
 package com.example.demo.query.menu;
 
+import com.example.demo.common.date.DateUtils;
+import com.example.demo.common.fields.FieldSelector;
 import com.example.demo.domain.model.menu.MenuCategory;
 import com.example.demo.domain.model.menu.MenuItem;
+import com.example.demo.domain.model.menu.MenuItemId;
 import com.example.demo.domain.model.menu.MenuItemRepository;
+import com.example.demo.domain.model.menu.PriceHistory;
+import com.example.demo.domain.model.menu.PriceVersion;
+import com.example.demo.domain.model.menu.StoreMenuRepository;
+import com.example.demo.domain.type.StoreId;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -16,8 +26,12 @@ import java.util.stream.Collectors;
  *
  * <h3>責務</h3>
  * <ul>
- *   <li>メニュー一覧の取得（カテゴリ別フィルタ対応）</li>
+ *   <li>メニュー一覧の取得（カテゴリ別フィルタ・店舗別の価格と提供可否に対応）</li>
  *   <li>提供可能メニューの取得</li>
+ *   <li>カタログのバージョン参照</li>
+ *   <li>時間窓・カテゴリ別の人気メニューの取得</li>
+ *   <li>価格履歴・指定日時の価格の取得</li>
+ *   <li>部分レスポンス（{@code fields=}）による一覧の取得</li>
  *   <li>ドメインモデルからQuery用DTOへの変換</li>
  * </ul>
  *
@@ -28,24 +42,50 @@ import java.util.stream.Collectors;
 @Service
 public class MenuQueryService {
 
+    /** 人気メニューの最大取得件数 */
+    public static final int MAX_POPULAR_LIMIT = 20;
+
+    /** 名前検索の最大取得件数 */
+    public static final int MAX_SEARCH_LIMIT = 100;
+
+    /** メニュー項目の選択可能な項目（MenuItemViewと同じ項目名） */
+    private static final FieldSelector<MenuItem> MENU_ITEM_FIELDS = FieldSelector.<MenuItem>builder()
+            .field("menuItemId", menuItem -> menuItem.getId().getValue())
+            .field("name", MenuItem::getName)
+            .field("price", menuItem -> menuItem.getPrice().getAmount())
+            .field("priceWithTax", menuItem -> menuItem.getPrice().withTax().getAmount())
+            .field("category", menuItem -> menuItem.getCategory().name())
+            .field("categoryDisplayName", menuItem -> menuItem.getCategory().getDisplayName())
+            .field("available", MenuItem::isAvailable)
+            .build();
+
     private final MenuItemRepository menuItemRepository;
+    private final StoreMenuRepository storeMenuRepository;
+    private final PopularMenuTracker popularMenuTracker;
 
     /**
      * コンストラクタ。
      *
-     * @param menuItemRepository メニュー項目リポジトリ
+     * @param menuItemRepository  メニュー項目リポジトリ
+     * @param storeMenuRepository 店舗別メニューリポジトリ
+     * @param popularMenuTracker  人気メニューの追跡
      */
-    public MenuQueryService(MenuItemRepository menuItemRepository) {
+    public MenuQueryService(MenuItemRepository menuItemRepository,
+                            StoreMenuRepository storeMenuRepository,
+                            PopularMenuTracker popularMenuTracker) {
         this.menuItemRepository = menuItemRepository;
+        this.storeMenuRepository = storeMenuRepository;
+        this.popularMenuTracker = popularMenuTracker;
     }
 
     /**
      * 全メニュー項目一覧を取得する。
      *
+     * @param storeId 店舗ID（任意、指定時は店舗の価格・提供可否を反映）
      * @return メニュー項目ビュー一覧
      */
-    public List<MenuItemView> findAllMenuItems() {
-        return menuItemRepository.findAll().stream()
+    public List<MenuItemView> findAllMenuItems(String storeId) {
+        return findAll(storeId).stream()
                 .map(this::toView)
                 .collect(Collectors.toList());
     }
@@ -55,10 +95,11 @@ public class MenuQueryService {
      *
      * <p>お客様向けに表示する場合はこのメソッドを使用する。</p>
      *
+     * @param storeId 店舗ID（任意、指定時は店舗の価格・提供可否を反映）
      * @return 提供可能なメニュー項目ビュー一覧
      */
-    public List<MenuItemView> findAvailableMenuItems() {
-        return menuItemRepository.findAvailable().stream()
+    public List<MenuItemView> findAvailableMenuItems(String storeId) {
+        return findAvailable(storeId).stream()
                 .map(this::toView)
                 .collect(Collectors.toList());
     }
@@ -66,16 +107,210 @@ public class MenuQueryService {
     /**
      * カテゴリ別にメニュー項目一覧を取得する。
      *
+     * @param storeId  店舗ID（任意、指定時は店舗の価格・提供可否を反映）
      * @param category カテゴリ名
      * @return 該当カテゴリのメニュー項目ビュー一覧
      */
-    public List<MenuItemView> findMenuItemsByCategory(String category) {
+    public List<MenuItemView> findMenuItemsByCategory(String storeId, String category) {
         MenuCategory menuCategory = MenuCategory.valueOf(category);
-        return menuItemRepository.findByCategory(menuCategory).stream()
+        return findByCategory(storeId, menuCategory).stream()
+                .map(this::toView)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 全メニュー項目一覧を、指定された項目だけで取得する。
+     *
+     * <p>要求されなかった項目は計算しない（税込価格を要求しなければ税計算を行わない）。</p>
+     *
+     * @param storeId 店舗ID（任意、指定時は店舗の価格・提供可否を反映）
+     * @param fields  カンマ区切りの項目名
+     * @return 項目名をキーとしたマップの一覧
+     * @throws IllegalArgumentException 未知の項目名が含まれる場合
+     */
+    public List<Map<String, Object>> findAllMenuItems(String storeId, String fields) {
+        FieldSelector.Selection<MenuItem> selection = MENU_ITEM_FIELDS.select(fields);
+        return findAll(storeId).stream()
+                .map(selection)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 提供可能なメニュー項目一覧を、指定された項目だけで取得する。
+     *
+     * @param storeId 店舗ID（任意、指定時は店舗の価格・提供可否を反映）
+     * @param fields  カンマ区切りの項目名
+     * @return 項目名をキーとしたマップの一覧
+     * @throws IllegalArgumentException 未知の項目名が含まれる場合
+     */
+    public List<Map<String, Object>> findAvailableMenuItems(String storeId, String fields) {
+        FieldSelector.Selection<MenuItem> selection = MENU_ITEM_FIELDS.select(fields);
+        return findAvailable(storeId).stream()
+                .map(selection)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * カテゴリ別のメニュー項目一覧を、指定された項目だけで取得する。
+     *
+     * @param storeId  店舗ID（任意、指定時は店舗の価格・提供可否を反映）
+     * @param category カテゴリ名
+     * @param fields   カンマ区切りの項目名
+     * @return 項目名をキーとしたマップの一覧
+     * @throws IllegalArgumentException カテゴリまたは項目名が不正な場合
+     */
+    public List<Map<String, Object>> findMenuItemsByCategory(String storeId, String category, String fields) {
+        MenuCategory menuCategory = MenuCategory.valueOf(category);
+        FieldSelector.Selection<MenuItem> selection = MENU_ITEM_FIELDS.select(fields);
+        return findByCategory(storeId, menuCategory).stream()
+                .map(selection)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 項目指定を正規化する。
+     *
+     * <p>指定順・重複・空白に関わらず、同じ項目の組み合わせは同じ文字列となる。
+     * レスポンスのキャッシュキーに使用する。</p>
+     *
+     * @param fields カンマ区切りの項目名
+     * @return 宣言順の項目名をカンマで連結した文字列
+     * @throws IllegalArgumentException 未知の項目名が含まれる場合
+     */
+    public String normalizeMenuItemFields(String fields) {
+        return MENU_ITEM_FIELDS.select(fields).key();
+    }
+
+    /**
+     * メニューカタログのバージョンを取得する。
+     *
+     * <p>メニュー項目、またはいずれかの店舗の差分が変更されるたびに増加する。
+     * この値が同じ間は各取得メソッドの結果も変わらないため、
+     * 呼び出し側はバージョンをキーに結果を再利用できる。</p>
+     *
+     * @return カタログのバージョン
+     */
+    public long getCatalogVersion() {
+        return menuItemRepository.version() + storeMenuRepository.version();
+    }
+
+    /**
+     * 店舗に共通のメニューとの差分があるかを判定する。
+     *
+     * <p>差分のない店舗の取得結果は、店舗IDを指定しない場合と同じになる。</p>
+     *
+     * @param storeId 店舗ID
+     * @return 価格の上書き・品切れのいずれかがある場合 {@code true}
+     * @throws IllegalArgumentException 店舗IDが不正な場合
+     */
+    public boolean hasStoreOverlay(String storeId) {
+        return storeMenuRepository.hasOverlay(StoreId.of(storeId));
+    }
+
+    /**
+     * メニュー名の部分一致でメニュー項目を検索する。
+     *
+     * <p>全角・半角、ひらがな・カタカナの違いを区別せず、関連度の高い順に返す。
+     * 提供不可のメニューも含む（スタッフ向け）。</p>
+     *
+     * @param keyword 検索語
+     * @param limit   取得件数（1〜{@value #MAX_SEARCH_LIMIT}）
+     * @return メニュー項目ビュー一覧（関連度順）
+     * @throws IllegalArgumentException 検索語が空、または取得件数が不正な場合
+     */
+    public List<MenuItemView> searchMenuItems(String keyword, int limit) {
+        if (keyword == null || keyword.isBlank()) {
+            throw new IllegalArgumentException("検索語を指定してください");
+        }
+        if (limit < 1 || limit > MAX_SEARCH_LIMIT) {
+            throw new IllegalArgumentException(
+                    "取得件数は1以上" + MAX_SEARCH_LIMIT + "以下で指定してください: " + limit);
+        }
+        return menuItemRepository.searchByName(keyword, limit).stream()
                 .map(this::toView)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 時間窓・カテゴリ別の人気メニューを取得する。
+     *
+     * <p>注文作成時に更新される上限付きの近似集計を参照するため、
+     * 注文件数に関わらず一定時間で応答する。削除済みのメニュー項目は結果に含めない。</p>
+     *
+     * @param window   時間窓（{@code 15m}, {@code 1h}, {@code day}）
+     * @param category カテゴリ名（{@code null} の場合は全カテゴリ）
+     * @param limit    カテゴリごとの取得件数（1〜{@value #MAX_POPULAR_LIMIT}）
+     * @return 人気メニュービュー
+     * @throws IllegalArgumentException 時間窓・カテゴリ・取得件数が不正な場合
+     */
+    public PopularMenuView findPopularMenuItems(String window, String category, int limit) {
+        if (limit < 1 || limit > MAX_POPULAR_LIMIT) {
+            throw new IllegalArgumentException(
+                    "取得件数は1以上" + MAX_POPULAR_LIMIT + "以下で指定してください: " + limit);
+        }
+        PopularityWindow popularityWindow = PopularityWindow.fromLabel(window);
+        List<MenuCategory> categories = category != null
+                ? List.of(MenuCategory.valueOf(category))
+                : List.of(MenuCategory.values());
+
+        LocalDateTime now = DateUtils.now();
+        Map<String, List<PopularMenuItemView>> byCategory = new LinkedHashMap<>();
+        for (MenuCategory menuCategory : categories) {
+            byCategory.put(menuCategory.name(),
+                    popularMenuTracker.top(popularityWindow, menuCategory, limit, now).stream()
+                            .flatMap(ranked -> menuItemRepository.findById(MenuItemId.of(ranked.menuItemId()))
+                                    .map(menuItem -> toPopularView(menuItem, ranked))
+                                    .stream())
+                            .collect(Collectors.toList()));
+        }
+        return new PopularMenuView(popularityWindow.getLabel(), now, byCategory);
+    }
+
+    /**
+     * メニュー項目の価格履歴を取得する。
+     *
+     * <p>日時を指定した場合は、その日時に適用されていた版のみを返す（該当がなければ空）。
+     * 過去の注文の監査や、改定後の価格での再計算に使用する。</p>
+     *
+     * @param menuItemId メニュー項目ID
+     * @param at         日時（任意）
+     * @return 価格履歴ビュー
+     * @throws IllegalArgumentException メニュー項目の価格履歴が存在しない場合
+     */
+    public MenuPriceHistoryView findPriceHistory(String menuItemId, LocalDateTime at) {
+        PriceHistory history = menuItemRepository.findPriceHistory(MenuItemId.of(menuItemId))
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "メニュー項目が見つかりません: " + menuItemId));
+        List<PriceVersion> versions = at != null
+                ? history.at(at).map(List::of).orElse(List.of())
+                : history.versions();
+        return new MenuPriceHistoryView(menuItemId, versions.stream()
+                .map(version -> new MenuPriceHistoryView.PriceVersionView(
+                        version.version(),
+                        version.price().getAmount(),
+                        version.price().withTax().getAmount(),
+                        version.effectiveFrom()))
+                .collect(Collectors.toList()));
+    }
+
+    private List<MenuItem> findAll(String storeId) {
+        return storeId != null
+                ? storeMenuRepository.findAll(StoreId.of(storeId))
+                : menuItemRepository.findAll();
+    }
+
+    private List<MenuItem> findAvailable(String storeId) {
+        return storeId != null
+                ? storeMenuRepository.findAvailable(StoreId.of(storeId))
+                : menuItemRepository.findAvailable();
+    }
+
+    private List<MenuItem> findByCategory(String storeId, MenuCategory category) {
+        return storeId != null
+                ? storeMenuRepository.findByCategory(StoreId.of(storeId), category)
+                : menuItemRepository.findByCategory(category);
+    }
+
     /**
      * MenuItemエンティティをMenuItemViewに変換する。
      */
@@ -90,4 +325,18 @@ public class MenuQueryService {
                 menuItem.isAvailable()
         );
     }
+
+    /**
+     * MenuItemエンティティと推定数量をPopularMenuItemViewに変換する。
+     */
+    private PopularMenuItemView toPopularView(MenuItem menuItem, PopularMenuTracker.Ranked ranked) {
+        return new PopularMenuItemView(
+                menuItem.getId().getValue(),
+                menuItem.getName(),
+                menuItem.getCategory().name(),
+                menuItem.getCategory().getDisplayName(),
+                ranked.count(),
+                ranked.count() - ranked.error()
+        );
+    }
 }
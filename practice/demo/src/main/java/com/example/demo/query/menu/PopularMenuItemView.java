@@ -0,0 +1,23 @@
+package com.example.demo.query.menu;
+
+/**
+ * 人気メニュー項目ビュー（Query用DTO）。
+ *
+ * @param menuItemId          メニュー項目ID
+ * @param name                メニュー名
+ * @param category            カテゴリ
+ * @param categoryDisplayName カテゴリ表示名
+ * @param estimatedQuantity   推定注文数量
+ * @param minimumQuantity     推定注文数量から誤差の上限を差し引いた数量
+ * @author store-order-system
+ * @since 1.1.0
+ */
+public record PopularMenuItemView(
+        String menuItemId,
+        String name,
+        String category,
+        String categoryDisplayName,
+        long estimatedQuantity,
+        long minimumQuantity
+) {
+}
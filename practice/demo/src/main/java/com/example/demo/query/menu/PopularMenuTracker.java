@@ -0,0 +1,188 @@
+package com.example.demo.query.menu;
+
+import com.example.demo.domain.model.menu.MenuCategory;
+import com.example.demo.domain.model.menu.MenuItem;
+import com.example.demo.domain.model.menu.MenuItemId;
+import com.example.demo.domain.model.menu.MenuItemRepository;
+import com.example.demo.domain.model.order.OrderItem;
+import com.example.demo.domain.model.order.OrderPlacedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 人気メニューの追跡。
+ *
+ * <p>注文作成イベントを購読し、メニュー項目ごとの注文数量を
+ * 時間窓（{@link PopularityWindow}）・カテゴリごとの {@link SpaceSavingSketch} に加算する。
+ * 各時間窓は固定数のスライスの環状配列で、スライスごとに上限付きの集計を持つため、
+ * メニュー数や注文数に関わらずメモリ使用量は
+ * 「時間窓のスライス数 × カテゴリ数 × 集計の上限要素数」で一定となる。</p>
+ *
+ * <p>参照時は時間窓に含まれるスライスの集計を合算し、推定数量の多い順に返す。
+ * 各スライスで保持され続けた項目の推定数量は真の数量以上となる。
+ * 上限を超える種類のメニューが注文されたスライスでは下位の項目が入れ替わるため、
+ * 上位以外の順位は目安として扱うこと。</p>
+ *
+ * @author store-order-system
+ * @since 1.1.0
+ * @see MenuQueryService#findPopularMenuItems(String, String, int)
+ */
+@Component
+public class PopularMenuTracker {
+
+    private final MenuItemRepository menuItemRepository;
+    private final Map<PopularityWindow, SlidingSketches> windows = new EnumMap<>(PopularityWindow.class);
+
+    /**
+     * コンストラクタ。
+     *
+     * @param menuItemRepository メニュー項目リポジトリ（カテゴリの解決に使用）
+     * @param sketchCapacity     スライス・カテゴリごとに保持するメニュー項目数の上限
+     */
+    public PopularMenuTracker(MenuItemRepository menuItemRepository,
+                              @Value("${app.menu.popularity.sketch-capacity:64}") int sketchCapacity) {
+        this.menuItemRepository = menuItemRepository;
+        for (PopularityWindow window : PopularityWindow.values()) {
+            windows.put(window, new SlidingSketches(window, sketchCapacity));
+        }
+    }
+
+    /**
+     * 注文作成イベントを集計に反映する。
+     *
+     * @param event 注文作成イベント
+     */
+    @EventListener
+    public void on(OrderPlacedEvent event) {
+        Map<MenuItemId, Long> quantities = new LinkedHashMap<>();
+        for (OrderItem item : event.order().getItems()) {
+            quantities.merge(item.getMenuItemId(), (long) item.getQuantity().getValue(), Long::sum);
+        }
+
+        long minute = epochMinute(event.occurredAt());
+        quantities.forEach((menuItemId, quantity) -> {
+            Optional<MenuCategory> category = menuItemRepository.findById(menuItemId)
+                    .map(MenuItem::getCategory);
+            if (category.isEmpty()) {
+                return;
+            }
+            for (SlidingSketches sketches : windows.values()) {
+                sketches.add(minute, category.get(), menuItemId.getValue(), quantity);
+            }
+        });
+    }
+
+    /**
+     * 時間窓・カテゴリにおける人気メニュー項目を取得する。
+     *
+     * @param window   時間窓
+     * @param category カテゴリ
+     * @param limit    取得件数
+     * @param now      基準日時
+     * @return 推定数量の多い順のメニュー項目
+     */
+    public List<Ranked> top(PopularityWindow window, MenuCategory category, int limit, LocalDateTime now) {
+        long fromMinute = window.isCalendarDay()
+                ? epochMinute(now.toLocalDate().atStartOfDay())
+                : Long.MIN_VALUE;
+        Map<String, Ranked> merged = windows.get(window).merge(epochMinute(now), fromMinute, category);
+
+        List<Ranked> ranked = new ArrayList<>(merged.values());
+        ranked.sort(Comparator.comparingLong(Ranked::count).reversed()
+                .thenComparing(Ranked::menuItemId));
+        return ranked.size() > limit ? List.copyOf(ranked.subList(0, limit)) : ranked;
+    }
+
+    private static long epochMinute(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) / 60;
+    }
+
+    /**
+     * 推定数量付きのメニュー項目。
+     *
+     * @param menuItemId メニュー項目ID
+     * @param count      推定数量（真の数量以上）
+     * @param error      保持していたスライスにおける誤差の上限の合計
+     */
+    public record Ranked(String menuItemId, long count, long error) {
+    }
+
+    /**
+     * 1つの時間窓を構成するスライスの環状配列。更新・参照はこのオブジェクトのロック内で行う。
+     */
+    private static final class SlidingSketches {
+
+        private final PopularityWindow window;
+        private final Slice[] slices;
+
+        SlidingSketches(PopularityWindow window, int capacity) {
+            this.window = window;
+            this.slices = new Slice[window.getSlices()];
+            for (int i = 0; i < slices.length; i++) {
+                slices[i] = new Slice(capacity);
+            }
+        }
+
+        synchronized void add(long minute, MenuCategory category, String menuItemId, long quantity) {
+            long index = minute / window.getSliceMinutes();
+            Slice slice = slices[(int) Math.floorMod(index, (long) slices.length)];
+            if (slice.index > index) {
+                return;
+            }
+            if (slice.index < index) {
+                slice.reset(index);
+            }
+            slice.byCategory[category.ordinal()].add(menuItemId, quantity);
+        }
+
+        synchronized Map<String, Ranked> merge(long nowMinute, long fromMinute, MenuCategory category) {
+            long current = nowMinute / window.getSliceMinutes();
+            Map<String, Ranked> merged = new HashMap<>();
+            for (Slice slice : slices) {
+                if (slice.index > current || slice.index <= current - slices.length
+                        || slice.index * window.getSliceMinutes() < fromMinute) {
+                    continue;
+                }
+                slice.byCategory[category.ordinal()].forEach((key, count, error) ->
+                        merged.merge(key, new Ranked(key, count, error), (a, b) ->
+                                new Ranked(key, a.count() + b.count(), a.error() + b.error())));
+            }
+            return merged;
+        }
+    }
+
+    /**
+     * 1スライス分のカテゴリ別集計。
+     */
+    private static final class Slice {
+
+        private long index = Long.MIN_VALUE;
+        private final SpaceSavingSketch[] byCategory;
+
+        Slice(int capacity) {
+            byCategory = new SpaceSavingSketch[MenuCategory.values().length];
+            for (int i = 0; i < byCategory.length; i++) {
+                byCategory[i] = new SpaceSavingSketch(capacity);
+            }
+        }
+
+        void reset(long newIndex) {
+            index = newIndex;
+            for (SpaceSavingSketch sketch : byCategory) {
+                sketch.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.demo.query.menu;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 人気メニュービュー（Query用DTO）。
+ *
+ * <p>時間窓ごとの「いま注文されているメニュー」をカテゴリ別に表現する。</p>
+ *
+ * @param window     時間窓（{@code 15m}, {@code 1h}, {@code day}）
+ * @param asOf       集計の基準日時
+ * @param byCategory カテゴリをキーとした人気メニュー項目（推定数量の多い順）
+ * @author store-order-system
+ * @since 1.1.0
+ */
+public record PopularMenuView(
+        String window,
+        LocalDateTime asOf,
+        Map<String, List<PopularMenuItemView>> byCategory
+) {
+}
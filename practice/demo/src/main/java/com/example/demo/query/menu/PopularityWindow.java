@@ -0,0 +1,89 @@
+package com.example.demo.query.menu;
+
+import java.util.Locale;
+
+/**
+ * 人気メニュー集計の時間窓。
+ *
+ * <p>各時間窓は一定幅のスライスの並びで構成され、スライス単位でスライドする。
+ * 窓の長さに対するスライス幅の分だけ、古い注文が窓から外れる時刻には誤差が生じる。</p>
+ *
+ * @author store-order-system
+ * @since 1.1.0
+ */
+public enum PopularityWindow {
+
+    /** 直近15分（1分幅×15スライス） */
+    MINUTES_15("15m", 1, 15, false),
+
+    /** 直近1時間（5分幅×12スライス） */
+    HOUR_1("1h", 5, 12, false),
+
+    /** 当日（0時以降、1時間幅×24スライス） */
+    DAY("day", 60, 24, true);
+
+    private final String label;
+    private final int sliceMinutes;
+    private final int slices;
+    private final boolean calendarDay;
+
+    PopularityWindow(String label, int sliceMinutes, int slices, boolean calendarDay) {
+        this.label = label;
+        this.sliceMinutes = sliceMinutes;
+        this.slices = slices;
+        this.calendarDay = calendarDay;
+    }
+
+    /**
+     * 表記から時間窓を取得する。
+     *
+     * @param label 表記（{@code 15m}, {@code 1h}, {@code day}）
+     * @return 時間窓
+     * @throws IllegalArgumentException 該当する時間窓がない場合
+     */
+    public static PopularityWindow fromLabel(String label) {
+        String normalized = label.toLowerCase(Locale.ROOT);
+        for (PopularityWindow window : values()) {
+            if (window.label.equals(normalized)) {
+                return window;
+            }
+        }
+        throw new IllegalArgumentException("時間窓は 15m, 1h, day のいずれかを指定してください: " + label);
+    }
+
+    /**
+     * 表記を取得する。
+     *
+     * @return 表記
+     */
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * スライス幅（分）を取得する。
+     *
+     * @return スライス幅（分）
+     */
+    public int getSliceMinutes() {
+        return sliceMinutes;
+    }
+
+    /**
+     * スライス数を取得する。
+     *
+     * @return スライス数
+     */
+    public int getSlices() {
+        return slices;
+    }
+
+    /**
+     * 当日0時以降に限定する時間窓かどうかを判定する。
+     *
+     * @return 当日に限定する場合 {@code true}
+     */
+    public boolean isCalendarDay() {
+        return calendarDay;
+    }
+}
@@ -0,0 +1,162 @@
+package com.example.demo.query.menu;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Space-Saving法による頻出要素（ヘビーヒッター）の近似集計。
+ *
+ * <p>保持する要素数を {@code capacity} 件に制限し、上限に達した状態で新しい要素が来た場合は
+ * 最小カウントの要素を置き換える（置き換えた要素のカウントを引き継ぎ、その値を誤差として記録する）。
+ * 真の出現数が全体の {@code 1/capacity} を超える要素は必ず保持される。</p>
+ *
+ * <p>要素はカウントを値とする最小ヒープ（位置をエントリ自身が保持する）で管理するため、
+ * 加算・置き換えは {@code O(log capacity)}、メモリは {@code O(capacity)} で一定となる。</p>
+ *
+ * <p>スレッドセーフではない。呼び出し側で排他制御すること。</p>
+ *
+ * @author store-order-system
+ * @since 1.1.0
+ */
+public class SpaceSavingSketch {
+
+    private final Entry[] heap;
+    private final Map<String, Entry> entries;
+    private int size;
+
+    /**
+     * 集計を生成する。
+     *
+     * @param capacity 保持する最大要素数（1以上）
+     * @throws IllegalArgumentException 最大要素数が1未満の場合
+     */
+    public SpaceSavingSketch(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("保持する最大要素数は1以上である必要があります: " + capacity);
+        }
+        this.heap = new Entry[capacity];
+        this.entries = new HashMap<>(capacity * 2);
+    }
+
+    /**
+     * 要素の出現を加算する。
+     *
+     * @param key    要素
+     * @param weight 加算する出現数（1以上）
+     */
+    public void add(String key, long weight) {
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            entry.count += weight;
+            siftDown(entry.position);
+            return;
+        }
+        if (size < heap.length) {
+            entry = new Entry(key, weight, 0);
+            entries.put(key, entry);
+            heap[size] = entry;
+            entry.position = size;
+            siftUp(size++);
+            return;
+        }
+
+        Entry min = heap[0];
+        entries.remove(min.key);
+        min.key = key;
+        min.error = min.count;
+        min.count += weight;
+        entries.put(key, min);
+        siftDown(0);
+    }
+
+    /**
+     * 保持している要素を走査する。
+     *
+     * @param visitor 要素・推定出現数・誤差の上限を受け取る処理
+     */
+    public void forEach(Visitor visitor) {
+        for (int i = 0; i < size; i++) {
+            visitor.visit(heap[i].key, heap[i].count, heap[i].error);
+        }
+    }
+
+    /**
+     * 全要素を破棄する。
+     */
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            heap[i] = null;
+        }
+        entries.clear();
+        size = 0;
+    }
+
+    private void siftUp(int index) {
+        Entry entry = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (heap[parent].count <= entry.count) {
+                break;
+            }
+            place(heap[parent], index);
+            index = parent;
+        }
+        place(entry, index);
+    }
+
+    private void siftDown(int index) {
+        Entry entry = heap[index];
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            int right = child + 1;
+            if (right < size && heap[right].count < heap[child].count) {
+                child = right;
+            }
+            if (entry.count <= heap[child].count) {
+                break;
+            }
+            place(heap[child], index);
+            index = child;
+        }
+        place(entry, index);
+    }
+
+    private void place(Entry entry, int index) {
+        heap[index] = entry;
+        entry.position = index;
+    }
+
+    /**
+     * 要素の走査処理。
+     */
+    @FunctionalInterface
+    public interface Visitor {
+
+        /**
+         * 要素を受け取る。
+         *
+         * @param key   要素
+         * @param count 推定出現数（真の出現数以上）
+         * @param error 推定出現数の誤差の上限
+         */
+        void visit(String key, long count, long error);
+    }
+
+    /**
+     * 保持している要素。
+     */
+    private static final class Entry {
+
+        private String key;
+        private long count;
+        private long error;
+        private int position;
+
+        Entry(String key, long count, long error) {
+            this.key = key;
+            this.count = count;
+            this.error = error;
+        }
+    }
+}
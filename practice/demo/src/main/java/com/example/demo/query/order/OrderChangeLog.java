@@ -0,0 +1,132 @@
+package com.example.demo.query.order;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 注文変更ログ（上限付きリングバッファ）。
+ *
+ * <p>読み取りモデルへの反映ごとに採番されたシーケンス番号と注文IDの組を、
+ * 直近 {@code capacity} 件まで保持する。容量を超えた古いエントリは上書きされ、
+ * その時点までのシーケンス番号は「保持範囲外」となる。</p>
+ *
+ * <p>スレッドセーフではない。呼び出し側（{@link OrderViewProjection}）が
+ * 採番と追記を同じロックの内側で行うことで、シーケンス番号の順に追記されることを保証する。</p>
+ *
+ * @author store-order-system
+ * @since 1.1.0
+ */
+public class OrderChangeLog {
+
+    private final long[] sequences;
+    private final String[] orderIds;
+
+    /** 次に書き込む位置 */
+    private int next;
+
+    /** 保持件数 */
+    private int size;
+
+    /** 保持範囲外となった最大のシーケンス番号（これより大きい番号は全て保持している） */
+    private long floor;
+
+    /** 最後に追記したシーケンス番号 */
+    private long highWaterMark;
+
+    /**
+     * 変更ログを生成する。
+     *
+     * @param capacity 保持する最大件数（1以上）
+     * @throws IllegalArgumentException 容量が1未満の場合
+     */
+    public OrderChangeLog(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("変更ログの容量は1以上である必要があります: " + capacity);
+        }
+        this.sequences = new long[capacity];
+        this.orderIds = new String[capacity];
+    }
+
+    /**
+     * 変更を追記する。
+     *
+     * @param sequence シーケンス番号（前回より大きいこと）
+     * @param orderId  変更された注文ID
+     */
+    public void append(long sequence, String orderId) {
+        if (size == sequences.length) {
+            floor = sequences[next];
+        } else {
+            size++;
+        }
+        sequences[next] = sequence;
+        orderIds[next] = orderId;
+        next = (next + 1) % sequences.length;
+        highWaterMark = sequence;
+    }
+
+    /**
+     * 全エントリを破棄し、指定のシーケンス番号以前を保持範囲外とする。
+     *
+     * <p>読み取りモデルを再構築した場合など、個々の変更を追跡できなくなったときに使用する。</p>
+     *
+     * @param sequence 新しい基準となるシーケンス番号
+     */
+    public void reset(long sequence) {
+        size = 0;
+        next = 0;
+        floor = sequence;
+        highWaterMark = sequence;
+    }
+
+    /**
+     * 指定のシーケンス番号より後に変更された注文IDを取得する。
+     *
+     * <p>変更された注文IDは最後に変更された順の昇順で、重複を含まない。
+     * 保持範囲外の番号、または追記済みの最大番号より大きい番号（再起動前の番号など）が
+     * 指定された場合は、全件の再同期が必要な結果を返す。</p>
+     *
+     * @param since 基準となるシーケンス番号
+     * @return 変更の取得結果
+     */
+    public ChangeSet changesSince(long since) {
+        if (since < floor || since > highWaterMark) {
+            return new ChangeSet(highWaterMark, null);
+        }
+
+        List<String> changed = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        for (int i = 0; i < size; i++) {
+            int index = Math.floorMod(next - 1 - i, sequences.length);
+            if (sequences[index] <= since) {
+                break;
+            }
+            if (seen.add(orderIds[index])) {
+                changed.add(orderIds[index]);
+            }
+        }
+        Collections.reverse(changed);
+        return new ChangeSet(highWaterMark, changed);
+    }
+
+    /**
+     * 変更の取得結果。
+     *
+     * @param highWaterMark 取得時点で追記済みの最大シーケンス番号
+     * @param orderIds      変更された注文ID（保持範囲外で差分を返せない場合は {@code null}）
+     */
+    public record ChangeSet(long highWaterMark, List<String> orderIds) {
+
+        /**
+         * 差分を返せず全件の再同期が必要かどうかを判定する。
+         *
+         * @return 全件の再同期が必要な場合 {@code true}
+         */
+        public boolean requiresFullResync() {
+            return orderIds == null;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.demo.query.order;
+
+import java.util.List;
+
+/**
+ * 注文差分ビュー（Query用DTO）。
+ *
+ * <p>指定したシーケンス番号以降に変更された注文を表現する。
+ * 回線の不安定なタブレットが再接続時に全件を取り直さずに済むよう、差分同期で使用する。</p>
+ *
+ * <p>{@code fullResync} が {@code true} の場合、差分を返せなかったため
+ * {@code orders} には全注文が含まれる。クライアントは手元の一覧を置き換えること。</p>
+ *
+ * @param since         要求されたシーケンス番号
+ * @param highWaterMark 次回の要求で指定すべきシーケンス番号
+ * @param fullResync    全件の再同期かどうか
+ * @param orders        変更された注文サマリー（全件再同期の場合は全注文）
+ * @author store-order-system
+ * @since 1.1.0
+ */
+public record OrderChangesView(
+        long since,
+        long highWaterMark,
+        boolean fullResync,
+        List<OrderSummary> orders
+) {
+}
@@ -0,0 +1,22 @@
+package com.example.demo.query.order;
+
+import java.util.Map;
+
+/**
+ * 注文件数ビュー（Query用DTO）。
+ *
+ * <p>フロアマネージャー向けダッシュボードで表示する注文件数の集計値を表現する。
+ * CQRSのQuery側で使用される読み取り専用のデータ構造。</p>
+ *
+ * @param byStatus      ステータス別の注文件数（ステータス名をキーとする）
+ * @param activeByTable テーブル番号別のアクティブな注文件数
+ * @param activeTotal   アクティブな注文の総件数
+ * @author store-order-system
+ * @since 1.1.0
+ */
+public record OrderCountsView(
+        Map<String, Long> byStatus,
+        Map<Integer, Long> activeByTable,
+        long activeTotal
+) {
+}
@@ -38,6 +38,7 @@ public record OrderDetailView(
      * @param menuItemId   メニュー項目ID
      * @param menuItemName メニュー名
      * @param unitPrice    単価（税抜）
+     * @param priceVersion 単価の版番号（不明・店舗の上書き価格の場合は0）
      * @param quantity     数量
      * @param subtotal     小計（税抜）
      */
@@ -45,6 +46,7 @@ public record OrderDetailView(
             String menuItemId,
             String menuItemName,
             BigDecimal unitPrice,
+            int priceVersion,
             int quantity,
             BigDecimal subtotal
     ) {
@@ -0,0 +1,153 @@
+package com.example.demo.query.order;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 注文読み取りモデルの二次インデックス。
+ *
+ * <p>注文IDの集合をステータス・テーブル番号・メニュー項目ID・注文日時ごとに保持する。
+ * 各集合は並行読み取りに対応し、参照側はロックなしで件数の見積もりと所属判定ができる。</p>
+ *
+ * <p>更新は {@link OrderViewProjection} の書き込みロックの内側でのみ行われる。
+ * 参照側から見ると更新途中の状態が観測されうるため、
+ * 最終的な判定は必ずビュー自体に対して行うこと（{@link OrderQueryPlanner} 参照）。</p>
+ *
+ * @author store-order-system
+ * @since 1.1.0
+ */
+public class OrderIndexes {
+
+    private final Map<String, Set<String>> byStatus = new ConcurrentHashMap<>();
+    private final Map<Integer, Set<String>> byTable = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> byMenuItem = new ConcurrentHashMap<>();
+    private final NavigableMap<LocalDateTime, Set<String>> byOrderedAt = new ConcurrentSkipListMap<>();
+
+    /**
+     * ビューの追加・更新をインデックスへ反映する。
+     *
+     * <p>注文のテーブル番号・明細・注文日時は作成後に変わらないため、
+     * 既存の注文についてはステータスの付け替えのみを行う。</p>
+     *
+     * @param previous 更新前のビュー（新規の場合は {@code null}）
+     * @param current  更新後のビュー
+     */
+    public void update(OrderDetailView previous, OrderDetailView current) {
+        String id = current.orderId();
+        if (previous == null) {
+            add(byTable, current.tableNumber(), id);
+            for (OrderDetailView.OrderItemView item : current.items()) {
+                add(byMenuItem, item.menuItemId(), id);
+            }
+            if (current.orderedAt() != null) {
+                add(byOrderedAt, current.orderedAt(), id);
+            }
+        } else if (!previous.status().equals(current.status())) {
+            discard(byStatus, previous.status(), id);
+        }
+        add(byStatus, current.status(), id);
+    }
+
+    /**
+     * ビューの削除をインデックスへ反映する。
+     *
+     * @param removed 削除されたビュー
+     */
+    public void remove(OrderDetailView removed) {
+        String id = removed.orderId();
+        discard(byStatus, removed.status(), id);
+        discard(byTable, removed.tableNumber(), id);
+        for (OrderDetailView.OrderItemView item : removed.items()) {
+            discard(byMenuItem, item.menuItemId(), id);
+        }
+        if (removed.orderedAt() != null) {
+            discard(byOrderedAt, removed.orderedAt(), id);
+        }
+    }
+
+    /**
+     * ステータスに該当する注文IDを取得する。
+     *
+     * @param status ステータス名
+     * @return 注文IDの集合（読み取り専用として扱うこと）
+     */
+    public Set<String> byStatus(String status) {
+        return byStatus.getOrDefault(status, Set.of());
+    }
+
+    /**
+     * テーブル番号に該当する注文IDを取得する。
+     *
+     * @param tableNumber テーブル番号
+     * @return 注文IDの集合（読み取り専用として扱うこと）
+     */
+    public Set<String> byTable(int tableNumber) {
+        return byTable.getOrDefault(tableNumber, Set.of());
+    }
+
+    /**
+     * メニュー項目を含む注文IDを取得する。
+     *
+     * @param menuItemId メニュー項目ID
+     * @return 注文IDの集合（読み取り専用として扱うこと）
+     */
+    public Set<String> byMenuItem(String menuItemId) {
+        return byMenuItem.getOrDefault(menuItemId, Set.of());
+    }
+
+    /**
+     * 注文日時が範囲内の注文IDの集合群を取得する。
+     *
+     * @param from 開始日時（含む、{@code null} の場合は下限なし）
+     * @param to   終了日時（含まない、{@code null} の場合は上限なし）
+     * @return 注文日時ごとの注文IDの集合（注文日時の昇順）
+     */
+    public Collection<Set<String>> byOrderedAt(LocalDateTime from, LocalDateTime to) {
+        NavigableMap<LocalDateTime, Set<String>> range = byOrderedAt;
+        if (from != null) {
+            range = range.tailMap(from, true);
+        }
+        if (to != null) {
+            range = range.headMap(to, false);
+        }
+        return range.values();
+    }
+
+    /**
+     * 注文日時が範囲内の注文件数を見積もる。
+     *
+     * <p>範囲を先頭から数え、{@code cap} 件に達した時点で打ち切る。
+     * 他のインデックスより選択性が低いと判明した時点で数える必要がないため。</p>
+     *
+     * @param from 開始日時（含む）
+     * @param to   終了日時（含まない）
+     * @param cap  打ち切り件数
+     * @return 見積もり件数（{@code cap} 以下）
+     */
+    public long estimateOrderedAt(LocalDateTime from, LocalDateTime to, long cap) {
+        long count = 0;
+        for (Set<String> ids : byOrderedAt(from, to)) {
+            count += ids.size();
+            if (count >= cap) {
+                return cap;
+            }
+        }
+        return count;
+    }
+
+    private static <K> void add(Map<K, Set<String>> index, K key, String id) {
+        index.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(id);
+    }
+
+    private static <K> void discard(Map<K, Set<String>> index, K key, String id) {
+        Set<String> ids = index.get(key);
+        if (ids != null) {
+            ids.remove(id);
+        }
+    }
+}
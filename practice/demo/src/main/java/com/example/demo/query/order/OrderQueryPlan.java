@@ -0,0 +1,52 @@
+package com.example.demo.query.order;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 注文検索の実行計画（Query用DTO）。
+ *
+ * <p>検索がどのインデックスを起点に走査し、どのインデックスと突き合わせたかを表現する。
+ * 検索条件に対して想定どおりのインデックスが選ばれているかの確認に使用する。</p>
+ *
+ * @param accessPath    走査の起点としたアクセス経路
+ * @param estimates     候補となったアクセス経路ごとの見積もり件数
+ * @param intersected   所属判定で突き合わせたインデックス
+ * @param residual      ビューに対して評価した残りの条件
+ * @param examined      起点から取り出した注文件数
+ * @param matched       全条件に合致した注文件数
+ * @param elapsedMicros 計画から実行完了までの所要時間（マイクロ秒）
+ * @author store-order-system
+ * @since 1.1.0
+ */
+public record OrderQueryPlan(
+        AccessPath accessPath,
+        Map<AccessPath, Long> estimates,
+        List<AccessPath> intersected,
+        List<String> residual,
+        long examined,
+        long matched,
+        long elapsedMicros
+) {
+
+    /**
+     * アクセス経路。
+     */
+    public enum AccessPath {
+
+        /** ステータスインデックス */
+        STATUS_INDEX,
+
+        /** テーブル番号インデックス */
+        TABLE_INDEX,
+
+        /** メニュー項目インデックス */
+        MENU_ITEM_INDEX,
+
+        /** 注文日時インデックス（範囲走査） */
+        ORDERED_AT_INDEX,
+
+        /** 全件走査 */
+        FULL_SCAN
+    }
+}
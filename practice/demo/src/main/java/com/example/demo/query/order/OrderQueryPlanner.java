@@ -0,0 +1,211 @@
+package com.example.demo.query.order;
+
+import com.example.demo.domain.model.order.OrderStatus;
+import com.example.demo.query.order.OrderQueryPlan.AccessPath;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 注文検索のクエリプランナー。
+ *
+ * <p>検索条件ごとに利用できる二次インデックスの件数を見積もり、
+ * 最も件数の少ない（選択性の高い）インデックスを走査の起点とする。
+ * 残りのハッシュインデックスは所属判定で突き合わせ（積集合）、
+ * 起点としなかった注文日時の範囲やアクティブ判定はビューに対して評価する。
+ * 利用できるインデックスがない場合のみ全件走査となる。</p>
+ *
+ * <p>インデックスは参照時にロックを取らないため、ステータス変更の途中を観測しうる。
+ * 誤って条件外の注文を返さないよう、インデックスで判定した条件も含め
+ * 最終的には注文サマリー自体に対して条件を再評価する。
+ * 注文明細は作成後に変わらないため、メニュー項目の条件のみインデックスの判定で確定とする。</p>
+ *
+ * <p>注文日時インデックスの見積もりは範囲を数え上げる必要があるため、
+ * 他の候補の最小件数に達した時点で打ち切る。</p>
+ *
+ * @author store-order-system
+ * @since 1.1.0
+ * @see OrderIndexes
+ */
+public class OrderQueryPlanner {
+
+    private final OrderIndexes indexes;
+    private final Map<String, OrderSummary> summaries;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param indexes   二次インデックス
+     * @param summaries 注文IDをキーとした注文サマリー
+     */
+    public OrderQueryPlanner(OrderIndexes indexes, Map<String, OrderSummary> summaries) {
+        this.indexes = indexes;
+        this.summaries = summaries;
+    }
+
+    /**
+     * 検索条件から実行計画を立てる。
+     *
+     * @param criteria 検索条件
+     * @return 計画済みの検索
+     */
+    public PlannedQuery plan(OrderSearchCriteria criteria) {
+        long startedAt = System.nanoTime();
+
+        Map<AccessPath, Set<String>> candidates = new EnumMap<>(AccessPath.class);
+        if (criteria.status() != null) {
+            candidates.put(AccessPath.STATUS_INDEX, indexes.byStatus(criteria.status()));
+        }
+        if (criteria.tableNumber() != null) {
+            candidates.put(AccessPath.TABLE_INDEX, indexes.byTable(criteria.tableNumber()));
+        }
+        if (criteria.menuItemId() != null) {
+            candidates.put(AccessPath.MENU_ITEM_INDEX, indexes.byMenuItem(criteria.menuItemId()));
+        }
+
+        Map<AccessPath, Long> estimates = new EnumMap<>(AccessPath.class);
+        AccessPath accessPath = AccessPath.FULL_SCAN;
+        long smallest = summaries.size();
+        estimates.put(AccessPath.FULL_SCAN, smallest);
+        for (Map.Entry<AccessPath, Set<String>> candidate : candidates.entrySet()) {
+            long estimate = candidate.getValue().size();
+            estimates.put(candidate.getKey(), estimate);
+            if (accessPath == AccessPath.FULL_SCAN || estimate < smallest) {
+                accessPath = candidate.getKey();
+                smallest = estimate;
+            }
+        }
+        if (criteria.hasTimeRange()) {
+            long estimate = indexes.estimateOrderedAt(criteria.from(), criteria.to(), smallest);
+            estimates.put(AccessPath.ORDERED_AT_INDEX, estimate);
+            if (accessPath == AccessPath.FULL_SCAN || estimate < smallest) {
+                accessPath = AccessPath.ORDERED_AT_INDEX;
+            }
+        }
+
+        List<AccessPath> intersected = new ArrayList<>();
+        List<Set<String>> probes = new ArrayList<>();
+        for (Map.Entry<AccessPath, Set<String>> candidate : candidates.entrySet()) {
+            if (candidate.getKey() != accessPath) {
+                intersected.add(candidate.getKey());
+                probes.add(candidate.getValue());
+            }
+        }
+
+        List<String> residual = new ArrayList<>();
+        if (criteria.hasTimeRange() && accessPath != AccessPath.ORDERED_AT_INDEX) {
+            residual.add("orderedAt");
+        }
+        if (criteria.activeOnly()) {
+            residual.add("active");
+        }
+
+        Stream<String> ids = switch (accessPath) {
+            case ORDERED_AT_INDEX -> indexes.byOrderedAt(criteria.from(), criteria.to()).stream()
+                    .flatMap(Set::stream);
+            case FULL_SCAN -> summaries.keySet().stream();
+            default -> candidates.get(accessPath).stream();
+        };
+
+        return new PlannedQuery(criteria, accessPath, estimates, intersected, probes, residual, ids, startedAt);
+    }
+
+    /**
+     * 計画済みの検索。
+     *
+     * <p>{@link #stream()} は一度だけ消費できる。件数の集計はストリームの消費に伴って行われるため、
+     * {@link #explain()} はストリームを消費し終えてから呼び出すこと。
+     * 1つの検索を複数スレッドから消費することは想定していない。</p>
+     */
+    public final class PlannedQuery {
+
+        private final OrderSearchCriteria criteria;
+        private final AccessPath accessPath;
+        private final Map<AccessPath, Long> estimates;
+        private final List<AccessPath> intersected;
+        private final List<Set<String>> probes;
+        private final List<String> residual;
+        private final Stream<String> ids;
+        private final long startedAt;
+        private long examined;
+        private long matched;
+
+        private PlannedQuery(OrderSearchCriteria criteria, AccessPath accessPath,
+                             Map<AccessPath, Long> estimates, List<AccessPath> intersected,
+                             List<Set<String>> probes, List<String> residual,
+                             Stream<String> ids, long startedAt) {
+            this.criteria = criteria;
+            this.accessPath = accessPath;
+            this.estimates = estimates;
+            this.intersected = intersected;
+            this.probes = probes;
+            this.residual = residual;
+            this.ids = ids;
+            this.startedAt = startedAt;
+        }
+
+        /**
+         * 条件に合致する注文サマリーを遅延評価のストリームとして取得する。
+         *
+         * @return 注文サマリーのストリーム
+         */
+        public Stream<OrderSummary> stream() {
+            return ids
+                    .filter(this::probe)
+                    .map(summaries::get)
+                    .filter(Objects::nonNull)
+                    .filter(this::matches);
+        }
+
+        /**
+         * 実行計画と実行結果の件数を取得する。
+         *
+         * @return 実行計画
+         */
+        public OrderQueryPlan explain() {
+            return new OrderQueryPlan(
+                    accessPath,
+                    Collections.unmodifiableMap(estimates),
+                    List.copyOf(intersected),
+                    List.copyOf(residual),
+                    examined,
+                    matched,
+                    TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startedAt)
+            );
+        }
+
+        private boolean probe(String orderId) {
+            examined++;
+            for (Set<String> index : probes) {
+                if (!index.contains(orderId)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean matches(OrderSummary summary) {
+            boolean match = (criteria.status() == null || summary.status().equals(criteria.status()))
+                    && (criteria.tableNumber() == null || summary.tableNumber() == criteria.tableNumber())
+                    && (!criteria.hasTimeRange() || orderedWithin(summary))
+                    && (!criteria.activeOnly() || OrderStatus.valueOf(summary.status()).isActive());
+            if (match) {
+                matched++;
+            }
+            return match;
+        }
+
+        private boolean orderedWithin(OrderSummary summary) {
+            return summary.orderedAt() != null
+                    && (criteria.from() == null || !summary.orderedAt().isBefore(criteria.from()))
+                    && (criteria.to() == null || summary.orderedAt().isBefore(criteria.to()));
+        }
+    }
+}
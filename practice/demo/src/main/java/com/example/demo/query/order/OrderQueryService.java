@@ -1,15 +1,17 @@
 package com.example.demo.query.order;
 
-import com.example.demo.domain.model.order.Order;
+import com.example.demo.common.fields.FieldSelector;
 import com.example.demo.domain.model.order.OrderId;
 import com.example.demo.domain.model.order.OrderRepository;
 import com.example.demo.domain.model.order.OrderStatus;
-import com.example.demo.domain.type.TableNumber;
 import org.springframework.stereotype.Service;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * 注文クエリサービス（Query側）。
@@ -18,11 +20,19 @@ import java.util.stream.Collectors;
  * CQRSのQuery側として、読み取り専用のDTOを返却する。
  * ドメインモデルを直接返さず、Queryに特化したビュー用DTOに変換して返す。</p>
  *
+ * <p>注文サマリー・注文詳細は {@link OrderViewProjection} が書き込み時に組み立てた
+ * ビューを参照するため、参照時に金額計算や変換は行わない。
+ * 絞り込みは読み取りモデルの二次インデックスを使用し、全件走査を避ける。</p>
+ *
  * <h3>責務</h3>
  * <ul>
  *   <li>注文一覧の取得（フィルタリング対応）</li>
+ *   <li>複合条件による注文検索（実行計画の参照対応）</li>
  *   <li>注文詳細の取得</li>
- *   <li>ドメインモデルからQuery用DTOへの変換</li>
+ *   <li>シーケンス番号以降の差分取得（差分同期）</li>
+ *   <li>ステータス別・テーブル別の注文件数の取得</li>
+ *   <li>読み取りモデルのバージョン参照・再構築</li>
+ *   <li>部分レスポンス（{@code fields=}）の項目選択</li>
  * </ul>
  *
  * @author store-order-system
@@ -33,15 +43,43 @@ import java.util.stream.Collectors;
 @Service
 public class OrderQueryService {
 
+    /** 注文サマリーの選択可能な項目 */
+    private static final FieldSelector<OrderSummary> SUMMARY_FIELDS = FieldSelector.<OrderSummary>builder()
+            .field("orderId", OrderSummary::orderId)
+            .field("tableNumber", OrderSummary::tableNumber)
+            .field("status", OrderSummary::status)
+            .field("statusDisplayName", OrderSummary::statusDisplayName)
+            .field("totalAmount", OrderSummary::totalAmount)
+            .field("totalAmountWithTax", OrderSummary::totalAmountWithTax)
+            .field("itemCount", OrderSummary::itemCount)
+            .field("orderedAt", OrderSummary::orderedAt)
+            .build();
+
+    /** 注文詳細ビューの選択可能な項目 */
+    private static final FieldSelector<OrderDetailView> DETAIL_FIELDS = FieldSelector.<OrderDetailView>builder()
+            .field("orderId", OrderDetailView::orderId)
+            .field("tableNumber", OrderDetailView::tableNumber)
+            .field("status", OrderDetailView::status)
+            .field("statusDisplayName", OrderDetailView::statusDisplayName)
+            .field("items", OrderDetailView::items)
+            .field("totalAmount", OrderDetailView::totalAmount)
+            .field("totalAmountWithTax", OrderDetailView::totalAmountWithTax)
+            .field("orderedAt", OrderDetailView::orderedAt)
+            .build();
+
     private final OrderRepository orderRepository;
+    private final OrderViewProjection projection;
 
     /**
      * コンストラクタ。
      *
      * @param orderRepository 注文リポジトリ
+     * @param projection      注文ビューの投影（読み取りモデル）
      */
-    public OrderQueryService(OrderRepository orderRepository) {
+    public OrderQueryService(OrderRepository orderRepository,
+                             OrderViewProjection projection) {
         this.orderRepository = orderRepository;
+        this.projection = projection;
     }
 
     /**
@@ -50,34 +88,64 @@ public class OrderQueryService {
      * @return 注文サマリー一覧
      */
     public List<OrderSummary> findAllOrders() {
-        return orderRepository.findAll().stream()
-                .map(this::toSummary)
-                .collect(Collectors.toList());
+        return List.copyOf(projection.summaries());
     }
 
     /**
-     * ステータスで絞り込んだ注文サマリー一覧を取得する。
+     * ステータス・テーブル番号で絞り込んだ注文サマリー一覧を取得する。
      *
-     * @param status 注文ステータス
+     * <p>両方を指定した場合は両方の条件で絞り込む。
+     * テーブル番号のみを指定した場合はアクティブな注文に限定する。
+     * いずれも指定しない場合は全注文を返す。</p>
+     *
+     * @param status      ステータスフィルタ（任意）
+     * @param tableNumber テーブル番号フィルタ（任意）
      * @return 該当する注文サマリー一覧
+     * @throws IllegalArgumentException ステータスまたはテーブル番号が不正な場合
+     */
+    public List<OrderSummary> findOrders(String status, Integer tableNumber) {
+        return streamOrders(status, tableNumber).collect(Collectors.toList());
+    }
+
+    /**
+     * 複合条件で注文を検索する。
+     *
+     * <p>ステータス・テーブル番号・メニュー項目・注文日時の二次インデックスのうち、
+     * 最も件数の少ないものを起点に走査し、残りの条件を突き合わせる。
+     * {@code explain} を指定すると、選ばれたアクセス経路・各インデックスの見積もり件数・
+     * 走査件数・所要時間を実行計画として結果に含める。</p>
+     *
+     * @param criteria 検索条件
+     * @param explain  実行計画を含めるかどうか
+     * @return 注文検索結果
      */
-    public List<OrderSummary> findOrdersByStatus(String status) {
-        OrderStatus orderStatus = OrderStatus.valueOf(status);
-        return orderRepository.findByStatus(orderStatus).stream()
-                .map(this::toSummary)
-                .collect(Collectors.toList());
+    public OrderSearchResult search(OrderSearchCriteria criteria, boolean explain) {
+        OrderQueryPlanner.PlannedQuery query = projection.plan(criteria);
+        List<OrderSummary> orders = query.stream().collect(Collectors.toList());
+        return new OrderSearchResult(orders, explain ? query.explain() : null);
     }
 
     /**
-     * テーブル番号でアクティブな注文サマリー一覧を取得する。
+     * 注文サマリーを遅延評価のストリームとして取得する。
      *
-     * @param tableNumber テーブル番号
-     * @return アクティブな注文サマリー一覧
+     * <p>一覧をメモリ上に構築せず、終端操作の時点で読み取りモデルを走査するため、
+     * 件数に関わらずヒープ使用量が一定になる。大量件数のストリーミング出力で使用する。
+     * 絞り込み条件は {@link #findOrders(String, Integer)} と同じ。
+     * 条件の検証は呼び出し時点で行われる。</p>
+     *
+     * @param status      ステータスフィルタ（任意）
+     * @param tableNumber テーブル番号フィルタ（任意、ステータス未指定時はアクティブな注文のみ）
+     * @return 注文サマリーのストリーム
+     * @throws IllegalArgumentException ステータスまたはテーブル番号が不正な場合
      */
-    public List<OrderSummary> findActiveOrdersByTable(int tableNumber) {
-        return orderRepository.findActiveByTableNumber(TableNumber.of(tableNumber)).stream()
-                .map(this::toSummary)
-                .collect(Collectors.toList());
+    public Stream<OrderSummary> streamOrders(String status, Integer tableNumber) {
+        if (status != null) {
+            return projection.plan(new OrderSearchCriteria(status, tableNumber, null, null, null, false)).stream();
+        }
+        if (tableNumber != null) {
+            return projection.plan(OrderSearchCriteria.activeByTable(tableNumber)).stream();
+        }
+        return projection.summaries().stream();
     }
 
     /**
@@ -87,49 +155,88 @@ public class OrderQueryService {
      * @return 注文詳細ビュー（存在しない場合は空）
      */
     public Optional<OrderDetailView> findOrderDetail(String orderId) {
-        return orderRepository.findById(OrderId.of(orderId))
-                .map(this::toDetailView);
+        return projection.findDetail(OrderId.of(orderId).getValue());
+    }
+
+    /**
+     * 注文サマリーの項目選択を生成する。
+     *
+     * <p>フロア用タブレットのように一部の項目だけを必要とするクライアント向けに、
+     * 要求された項目だけを含むマップへの変換を返す。
+     * 金額・日時の項目を要求しなければ、それらはシリアライズされない。</p>
+     *
+     * @param fields カンマ区切りの項目名（{@code null} の場合は全項目）
+     * @return 項目選択
+     * @throws IllegalArgumentException 未知の項目名が含まれる場合
+     */
+    public FieldSelector.Selection<OrderSummary> selectSummaryFields(String fields) {
+        return SUMMARY_FIELDS.select(fields);
     }
 
     /**
-     * Order集約をOrderSummaryに変換する。
+     * 注文詳細ビューの項目選択を生成する。
+     *
+     * @param fields カンマ区切りの項目名（{@code null} の場合は全項目）
+     * @return 項目選択
+     * @throws IllegalArgumentException 未知の項目名が含まれる場合
      */
-    private OrderSummary toSummary(Order order) {
-        return new OrderSummary(
-                order.getId().getValue(),
-                order.getTableNumber().getValue(),
-                order.getStatus().name(),
-                order.getStatus().getDisplayName(),
-                order.totalAmount().getAmount(),
-                order.totalAmountWithTax().getAmount(),
-                order.getItems().size(),
-                order.getOrderedAt()
-        );
+    public FieldSelector.Selection<OrderDetailView> selectDetailFields(String fields) {
+        return DETAIL_FIELDS.select(fields);
     }
 
     /**
-     * Order集約をOrderDetailViewに変換する。
+     * 指定のシーケンス番号以降に変更された注文を取得する（差分同期）。
+     *
+     * <p>注文の変更ごとに読み取りモデルのバージョンがシーケンス番号として採番される。
+     * 前回取得した {@code highWaterMark} を指定することで、それ以降の変更分だけを取得できる。
+     * 指定番号が変更ログの保持範囲外の場合は全件の再同期となる。</p>
+     *
+     * @param since 前回取得した {@code highWaterMark}（初回は0）
+     * @return 注文差分ビュー
      */
-    private OrderDetailView toDetailView(Order order) {
-        List<OrderDetailView.OrderItemView> itemViews = order.getItems().stream()
-                .map(item -> new OrderDetailView.OrderItemView(
-                        item.getMenuItemId().getValue(),
-                        item.getMenuItemName(),
-                        item.getUnitPrice().getAmount(),
-                        item.getQuantity().getValue(),
-                        item.subtotal().getAmount()
-                ))
-                .collect(Collectors.toList());
-
-        return new OrderDetailView(
-                order.getId().getValue(),
-                order.getTableNumber().getValue(),
-                order.getStatus().name(),
-                order.getStatus().getDisplayName(),
-                itemViews,
-                order.totalAmount().getAmount(),
-                order.totalAmountWithTax().getAmount(),
-                order.getOrderedAt()
-        );
+    public OrderChangesView findChangesSince(long since) {
+        return projection.changesSince(since);
+    }
+
+    /**
+     * 読み取りモデルのバージョンを取得する。
+     *
+     * <p>注文の作成・ステータス変更が読み取りモデルへ反映されるたびに増加する。
+     * クライアントは前回取得時の値と比較することで、結果の鮮度を判断できる。</p>
+     *
+     * @return 読み取りモデルのバージョン
+     */
+    public long getReadModelVersion() {
+        return projection.version();
+    }
+
+    /**
+     * 読み取りモデルを書き込み側のリポジトリから再構築する。
+     *
+     * @return 再構築後の読み取りモデルのバージョン
+     */
+    public long rebuildReadModel() {
+        return projection.rebuild();
+    }
+
+    /**
+     * ステータス別・テーブル別の注文件数を取得する。
+     *
+     * <p>リポジトリが保持する集計値を参照するため、
+     * 注文件数に依存せず定数時間で応答する。</p>
+     *
+     * @return 注文件数ビュー
+     */
+    public OrderCountsView getOrderCounts() {
+        Map<String, Long> byStatus = new LinkedHashMap<>();
+        for (OrderStatus status : OrderStatus.values()) {
+            byStatus.put(status.name(), orderRepository.countByStatus(status));
+        }
+
+        Map<Integer, Long> activeByTable = new LinkedHashMap<>();
+        orderRepository.countActiveByTableNumber()
+                .forEach((table, count) -> activeByTable.put(table.getValue(), count));
+
+        return new OrderCountsView(byStatus, activeByTable, orderRepository.countActive());
     }
 }
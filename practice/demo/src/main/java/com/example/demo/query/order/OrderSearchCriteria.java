@@ -0,0 +1,72 @@
+package com.example.demo.query.order;
+
+import com.example.demo.domain.model.menu.MenuItemId;
+import com.example.demo.domain.model.order.OrderStatus;
+import com.example.demo.domain.type.TableNumber;
+
+import java.time.LocalDateTime;
+
+/**
+ * 注文検索条件（Query用）。
+ *
+ * <p>指定された条件は全てAND結合される。{@code null} の条件は絞り込みに使用しない。
+ * 値の検証と正規化は生成時に行われるため、不正な条件では検索処理に入らない。</p>
+ *
+ * @param status      注文ステータス名
+ * @param tableNumber テーブル番号
+ * @param from        注文日時の開始（含む）
+ * @param to          注文日時の終了（含まない）
+ * @param menuItemId  含まれるメニュー項目ID
+ * @param activeOnly  アクティブな注文（提供済み・キャンセル以外）に限定するかどうか
+ * @author store-order-system
+ * @since 1.1.0
+ */
+public record OrderSearchCriteria(
+        String status,
+        Integer tableNumber,
+        LocalDateTime from,
+        LocalDateTime to,
+        String menuItemId,
+        boolean activeOnly
+) {
+
+    /**
+     * 検索条件を検証・正規化する。
+     *
+     * @throws IllegalArgumentException ステータス・テーブル番号・メニュー項目IDが不正な場合、
+     *                                  または開始日時が終了日時より後の場合
+     */
+    public OrderSearchCriteria {
+        if (status != null) {
+            status = OrderStatus.valueOf(status).name();
+        }
+        if (tableNumber != null) {
+            tableNumber = TableNumber.of(tableNumber).getValue();
+        }
+        if (menuItemId != null) {
+            menuItemId = MenuItemId.of(menuItemId).getValue();
+        }
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("注文日時の開始は終了以前である必要があります: " + from + " - " + to);
+        }
+    }
+
+    /**
+     * テーブル番号のアクティブな注文の検索条件を生成する。
+     *
+     * @param tableNumber テーブル番号
+     * @return 検索条件
+     */
+    public static OrderSearchCriteria activeByTable(int tableNumber) {
+        return new OrderSearchCriteria(null, tableNumber, null, null, null, true);
+    }
+
+    /**
+     * 注文日時の範囲が指定されているかどうかを判定する。
+     *
+     * @return 開始・終了のいずれかが指定されている場合 {@code true}
+     */
+    public boolean hasTimeRange() {
+        return from != null || to != null;
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.demo.query.order;
+
+import java.util.List;
+
+/**
+ * 注文検索結果（Query用DTO）。
+ *
+ * @param orders 条件に合致した注文サマリー
+ * @param plan   実行計画（要求されなかった場合は {@code null}）
+ * @author store-order-system
+ * @since 1.1.0
+ */
+public record OrderSearchResult(
+        List<OrderSummary> orders,
+        OrderQueryPlan plan
+) {
+}
@@ -0,0 +1,35 @@
+package com.example.demo.query.order;
+
+/**
+ * 注文ビュー変更イベント。
+ *
+ * <p>{@link OrderViewProjection} が注文の作成・ステータス変更を読み取りモデルへ反映した直後に発行する。
+ * 反映後のビューと投影バージョンを持つため、購読側はリポジトリや投影を再参照せずに
+ * 変更内容を配信できる。</p>
+ *
+ * @param version        反映後の投影バージョン
+ * @param type           変更種別
+ * @param previousStatus 遷移前のステータス（注文作成時は {@code null}）
+ * @param view           反映後の注文詳細ビュー
+ * @author store-order-system
+ * @since 1.1.0
+ */
+public record OrderViewChangedEvent(
+        long version,
+        ChangeType type,
+        String previousStatus,
+        OrderDetailView view
+) {
+
+    /**
+     * 変更種別。
+     */
+    public enum ChangeType {
+
+        /** 注文作成 */
+        ORDER_PLACED,
+
+        /** ステータス変更（キャンセルを含む） */
+        STATUS_CHANGED
+    }
+}
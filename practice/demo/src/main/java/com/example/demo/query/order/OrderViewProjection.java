@@ -0,0 +1,305 @@
+package com.example.demo.query.order;
+
+import com.example.demo.common.logging.AppLogger;
+import com.example.demo.domain.model.order.Order;
+import com.example.demo.domain.model.order.OrderId;
+import com.example.demo.domain.model.order.OrderPlacedEvent;
+import com.example.demo.domain.model.order.OrderRepository;
+import com.example.demo.domain.model.order.OrderStatusChangedEvent;
+import com.example.demo.domain.type.Money;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 注文ビューの投影（CQRS読み取りモデル）。
+ *
+ * <p>注文の作成・ステータス変更イベントを購読し、{@link OrderSummary} と
+ * {@link OrderDetailView} を書き込み時に組み立てて保持する。
+ * 合計金額・税込金額・ステータス表示名の計算は書き込み時に一度だけ行われ、
+ * 参照時は組み立て済みのビューを返すだけになる。</p>
+ *
+ * <h3>バージョン</h3>
+ * <p>投影へ変更が反映されるたびに単調増加するバージョンを持つ。
+ * クライアントは取得したバージョンを比較することで、読み取り結果の鮮度を判断できる。
+ * バージョンは変更ごとのシーケンス番号として {@link OrderChangeLog} にも記録され、
+ * 指定番号以降の差分取得（{@link #changesSince(long)}）に使用される。
+ * 採番と記録は同じロックの内側で行うため、差分の取りこぼしは発生しない。</p>
+ *
+ * <p>反映のたびに {@link OrderViewChangedEvent} を発行し、
+ * 反映後のビューとバージョンを購読側（リアルタイム配信など）へ通知する。</p>
+ *
+ * <h3>二次インデックス</h3>
+ * <p>ステータス・テーブル番号・メニュー項目・注文日時の二次インデックス（{@link OrderIndexes}）を
+ * ビューと同じ書き込みロックの内側で更新する。複合条件の検索（{@link #plan(OrderSearchCriteria)}）は
+ * {@link OrderQueryPlanner} が最も選択性の高いインデックスを選んで実行する。</p>
+ *
+ * <h3>再構築</h3>
+ * <p>{@link #rebuild()} により書き込み側のリポジトリから全ビューを作り直せる。
+ * 起動完了時にも一度実行される。再構築後は個々の変更を追跡できないため、
+ * それ以前の番号からの差分要求は全件の再同期となる。</p>
+ *
+ * @author store-order-system
+ * @since 1.1.0
+ * @see OrderQueryService
+ */
+@Component
+public class OrderViewProjection {
+
+    private static final AppLogger log = AppLogger.of(OrderViewProjection.class);
+
+    private final OrderRepository orderRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /** 注文IDをキーとした注文サマリー */
+    private final Map<String, OrderSummary> summaries = new ConcurrentHashMap<>();
+
+    /** 注文IDをキーとした注文詳細ビュー */
+    private final Map<String, OrderDetailView> details = new ConcurrentHashMap<>();
+
+    /** 投影バージョン */
+    private final AtomicLong version = new AtomicLong();
+
+    /** 二次インデックス */
+    private final OrderIndexes indexes = new OrderIndexes();
+
+    /** 複合条件検索のプランナー */
+    private final OrderQueryPlanner planner = new OrderQueryPlanner(indexes, summaries);
+
+    /** 変更ログ */
+    private final OrderChangeLog changeLog;
+
+    /** ビュー・インデックスの更新と、採番・変更ログへの記録を直列化するロック */
+    private final Object writeLock = new Object();
+
+    /**
+     * コンストラクタ。
+     *
+     * @param orderRepository   注文リポジトリ（再構築時の読み込み元）
+     * @param eventPublisher    ビュー変更イベントの発行者
+     * @param changeLogCapacity 変更ログに保持する最大件数
+     */
+    public OrderViewProjection(OrderRepository orderRepository,
+                               ApplicationEventPublisher eventPublisher,
+                               @Value("${app.order.change-log.capacity:10000}") int changeLogCapacity) {
+        this.orderRepository = orderRepository;
+        this.eventPublisher = eventPublisher;
+        this.changeLog = new OrderChangeLog(changeLogCapacity);
+    }
+
+    /**
+     * 注文作成イベントを投影に反映する。
+     *
+     * @param event 注文作成イベント
+     */
+    @EventListener
+    public void on(OrderPlacedEvent event) {
+        apply(event.order(), OrderViewChangedEvent.ChangeType.ORDER_PLACED, null);
+    }
+
+    /**
+     * 注文ステータス変更イベントを投影に反映する。
+     *
+     * @param event 注文ステータス変更イベント
+     */
+    @EventListener
+    public void on(OrderStatusChangedEvent event) {
+        apply(event.order(), OrderViewChangedEvent.ChangeType.STATUS_CHANGED,
+                event.previousStatus().name());
+    }
+
+    /**
+     * 起動完了時に書き込み側から投影を構築する。
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * 書き込み側のリポジトリから投影を再構築する。
+     *
+     * <p>既存のビューを破棄せずに上書きするため、再構築中も参照は継続できる。
+     * 書き込み側に存在しなくなった注文のビューは削除される。</p>
+     *
+     * @return 再構築後のバージョン
+     */
+    public long rebuild() {
+        List<Order> orders = orderRepository.findAll();
+        Set<String> liveIds = orders.stream()
+                .map(order -> order.getId().getValue())
+                .collect(Collectors.toSet());
+
+        for (Order order : orders) {
+            synchronized (writeLock) {
+                OrderDetailView detail = toDetailView(order);
+                put(detail, toSummary(detail));
+            }
+        }
+        for (String id : Set.copyOf(summaries.keySet())) {
+            if (!liveIds.contains(id) && orderRepository.findById(OrderId.of(id)).isEmpty()) {
+                synchronized (writeLock) {
+                    summaries.remove(id);
+                    OrderDetailView removed = details.remove(id);
+                    if (removed != null) {
+                        indexes.remove(removed);
+                    }
+                }
+            }
+        }
+
+        long rebuilt;
+        synchronized (writeLock) {
+            rebuilt = version.incrementAndGet();
+            changeLog.reset(rebuilt);
+        }
+        log.info("注文ビューの投影を再構築しました: 件数={}, バージョン={}", orders.size(), rebuilt);
+        return rebuilt;
+    }
+
+    /**
+     * 全注文サマリーを取得する。
+     *
+     * @return 注文サマリー（読み取り専用）
+     */
+    public Collection<OrderSummary> summaries() {
+        return Collections.unmodifiableCollection(summaries.values());
+    }
+
+    /**
+     * 注文詳細ビューを取得する。
+     *
+     * @param orderId 注文ID
+     * @return 注文詳細ビュー（存在しない場合は空）
+     */
+    public Optional<OrderDetailView> findDetail(String orderId) {
+        return Optional.ofNullable(details.get(orderId));
+    }
+
+    /**
+     * 指定のシーケンス番号より後に変更された注文サマリーを取得する。
+     *
+     * <p>変更ログの保持範囲外の番号が指定された場合は、全注文を全件再同期として返す。</p>
+     *
+     * @param since 基準となるシーケンス番号
+     * @return 注文差分ビュー
+     */
+    public OrderChangesView changesSince(long since) {
+        OrderChangeLog.ChangeSet changes;
+        synchronized (writeLock) {
+            changes = changeLog.changesSince(since);
+        }
+
+        if (changes.requiresFullResync()) {
+            return new OrderChangesView(since, changes.highWaterMark(), true,
+                    List.copyOf(summaries.values()));
+        }
+        List<OrderSummary> changed = changes.orderIds().stream()
+                .map(summaries::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        return new OrderChangesView(since, changes.highWaterMark(), false, changed);
+    }
+
+    /**
+     * 複合条件の検索を計画する。
+     *
+     * <p>検索は返却されたストリームの消費時に、ロックを取らずに実行される。</p>
+     *
+     * @param criteria 検索条件
+     * @return 計画済みの検索
+     */
+    public OrderQueryPlanner.PlannedQuery plan(OrderSearchCriteria criteria) {
+        return planner.plan(criteria);
+    }
+
+    /**
+     * 現在の投影バージョンを取得する。
+     *
+     * @return 投影バージョン
+     */
+    public long version() {
+        return version.get();
+    }
+
+    /**
+     * 注文の現在の状態を投影に反映する。
+     *
+     * <p>イベントが運ぶ {@link Order} は共有の可変オブジェクトのため、ビューは書き込みロックの中で組み立てる。
+     * 同じ注文の変更のリスナーが前後して完了しても、後から反映した側がその時点の最新の状態を書き込むため、
+     * 古い状態のビューで上書きされることはない。</p>
+     */
+    private void apply(Order order, OrderViewChangedEvent.ChangeType type, String previousStatus) {
+        OrderDetailView detail;
+        long applied;
+        synchronized (writeLock) {
+            detail = toDetailView(order);
+            put(detail, toSummary(detail));
+            applied = version.incrementAndGet();
+            changeLog.append(applied, detail.orderId());
+        }
+        eventPublisher.publishEvent(new OrderViewChangedEvent(applied, type, previousStatus, detail));
+    }
+
+    private void put(OrderDetailView detail, OrderSummary summary) {
+        summaries.put(detail.orderId(), summary);
+        indexes.update(details.put(detail.orderId(), detail), detail);
+    }
+
+    /**
+     * 注文詳細ビューからOrderSummaryを組み立てる（金額は再計算しない）。
+     */
+    private OrderSummary toSummary(OrderDetailView detail) {
+        return new OrderSummary(
+                detail.orderId(),
+                detail.tableNumber(),
+                detail.status(),
+                detail.statusDisplayName(),
+                detail.totalAmount(),
+                detail.totalAmountWithTax(),
+                detail.items().size(),
+                detail.orderedAt()
+        );
+    }
+
+    /**
+     * Order集約をOrderDetailViewに変換する。
+     */
+    private OrderDetailView toDetailView(Order order) {
+        List<OrderDetailView.OrderItemView> itemViews = order.getItems().stream()
+                .map(item -> new OrderDetailView.OrderItemView(
+                        item.getMenuItemId().getValue(),
+                        item.getMenuItemName(),
+                        item.getUnitPrice().getAmount(),
+                        item.getPriceVersion(),
+                        item.getQuantity().getValue(),
+                        item.subtotal().getAmount()
+                ))
+                .collect(Collectors.toList());
+        Money total = order.totalAmount();
+
+        return new OrderDetailView(
+                order.getId().getValue(),
+                order.getTableNumber().getValue(),
+                order.getStatus().name(),
+                order.getStatus().getDisplayName(),
+                itemViews,
+                total.getAmount(),
+                total.withTax().getAmount(),
+                order.getOrderedAt()
+        );
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.demo.query.sales;
+
+import java.math.BigDecimal;
+
+/**
+ * カテゴリ別売上ビュー（Query用DTO）。
+ *
+ * @param categoryName カテゴリ表示名
+ * @param orderCount   当該カテゴリの明細を含む提供済み注文数
+ * @param quantity     提供数量の合計
+ * @param revenue      売上（税抜）
+ * @author store-order-system
+ * @since 1.1.0
+ */
+public record CategorySalesView(
+        String categoryName,
+        long orderCount,
+        long quantity,
+        BigDecimal revenue
+) {
+}
@@ -0,0 +1,32 @@
+package com.example.demo.query.sales;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 売上集計ビュー（Query用DTO）。
+ *
+ * <p>1つの集計期間（1時間・1日、またはレポート全体）の売上を表現する。
+ * 売上は提供済み（SERVED）の注文のみを対象とし、キャンセルは件数のみ集計する。</p>
+ *
+ * @param periodStart      集計期間の開始日時
+ * @param orderCount       提供済み注文数
+ * @param cancelledCount   キャンセル注文数
+ * @param revenue          売上（税抜）
+ * @param revenueWithTax   売上（税込）
+ * @param averageTicket    客単価（税抜、提供済み注文1件あたりの売上）
+ * @param byCategory       カテゴリ名をキーとしたカテゴリ別売上
+ * @author store-order-system
+ * @since 1.1.0
+ */
+public record SalesBucketView(
+        LocalDateTime periodStart,
+        long orderCount,
+        long cancelledCount,
+        BigDecimal revenue,
+        BigDecimal revenueWithTax,
+        BigDecimal averageTicket,
+        Map<String, CategorySalesView> byCategory
+) {
+}
@@ -0,0 +1,63 @@
+package com.example.demo.query.sales;
+
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 売上レポートクエリサービス（Query側）。
+ *
+ * <p>時間帯別・日別・カテゴリ別の売上・注文数・客単価を提供する。
+ * {@link SalesRollup} が注文の提供・キャンセル時に更新した集計バケットを合算するため、
+ * 注文リポジトリの全件走査は行わない。</p>
+ *
+ * @author store-order-system
+ * @since 1.1.0
+ * @see SalesReportView
+ */
+@Service
+public class SalesReportQueryService {
+
+    /** 1回のレポートで指定できる最大日数 */
+    public static final int MAX_RANGE_DAYS = 366;
+
+    private final SalesRollup salesRollup;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param salesRollup 売上の事前集計
+     */
+    public SalesReportQueryService(SalesRollup salesRollup) {
+        this.salesRollup = salesRollup;
+    }
+
+    /**
+     * 売上レポートを取得する。
+     *
+     * @param granularity 集計単位
+     * @param from        対象期間の開始日（含む）
+     * @param to          対象期間の終了日（含む）
+     * @return 売上レポートビュー
+     * @throws IllegalArgumentException 開始日が終了日より後の場合、または期間が上限を超える場合
+     */
+    public SalesReportView getSalesReport(SalesReportView.Granularity granularity,
+                                          LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("開始日は終了日以前である必要があります: " + from + " - " + to);
+        }
+        if (from.plusDays(MAX_RANGE_DAYS).isBefore(to)) {
+            throw new IllegalArgumentException("レポートの期間は" + MAX_RANGE_DAYS + "日以内で指定してください");
+        }
+
+        LocalDateTime start = from.atStartOfDay();
+        LocalDateTime end = to.plusDays(1).atStartOfDay();
+        List<SalesBucketView> buckets = switch (granularity) {
+            case HOUR -> salesRollup.hourly(start, end);
+            case DAY -> salesRollup.daily(from, to);
+        };
+        return new SalesReportView(granularity, from, to, salesRollup.total(start, end), buckets);
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.demo.query.sales;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 売上レポートビュー（Query用DTO）。
+ *
+ * <p>売上のない期間の集計は {@code buckets} に含まれない。</p>
+ *
+ * @param granularity 集計単位
+ * @param from        対象期間の開始日（含む）
+ * @param to          対象期間の終了日（含む）
+ * @param total       対象期間全体の集計
+ * @param buckets     集計単位ごとの集計（期間の昇順）
+ * @author store-order-system
+ * @since 1.1.0
+ */
+public record SalesReportView(
+        Granularity granularity,
+        LocalDate from,
+        LocalDate to,
+        SalesBucketView total,
+        List<SalesBucketView> buckets
+) {
+
+    /**
+     * 集計単位。
+     */
+    public enum Granularity {
+
+        /** 1時間単位 */
+        HOUR,
+
+        /** 1日単位 */
+        DAY
+    }
+}
@@ -0,0 +1,230 @@
+package com.example.demo.query.sales;
+
+import com.example.demo.domain.model.menu.MenuCategory;
+import com.example.demo.domain.model.menu.MenuItem;
+import com.example.demo.domain.model.menu.MenuItemId;
+import com.example.demo.domain.model.menu.MenuItemRepository;
+import com.example.demo.domain.model.order.Order;
+import com.example.demo.domain.model.order.OrderItem;
+import com.example.demo.domain.model.order.OrderStatus;
+import com.example.demo.domain.model.order.OrderStatusChangedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 売上の事前集計（ロールアップ）。
+ *
+ * <p>注文が提供済み（SERVED）またはキャンセル（CANCELLED）に遷移した時点で、
+ * 遷移日時の属する1時間単位の集計バケットへ加算する。
+ * レポートは集計済みのバケットを合算するだけで組み立てられるため、
+ * 注文件数に依存せず、対象期間のバケット数（最大で日数×24）に比例した時間で応答する。</p>
+ *
+ * <p>集計は注文リポジトリを参照しないため、注文が削除・アーカイブされた後も
+ * 集計済みの売上はレポートに残る。カテゴリは遷移時点のメニュー項目から解決し、
+ * メニュー項目が削除済みの場合は {@value #UNKNOWN_CATEGORY} として集計する。</p>
+ *
+ * <p>1日単位の集計は1時間単位のバケットを日付ごとに合算して求める。</p>
+ *
+ * @author store-order-system
+ * @since 1.1.0
+ * @see SalesReportQueryService
+ */
+@Component
+public class SalesRollup {
+
+    /** カテゴリを解決できなかった明細の集計キー */
+    public static final String UNKNOWN_CATEGORY = "UNKNOWN";
+
+    private final MenuItemRepository menuItemRepository;
+
+    /** 1時間単位の集計バケット（キーは時の開始日時） */
+    private final NavigableMap<LocalDateTime, Totals> hourly = new ConcurrentSkipListMap<>();
+
+    /**
+     * コンストラクタ。
+     *
+     * @param menuItemRepository メニュー項目リポジトリ（カテゴリの解決に使用）
+     */
+    public SalesRollup(MenuItemRepository menuItemRepository) {
+        this.menuItemRepository = menuItemRepository;
+    }
+
+    /**
+     * 注文ステータス変更イベントを集計に反映する。
+     *
+     * <p>提供済み・キャンセルへの遷移のみを対象とする。いずれも終端のステータスのため、
+     * 1つの注文が二重に集計されることはない。</p>
+     *
+     * @param event 注文ステータス変更イベント
+     */
+    @EventListener
+    public void on(OrderStatusChangedEvent event) {
+        if (event.newStatus() == OrderStatus.SERVED) {
+            bucket(event.occurredAt()).addServed(event.order(), categoriesOf(event.order()));
+        } else if (event.newStatus() == OrderStatus.CANCELLED) {
+            bucket(event.occurredAt()).addCancelled();
+        }
+    }
+
+    /**
+     * 1時間単位の集計を取得する。
+     *
+     * @param from 開始日時（含む）
+     * @param to   終了日時（含まない）
+     * @return 1時間単位の集計（時の昇順、売上のない時間帯は含まない）
+     */
+    public List<SalesBucketView> hourly(LocalDateTime from, LocalDateTime to) {
+        List<SalesBucketView> views = new ArrayList<>();
+        hourly.subMap(from, true, to, false)
+                .forEach((hour, totals) -> views.add(totals.snapshot().toView(hour)));
+        return views;
+    }
+
+    /**
+     * 1日単位の集計を取得する。
+     *
+     * @param from 開始日（含む）
+     * @param to   終了日（含む）
+     * @return 1日単位の集計（日付の昇順、売上のない日は含まない）
+     */
+    public List<SalesBucketView> daily(LocalDate from, LocalDate to) {
+        Map<LocalDate, Totals> days = new TreeMap<>();
+        hourly.subMap(from.atStartOfDay(), true, to.plusDays(1).atStartOfDay(), false)
+                .forEach((hour, totals) -> days
+                        .computeIfAbsent(hour.toLocalDate(), day -> new Totals())
+                        .merge(totals.snapshot()));
+
+        List<SalesBucketView> views = new ArrayList<>();
+        days.forEach((day, totals) -> views.add(totals.toView(day.atStartOfDay())));
+        return views;
+    }
+
+    /**
+     * 期間全体の集計を取得する。
+     *
+     * @param from 開始日時（含む）
+     * @param to   終了日時（含まない）
+     * @return 期間全体の集計
+     */
+    public SalesBucketView total(LocalDateTime from, LocalDateTime to) {
+        Totals total = new Totals();
+        hourly.subMap(from, true, to, false).values()
+                .forEach(totals -> total.merge(totals.snapshot()));
+        return total.toView(from);
+    }
+
+    private Totals bucket(LocalDateTime occurredAt) {
+        return hourly.computeIfAbsent(occurredAt.truncatedTo(ChronoUnit.HOURS), hour -> new Totals());
+    }
+
+    /**
+     * 注文明細のメニュー項目IDごとにカテゴリを解決する。
+     */
+    private Map<MenuItemId, String> categoriesOf(Order order) {
+        Map<MenuItemId, String> categories = new HashMap<>();
+        for (OrderItem item : order.getItems()) {
+            categories.computeIfAbsent(item.getMenuItemId(), id -> menuItemRepository.findById(id)
+                    .map(MenuItem::getCategory)
+                    .map(MenuCategory::name)
+                    .orElse(UNKNOWN_CATEGORY));
+        }
+        return categories;
+    }
+
+    private static String displayNameOf(String category) {
+        return category.equals(UNKNOWN_CATEGORY) ? "不明" : MenuCategory.valueOf(category).getDisplayName();
+    }
+
+    /**
+     * 集計値。バケットとして使用する場合の更新・複製はこのオブジェクトのロック内で行う。
+     */
+    private static final class Totals {
+
+        private long orderCount;
+        private long cancelledCount;
+        private BigDecimal revenue = BigDecimal.ZERO;
+        private BigDecimal revenueWithTax = BigDecimal.ZERO;
+        private final Map<String, CategoryTotals> byCategory = new TreeMap<>();
+
+        synchronized void addServed(Order order, Map<MenuItemId, String> categories) {
+            orderCount++;
+            revenue = revenue.add(order.totalAmount().getAmount());
+            revenueWithTax = revenueWithTax.add(order.totalAmount().withTax().getAmount());
+
+            Map<String, CategoryTotals> lines = new HashMap<>();
+            for (OrderItem item : order.getItems()) {
+                CategoryTotals line = lines.computeIfAbsent(
+                        categories.get(item.getMenuItemId()), category -> new CategoryTotals());
+                line.quantity += item.getQuantity().getValue();
+                line.revenue = line.revenue.add(item.subtotal().getAmount());
+            }
+            lines.forEach((category, line) -> {
+                line.orderCount = 1;
+                byCategory.computeIfAbsent(category, key -> new CategoryTotals()).merge(line);
+            });
+        }
+
+        synchronized void addCancelled() {
+            cancelledCount++;
+        }
+
+        synchronized Totals snapshot() {
+            Totals copy = new Totals();
+            copy.merge(this);
+            return copy;
+        }
+
+        /**
+         * 他の集計値を加算する。引数はロックの外で共有されていない複製であること。
+         */
+        void merge(Totals other) {
+            orderCount += other.orderCount;
+            cancelledCount += other.cancelledCount;
+            revenue = revenue.add(other.revenue);
+            revenueWithTax = revenueWithTax.add(other.revenueWithTax);
+            other.byCategory.forEach((category, line) ->
+                    byCategory.computeIfAbsent(category, key -> new CategoryTotals()).merge(line));
+        }
+
+        SalesBucketView toView(LocalDateTime periodStart) {
+            BigDecimal averageTicket = orderCount == 0
+                    ? BigDecimal.ZERO
+                    : revenue.divide(BigDecimal.valueOf(orderCount), 2, RoundingMode.HALF_UP);
+            Map<String, CategorySalesView> categories = new LinkedHashMap<>();
+            byCategory.forEach((category, line) -> categories.put(category, new CategorySalesView(
+                    displayNameOf(category), line.orderCount, line.quantity, line.revenue)));
+            return new SalesBucketView(periodStart, orderCount, cancelledCount,
+                    revenue, revenueWithTax, averageTicket, categories);
+        }
+    }
+
+    /**
+     * カテゴリ別の集計値。
+     */
+    private static final class CategoryTotals {
+
+        private long orderCount;
+        private long quantity;
+        private BigDecimal revenue = BigDecimal.ZERO;
+
+        void merge(CategoryTotals other) {
+            orderCount += other.orderCount;
+            quantity += other.quantity;
+            revenue = revenue.add(other.revenue);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.demo.webapi;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * バイナリ形式のコンテントネゴシエーション設定クラス。
+ *
+ * <p>{@code Accept: application/cbor} または {@code Accept: application/x-jackson-smile} を
+ * 指定したリクエストに対し、{@code ResponseEntity} で返すビュー（注文一覧・注文詳細など）を
+ * バイナリ形式でシリアライズする。JSONのコンバータより後ろに登録するため、
+ * {@code Accept} の指定がない場合・ワイルドカードの場合は従来どおりJSONとなる。</p>
+ *
+ * <p>ライブラリが存在する場合にSpringが既定で登録するCBOR/Smileのコンバータは、
+ * {@link ResponseFormats} のObjectMapper（JSONと同じ設定）を使うものに置き換える。</p>
+ *
+ * @author store-order-system
+ * @since 1.1.0
+ */
+@Configuration
+public class BinaryFormatConfig implements WebMvcConfigurer {
+
+    private final ResponseFormats responseFormats;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param responseFormats レスポンス形式の定義
+     */
+    public BinaryFormatConfig(ResponseFormats responseFormats) {
+        this.responseFormats = responseFormats;
+    }
+
+    /**
+     * CBOR・Smile のメッセージコンバータを登録する。
+     *
+     * @param converters 登録済みのメッセージコンバータ
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.removeIf(converter -> converter instanceof MappingJackson2CborHttpMessageConverter
+                || converter instanceof MappingJackson2SmileHttpMessageConverter);
+        converters.add(new MappingJackson2CborHttpMessageConverter(
+                responseFormats.mapper(ResponseFormats.Format.CBOR)));
+        converters.add(new MappingJackson2SmileHttpMessageConverter(
+                responseFormats.mapper(ResponseFormats.Format.SMILE)));
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.demo.webapi;
 
+import com.example.demo.common.jfr.ExceptionHandledJfrEvent;
 import com.example.demo.common.logging.AppLogger;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -47,6 +48,7 @@ public class GlobalExceptionHandler {
         body.put("message", errors);
 
         log.warn("バリデーションエラー: {}", errors);
+        ExceptionHandledJfrEvent.emit(ex, HttpStatus.BAD_REQUEST.value());
         return ResponseEntity.badRequest().body(body);
     }
 
@@ -67,6 +69,7 @@ public class GlobalExceptionHandler {
         body.put("message", ex.getMessage());
 
         log.warn("リクエストエラー: {}", ex.getMessage());
+        ExceptionHandledJfrEvent.emit(ex, HttpStatus.BAD_REQUEST.value());
         return ResponseEntity.badRequest().body(body);
     }
 
@@ -87,6 +90,7 @@ public class GlobalExceptionHandler {
         body.put("message", ex.getMessage());
 
         log.warn("状態遷移エラー: {}", ex.getMessage());
+        ExceptionHandledJfrEvent.emit(ex, HttpStatus.CONFLICT.value());
         return ResponseEntity.status(HttpStatus.CONFLICT).body(body);
     }
 }
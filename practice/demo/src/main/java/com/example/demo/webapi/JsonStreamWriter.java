@@ -0,0 +1,110 @@
+package com.example.demo.webapi;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * JSONストリーミング出力コンポーネント。
+ *
+ * <p>要素を1件ずつレスポンスストリームへ直接書き出す {@link StreamingResponseBody} を生成する。
+ * 一覧全体をメモリ上に構築しないため、件数に関わらずヒープ使用量が一定になる。</p>
+ *
+ * <h3>出力形式</h3>
+ * <ul>
+ *   <li>NDJSON（{@code application/x-ndjson}）: 1行1JSONオブジェクト</li>
+ *   <li>JSON配列: 通常のJSON配列をチャンク転送で逐次出力</li>
+ * </ul>
+ *
+ * <p>最初の1件を書き出した時点でフラッシュし、最初のバイトが届くまでの時間を短く保つ。
+ * 以降はJacksonの内部バッファが一杯になるたびに下位ストリームへ書き出される。
+ * シリアライズ設定はSpringが管理する {@link ObjectMapper} に従う。</p>
+ *
+ * <h3>使用例</h3>
+ * <pre>{@code
+ * StreamingResponseBody body = jsonStreamWriter.ndjson(
+ *         orderQueryService.streamOrders(status, tableNumber));
+ * }</pre>
+ *
+ * @author store-order-system
+ * @since 1.1.0
+ */
+@Component
+public class JsonStreamWriter {
+
+    /** NDJSONのメディアタイプ */
+    public static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter writer;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param objectMapper Springが管理するObjectMapper
+     */
+    public JsonStreamWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * NDJSON形式で出力するレスポンスボディを生成する。
+     *
+     * @param source 出力する要素のストリーム（レスポンス書き出し時に消費される）
+     * @param <T>    要素の型
+     * @return ストリーミングレスポンスボディ
+     */
+    public <T> StreamingResponseBody ndjson(Stream<T> source) {
+        return out -> write(out, source, false);
+    }
+
+    /**
+     * JSON配列形式で逐次出力するレスポンスボディを生成する。
+     *
+     * @param source 出力する要素のストリーム（レスポンス書き出し時に消費される）
+     * @param <T>    要素の型
+     * @return ストリーミングレスポンスボディ
+     */
+    public <T> StreamingResponseBody jsonArray(Stream<T> source) {
+        return out -> write(out, source, true);
+    }
+
+    private <T> void write(OutputStream out, Stream<T> source, boolean array)
+            throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+            if (array) {
+                generator.writeStartArray();
+            } else {
+                generator.setRootValueSeparator(null);
+            }
+
+            long written = 0;
+            try (source) {
+                Iterator<T> elements = source.iterator();
+                while (elements.hasNext()) {
+                    writer.writeValue(generator, elements.next());
+                    if (!array) {
+                        generator.writeRaw('\n');
+                    }
+                    if (written++ == 0) {
+                        generator.flush();
+                    }
+                }
+            }
+
+            if (array) {
+                generator.writeEndArray();
+            }
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.demo.webapi;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * レスポンス形式（JSON・バイナリ形式）の定義。
+ *
+ * <p>注文一覧・メニュー一覧の大量取得向けに、JSONに加えて
+ * CBOR（{@code application/cbor}）と Smile（{@code application/x-jackson-smile}）を提供する。
+ * いずれもJSONと同じデータモデルのバイナリ表現であり、既存のレコード（ビュー）が
+ * そのままスキーマとなるため、形式ごとのスキーマ定義は持たない。</p>
+ *
+ * <p>各形式の {@link ObjectMapper} はSpringが管理するJSONの {@link ObjectMapper} を
+ * {@link ObjectMapper#copyWith(com.fasterxml.jackson.core.JsonFactory)} で複製して生成するため、
+ * 日時の表現・モジュール構成はJSONと同一になる。複製元の設定は変更しない。</p>
+ *
+ * <p>{@code Accept} ヘッダの指定がない場合・ワイルドカードの場合はJSONを既定とする。</p>
+ *
+ * @author store-order-system
+ * @since 1.1.0
+ * @see BinaryFormatConfig
+ */
+@Component
+public class ResponseFormats {
+
+    /** Smile のメディアタイプ */
+    public static final MediaType APPLICATION_SMILE = new MediaType("application", "x-jackson-smile");
+
+    private final Map<Format, ObjectMapper> mappers = new EnumMap<>(Format.class);
+
+    /**
+     * コンストラクタ。
+     *
+     * @param objectMapper Springが管理するObjectMapper（JSON）
+     */
+    public ResponseFormats(ObjectMapper objectMapper) {
+        mappers.put(Format.JSON, objectMapper);
+        mappers.put(Format.CBOR, objectMapper.copyWith(new CBORFactory()));
+        mappers.put(Format.SMILE, objectMapper.copyWith(new SmileFactory()));
+    }
+
+    /**
+     * 形式に対応する {@link ObjectMapper} を取得する。
+     *
+     * @param format 形式
+     * @return ObjectMapper
+     */
+    public ObjectMapper mapper(Format format) {
+        return mappers.get(format);
+    }
+
+    /**
+     * {@code Accept} ヘッダから形式を決定する。
+     *
+     * <p>品質値（{@code q}）の最も高い形式を選ぶ。同じ品質値の場合は
+     * ワイルドカードより明示された形式を優先し、それも同じ場合はJSONを優先する。
+     * 解釈できない場合・どの形式にも一致しない場合はJSONとする。</p>
+     *
+     * @param accept {@code Accept} ヘッダの値（{@code null} 可）
+     * @return 形式
+     */
+    public Format negotiate(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return Format.JSON;
+        }
+        List<MediaType> acceptedTypes;
+        try {
+            acceptedTypes = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return Format.JSON;
+        }
+
+        Format best = null;
+        double bestQuality = 0;
+        boolean bestExplicit = false;
+        for (MediaType accepted : acceptedTypes) {
+            double quality = accepted.getQualityValue();
+            if (quality <= 0) {
+                continue;
+            }
+            boolean explicit = !accepted.isWildcardType() && !accepted.isWildcardSubtype();
+            for (Format format : Format.values()) {
+                if (!accepted.isCompatibleWith(format.mediaType())) {
+                    continue;
+                }
+                if (best == null || quality > bestQuality
+                        || (quality == bestQuality && explicit && !bestExplicit)) {
+                    best = format;
+                    bestQuality = quality;
+                    bestExplicit = explicit;
+                }
+            }
+        }
+        return best != null ? best : Format.JSON;
+    }
+
+    /**
+     * レスポンス形式。
+     */
+    public enum Format {
+
+        /** JSON（既定） */
+        JSON(MediaType.APPLICATION_JSON, "json"),
+
+        /** CBOR（RFC 8949） */
+        CBOR(MediaType.APPLICATION_CBOR, "cbor"),
+
+        /** Smile（Jackson のバイナリJSON） */
+        SMILE(APPLICATION_SMILE, "smile");
+
+        private final MediaType mediaType;
+        private final String tag;
+
+        Format(MediaType mediaType, String tag) {
+            this.mediaType = mediaType;
+            this.tag = tag;
+        }
+
+        /**
+         * メディアタイプを取得する。
+         *
+         * @return メディアタイプ
+         */
+        public MediaType mediaType() {
+            return mediaType;
+        }
+
+        /**
+         * キャッシュキー・ETagに使用する短い識別子を取得する。
+         *
+         * @return 識別子（例: {@code "cbor"}）
+         */
+        public String tag() {
+            return tag;
+        }
+    }
+}
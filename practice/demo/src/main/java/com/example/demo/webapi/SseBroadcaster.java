@@ -0,0 +1,282 @@
+package com.example.demo.webapi;
+
+import com.example.demo.common.logging.AppLogger;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * Server-Sent Events の配信ハブ。
+ *
+ * <p>購読者ごとに上限付きの送信キューを持ち、発行側スレッドはキューへの投入だけを行う。
+ * 実際の送信は配信用スレッドプールが購読者単位で直列に行うため、
+ * 遅いクライアントが発行側や他の購読者を待たせることはない。</p>
+ *
+ * <h3>遅い購読者への対応</h3>
+ * <ul>
+ *   <li>{@link SlowConsumerPolicy#DISCONNECT} - キューが溢れた購読者を切断する。
+ *       クライアントは再接続後に差分を取り直す</li>
+ *   <li>{@link SlowConsumerPolicy#DROP_OLDEST} - 最も古いイベントを破棄し、
+ *       次の送信前に {@code resync} イベントで取りこぼしを通知する</li>
+ * </ul>
+ *
+ * <p>ペイロードは購読者数に関わらず1イベントにつき1回だけJSONへ変換される。
+ * 接続維持のため、一定間隔でコメント行（ハートビート）を送信する。</p>
+ *
+ * @param <T> 配信するペイロードの型
+ * @author store-order-system
+ * @since 1.1.0
+ */
+public class SseBroadcaster<T> implements AutoCloseable {
+
+    private static final AppLogger log = AppLogger.of(SseBroadcaster.class);
+
+    /** 取りこぼし通知のイベント名 */
+    public static final String RESYNC_EVENT = "resync";
+
+    /**
+     * 遅い購読者への対応方針。
+     */
+    public enum SlowConsumerPolicy {
+
+        /** キューが溢れた購読者を切断する */
+        DISCONNECT,
+
+        /** 最も古いイベントを破棄して配信を継続する */
+        DROP_OLDEST
+    }
+
+    private final String name;
+    private final ObjectMapper objectMapper;
+    private final int bufferSize;
+    private final SlowConsumerPolicy policy;
+    private final long timeoutMillis;
+    private final ScheduledExecutorService dispatcher;
+
+    /** 購読者一覧 */
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    /** 溢れにより破棄・切断した件数 */
+    private final LongAdder overflows = new LongAdder();
+
+    /**
+     * 配信ハブを生成する。
+     *
+     * @param name              配信名（ログ・スレッド名に使用）
+     * @param objectMapper      ペイロードのJSON変換に使用するObjectMapper
+     * @param bufferSize        購読者ごとの送信キュー上限
+     * @param policy            遅い購読者への対応方針
+     * @param timeout           接続のタイムアウト
+     * @param heartbeatInterval ハートビート送信間隔
+     * @param dispatcherThreads 配信用スレッド数
+     */
+    public SseBroadcaster(String name, ObjectMapper objectMapper, int bufferSize,
+                          SlowConsumerPolicy policy, Duration timeout,
+                          Duration heartbeatInterval, int dispatcherThreads) {
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("送信キュー上限は1以上である必要があります: " + bufferSize);
+        }
+        this.name = name;
+        this.objectMapper = objectMapper;
+        this.bufferSize = bufferSize;
+        this.policy = policy;
+        this.timeoutMillis = timeout.toMillis();
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.dispatcher = Executors.newScheduledThreadPool(dispatcherThreads, runnable -> {
+            Thread thread = new Thread(runnable, "sse-" + name + "-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        long heartbeatMillis = heartbeatInterval.toMillis();
+        dispatcher.scheduleAtFixedRate(this::heartbeat,
+                heartbeatMillis, heartbeatMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 購読を開始する。
+     *
+     * @param filter 配信対象とするペイロードの条件
+     * @return クライアントへ返却するエミッタ
+     */
+    public SseEmitter subscribe(Predicate<? super T> filter) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter, filter);
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(error -> subscriber.close());
+        subscribers.add(subscriber);
+        return emitter;
+    }
+
+    /**
+     * イベントを条件に合致する全購読者へ配信する。
+     *
+     * <p>呼び出し元スレッドはキューへの投入のみを行い、ネットワーク送信は待たない。</p>
+     *
+     * @param eventName イベント名
+     * @param eventId   イベントID（再接続時の {@code Last-Event-ID} に使用される）
+     * @param payload   ペイロード
+     */
+    public void publish(String eventName, String eventId, T payload) {
+        String json = null;
+        for (Subscriber subscriber : subscribers) {
+            if (!subscriber.filter.test(payload)) {
+                continue;
+            }
+            if (json == null) {
+                json = toJson(payload);
+            }
+            subscriber.offer(new Message(eventName, eventId, json));
+        }
+    }
+
+    /**
+     * 現在の購読者数を取得する。
+     *
+     * @return 購読者数
+     */
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * キュー溢れにより破棄・切断した累計件数を取得する。
+     *
+     * @return 累計件数
+     */
+    public long overflowCount() {
+        return overflows.sum();
+    }
+
+    /**
+     * 全購読者を切断し、配信用スレッドを停止する。
+     */
+    @Override
+    public void close() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.emitter.complete();
+            subscriber.close();
+        }
+        dispatcher.shutdownNow();
+    }
+
+    private void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(Message.HEARTBEAT);
+        }
+    }
+
+    private String toJson(T payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("SSEペイロードのJSON変換に失敗しました: " + name, e);
+        }
+    }
+
+    /**
+     * 送信メッセージ。
+     */
+    private record Message(String eventName, String eventId, String data) {
+
+        /** ハートビート */
+        static final Message HEARTBEAT = new Message(null, null, null);
+
+        SseEmitter.SseEventBuilder toEvent() {
+            if (this == HEARTBEAT) {
+                return SseEmitter.event().comment("heartbeat");
+            }
+            SseEmitter.SseEventBuilder event = SseEmitter.event().name(eventName).data(data);
+            return eventId != null ? event.id(eventId) : event;
+        }
+    }
+
+    /**
+     * 購読者。送信キューと送信中フラグを持ち、配信用スレッド上で直列に送信する。
+     */
+    private final class Subscriber implements Runnable {
+
+        private final SseEmitter emitter;
+        private final Predicate<? super T> filter;
+        private final BlockingQueue<Message> queue = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile boolean lagged;
+        private volatile boolean closed;
+
+        Subscriber(SseEmitter emitter, Predicate<? super T> filter) {
+            this.emitter = emitter;
+            this.filter = filter;
+        }
+
+        void offer(Message message) {
+            if (closed) {
+                return;
+            }
+            while (!queue.offer(message)) {
+                overflows.increment();
+                if (policy == SlowConsumerPolicy.DISCONNECT) {
+                    log.warn("SSE購読者の送信キューが溢れたため切断します: 配信={}, 上限={}", name, bufferSize);
+                    emitter.complete();
+                    close();
+                    return;
+                }
+                queue.poll();
+                lagged = true;
+            }
+            schedule();
+        }
+
+        void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    dispatcher.execute(this);
+                } catch (RuntimeException e) {
+                    scheduled.set(false);
+                    close();
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                Message message;
+                while (!closed && (message = queue.poll()) != null) {
+                    if (lagged) {
+                        lagged = false;
+                        emitter.send(SseEmitter.event().name(RESYNC_EVENT).data("{}"));
+                    }
+                    emitter.send(message.toEvent());
+                }
+            } catch (IOException | IllegalStateException e) {
+                close();
+            } finally {
+                scheduled.set(false);
+            }
+            if (!closed && !queue.isEmpty()) {
+                schedule();
+            }
+        }
+
+        void close() {
+            closed = true;
+            queue.clear();
+            subscribers.remove(this);
+        }
+    }
+}
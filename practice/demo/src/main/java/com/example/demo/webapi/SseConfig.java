@@ -0,0 +1,63 @@
+package com.example.demo.webapi;
+
+import com.example.demo.webapi.menu.MenuAvailabilityMessage;
+import com.example.demo.webapi.order.OrderEventMessage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Server-Sent Events 設定クラス。
+ *
+ * <p>リアルタイム配信に使用する {@link SseBroadcaster} を定義する。
+ * 送信キュー上限や遅い購読者への対応方針は {@code application.properties} の
+ * {@code app.sse.*} で変更できる。</p>
+ *
+ * @author store-order-system
+ * @since 1.1.0
+ */
+@Configuration
+public class SseConfig {
+
+    @Value("${app.sse.buffer-size:256}")
+    private int bufferSize;
+
+    @Value("${app.sse.slow-consumer-policy:DISCONNECT}")
+    private SseBroadcaster.SlowConsumerPolicy slowConsumerPolicy;
+
+    @Value("${app.sse.timeout:30m}")
+    private Duration timeout;
+
+    @Value("${app.sse.heartbeat-interval:15s}")
+    private Duration heartbeatInterval;
+
+    @Value("${app.sse.dispatcher-threads:4}")
+    private int dispatcherThreads;
+
+    /**
+     * 注文イベント配信ハブのBean。
+     *
+     * @param objectMapper Springが管理するObjectMapper
+     * @return 注文イベント配信ハブ
+     */
+    @Bean
+    public SseBroadcaster<OrderEventMessage> orderEventBroadcaster(ObjectMapper objectMapper) {
+        return new SseBroadcaster<>("orders", objectMapper, bufferSize, slowConsumerPolicy,
+                timeout, heartbeatInterval, dispatcherThreads);
+    }
+
+    /**
+     * メニュー提供可否配信ハブのBean。
+     *
+     * @param objectMapper Springが管理するObjectMapper
+     * @return メニュー提供可否配信ハブ
+     */
+    @Bean
+    public SseBroadcaster<MenuAvailabilityMessage> menuAvailabilityBroadcaster(ObjectMapper objectMapper) {
+        return new SseBroadcaster<>("menu-availability", objectMapper, bufferSize, slowConsumerPolicy,
+                timeout, heartbeatInterval, dispatcherThreads);
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.demo.webapi.accounting;
+
+import com.example.demo.common.metrics.LatencyHistogram;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * エンドポイント別のリソース消費の集計。
+ *
+ * <p>1リクエストあたりのCPU時間（マイクロ秒）と割り当てたメモリ（バイト）を、
+ * エンドポイント（HTTPメソッドとURLパターン）ごとの {@link LatencyHistogram} と合計値に記録する。
+ * 記録はロックを取らず、初めてのエンドポイントの場合に限り集計の生成を伴う。
+ * キーはURLパターンのため、パス変数の値によって件数が増えることはない。</p>
+ *
+ * @author store-order-system
+ * @since 1.1.0
+ * @see ResourceAccountingFilter
+ */
+public class EndpointResourceStats {
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * 1リクエスト分を記録する。
+     *
+     * @param endpoint       エンドポイント（例: {@code POST /api/orders}）
+     * @param cpuNanos       CPU時間（ナノ秒）
+     * @param allocatedBytes 割り当てたメモリ（バイト）
+     */
+    public void record(String endpoint, long cpuNanos, long allocatedBytes) {
+        Entry entry = entries.get(endpoint);
+        if (entry == null) {
+            entry = entries.computeIfAbsent(endpoint, e -> new Entry());
+        }
+        entry.record(Math.max(0, cpuNanos), Math.max(0, allocatedBytes));
+    }
+
+    /**
+     * リソース消費の多いエンドポイントを取得する。
+     *
+     * @param order 並び順
+     * @param limit 最大件数
+     * @return エンドポイント別の集計（多い順）
+     */
+    public List<EndpointResourceView> top(Order order, int limit) {
+        List<EndpointResourceView> views = new ArrayList<>(entries.size());
+        entries.forEach((endpoint, entry) -> views.add(entry.view(endpoint)));
+        views.sort(order.comparator.reversed().thenComparing(EndpointResourceView::endpoint));
+        return views.size() > limit ? List.copyOf(views.subList(0, limit)) : views;
+    }
+
+    /**
+     * 集計を破棄する。
+     */
+    public void reset() {
+        entries.clear();
+    }
+
+    /**
+     * 並び順。
+     */
+    public enum Order {
+
+        /** 割り当てたメモリの合計 */
+        ALLOCATED_TOTAL(Comparator.comparingLong(EndpointResourceView::allocatedBytesTotal)),
+
+        /** 1リクエストあたりの割り当てたメモリの99パーセンタイル */
+        ALLOCATED_P99(Comparator.comparingLong(view -> view.allocatedBytes().p99())),
+
+        /** CPU時間の合計 */
+        CPU_TOTAL(Comparator.comparingLong(EndpointResourceView::cpuMicrosTotal)),
+
+        /** 1リクエストあたりのCPU時間の99パーセンタイル */
+        CPU_P99(Comparator.comparingLong(view -> view.cpuMicros().p99())),
+
+        /** リクエスト数 */
+        REQUESTS(Comparator.comparingLong(EndpointResourceView::requests));
+
+        private final Comparator<EndpointResourceView> comparator;
+
+        Order(Comparator<EndpointResourceView> comparator) {
+            this.comparator = comparator;
+        }
+    }
+
+    /**
+     * 1エンドポイント分の集計。
+     */
+    private static final class Entry {
+
+        private final LatencyHistogram cpuMicros = new LatencyHistogram();
+        private final LatencyHistogram allocatedBytes = new LatencyHistogram();
+        private final LongAdder cpuNanosTotal = new LongAdder();
+        private final LongAdder allocatedBytesTotal = new LongAdder();
+
+        void record(long cpuNanos, long bytes) {
+            cpuMicros.record(cpuNanos / 1_000);
+            allocatedBytes.record(bytes);
+            cpuNanosTotal.add(cpuNanos);
+            allocatedBytesTotal.add(bytes);
+        }
+
+        EndpointResourceView view(String endpoint) {
+            LatencyHistogram.Snapshot cpu = cpuMicros.snapshot();
+            return new EndpointResourceView(endpoint, cpu.count(),
+                    allocatedBytesTotal.sum(), allocatedBytes.snapshot(),
+                    cpuNanosTotal.sum() / 1_000, cpu);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.demo.webapi.accounting;
+
+import com.example.demo.common.metrics.LatencyHistogram;
+
+/**
+ * エンドポイント別のリソース消費。
+ *
+ * <p>割り当てたメモリの分布はバイト単位、CPU時間の分布はマイクロ秒単位
+ * （{@link LatencyHistogram} の上限を超える値は上限に丸められる）。</p>
+ *
+ * @param endpoint            エンドポイント（HTTPメソッドとURLパターン）
+ * @param requests            リクエスト数
+ * @param allocatedBytesTotal 割り当てたメモリの合計（バイト）
+ * @param allocatedBytes      1リクエストあたりの割り当てたメモリの分布（バイト）
+ * @param cpuMicrosTotal      CPU時間の合計（マイクロ秒）
+ * @param cpuMicros           1リクエストあたりのCPU時間の分布（マイクロ秒）
+ * @author store-order-system
+ * @since 1.1.0
+ * @see EndpointResourceStats
+ */
+public record EndpointResourceView(
+        String endpoint,
+        long requests,
+        long allocatedBytesTotal,
+        LatencyHistogram.Snapshot allocatedBytes,
+        long cpuMicrosTotal,
+        LatencyHistogram.Snapshot cpuMicros
+) {
+}
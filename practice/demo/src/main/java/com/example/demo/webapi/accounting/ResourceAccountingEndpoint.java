@@ -0,0 +1,116 @@
+package com.example.demo.webapi.accounting;
+
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * リクエスト単位のリソース計測のActuatorエンドポイント（{@code /actuator/resources}）。
+ *
+ * <ul>
+ *   <li>{@code GET} - リソース消費の多いエンドポイント（{@code sort}, {@code limit} で並び順・件数を指定）</li>
+ *   <li>{@code POST} - 計測の有効・無効の切り替え（{@code {"enabled": true}}）</li>
+ *   <li>{@code DELETE} - 集計の破棄</li>
+ * </ul>
+ *
+ * @author store-order-system
+ * @since 1.1.0
+ * @see ResourceAccountingFilter
+ */
+@Component
+@Endpoint(id = "resources")
+public class ResourceAccountingEndpoint {
+
+    /** 既定の取得件数 */
+    private static final int DEFAULT_LIMIT = 10;
+
+    /** 取得件数の上限 */
+    private static final int MAX_LIMIT = 100;
+
+    private final ResourceAccountingFilter filter;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param filter リソース計測フィルタ
+     */
+    public ResourceAccountingEndpoint(ResourceAccountingFilter filter) {
+        this.filter = filter;
+    }
+
+    /**
+     * リソース消費の多いエンドポイントを取得する。
+     *
+     * @param sort  並び順（{@link EndpointResourceStats.Order} の名前、省略時は {@code ALLOCATED_TOTAL}）
+     * @param limit 最大件数（省略時は{@value #DEFAULT_LIMIT}件、最大{@value #MAX_LIMIT}件）
+     * @return 計測の状態とエンドポイント別の集計
+     * @throws InvalidEndpointRequestException 並び順が不正な場合（400 Bad Request）
+     */
+    @ReadOperation
+    public Report report(@Nullable String sort, @Nullable Integer limit) {
+        EndpointResourceStats.Order order = parseOrder(sort);
+        int size = limit != null ? Math.max(1, Math.min(limit, MAX_LIMIT)) : DEFAULT_LIMIT;
+        return new Report(filter.isEnabled(), filter.since(), order.name(),
+                filter.stats().top(order, size));
+    }
+
+    private static EndpointResourceStats.Order parseOrder(String sort) {
+        if (sort == null || sort.isBlank()) {
+            return EndpointResourceStats.Order.ALLOCATED_TOTAL;
+        }
+        try {
+            return EndpointResourceStats.Order.valueOf(sort.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            String message = "並び順が不正です: " + sort + "（指定可能: "
+                    + Arrays.toString(EndpointResourceStats.Order.values()) + "）";
+            throw new InvalidEndpointRequestException(message, message, e);
+        }
+    }
+
+    /**
+     * 計測の有効・無効を切り替える。
+     *
+     * <p>有効にした時点で、それまでの集計を破棄する。</p>
+     *
+     * @param enabled 有効にする場合 {@code true}
+     * @return 切り替え後の計測の状態
+     */
+    @WriteOperation
+    public Report toggle(boolean enabled) {
+        filter.setEnabled(enabled);
+        return new Report(filter.isEnabled(), filter.since(), null, List.of());
+    }
+
+    /**
+     * 集計を破棄する。
+     */
+    @DeleteOperation
+    public void reset() {
+        filter.stats().reset();
+    }
+
+    /**
+     * 計測の状態とエンドポイント別の集計。
+     *
+     * @param enabled   計測が有効かどうか
+     * @param since     集計の開始日時
+     * @param sort      並び順
+     * @param endpoints エンドポイント別の集計（多い順）
+     */
+    public record Report(
+            boolean enabled,
+            Instant since,
+            String sort,
+            List<EndpointResourceView> endpoints
+    ) {
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.demo.webapi.accounting;
+
+import com.example.demo.common.logging.AppLogger;
+import com.sun.management.ThreadMXBean;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.time.Instant;
+import java.util.Set;
+
+/**
+ * リクエスト単位のCPU時間・メモリ割り当ての計測フィルタ。
+ *
+ * <p>リクエストを処理したスレッドのCPU時間と割り当てたメモリを {@link ThreadMXBean} で
+ * 処理の前後に取得し、差分をエンドポイント別に {@link EndpointResourceStats} へ記録する。
+ * エンドポイントはHTTPメソッドとURLパターン（例: {@code PUT /api/orders/{orderId}/status}）で、
+ * どのハンドラにも一致しなかったリクエストと標準以外のHTTPメソッドは、メソッドを問わず
+ * {@code UNMAPPED} の1件にまとめる（任意のパス・メソッドで集計の件数が増えないようにする）。</p>
+ *
+ * <p>計測は実行中に切り替えられる（{@link ResourceAccountingEndpoint}）。
+ * 無効の間は {@link #shouldNotFilter(HttpServletRequest)} の判定のみで、MXBeanの呼び出しも行わない。
+ * 初期値は {@code app.accounting.enabled} で指定する。</p>
+ *
+ * <p>計測できるのはリクエストを受け付けたスレッドの処理のみ。非同期処理（SSE配信など）で
+ * 別のスレッドが行った処理や、GCなどのJVM全体の処理は含まない。</p>
+ *
+ * @author store-order-system
+ * @since 1.1.0
+ * @see EndpointResourceStats
+ */
+@Component
+public class ResourceAccountingFilter extends OncePerRequestFilter {
+
+    private static final AppLogger log = AppLogger.of(ResourceAccountingFilter.class);
+
+    /** どのハンドラにも一致しなかったリクエストのエンドポイント名 */
+    static final String UNMAPPED = "UNMAPPED";
+
+    /** エンドポイント名に使用するHTTPメソッド */
+    private static final Set<String> KNOWN_METHODS =
+            Set.of("GET", "HEAD", "POST", "PUT", "PATCH", "DELETE", "OPTIONS");
+
+    private final ThreadMXBean threads;
+    private final EndpointResourceStats stats = new EndpointResourceStats();
+
+    private volatile boolean enabled;
+    private volatile Instant since;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param enabled 起動時に計測を有効にするかどうか
+     */
+    public ResourceAccountingFilter(@Value("${app.accounting.enabled:false}") boolean enabled) {
+        this.threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (enabled) {
+            setEnabled(true);
+        }
+    }
+
+    /**
+     * 計測の有効・無効を切り替える。
+     *
+     * <p>有効にした時点で、それまでの集計を破棄する。</p>
+     *
+     * @param enabled 有効にする場合 {@code true}
+     * @throws IllegalStateException JVMがスレッド単位のCPU時間・メモリ割り当ての計測に対応していない場合
+     */
+    public synchronized void setEnabled(boolean enabled) {
+        if (enabled == this.enabled) {
+            return;
+        }
+        if (enabled) {
+            if (!threads.isCurrentThreadCpuTimeSupported() || !threads.isThreadAllocatedMemorySupported()) {
+                throw new IllegalStateException("このJVMはスレッド単位のCPU時間・メモリ割り当ての計測に対応していません");
+            }
+            threads.setThreadCpuTimeEnabled(true);
+            threads.setThreadAllocatedMemoryEnabled(true);
+            stats.reset();
+            since = Instant.now();
+        }
+        this.enabled = enabled;
+        log.info("リクエスト単位のリソース計測を{}にしました", enabled ? "有効" : "無効");
+    }
+
+    /**
+     * 計測が有効かどうかを判定する。
+     *
+     * @return 有効な場合 {@code true}
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 集計の開始日時を取得する。
+     *
+     * @return 開始日時（一度も有効にしていない場合は {@code null}）
+     */
+    public Instant since() {
+        return since;
+    }
+
+    /**
+     * エンドポイント別の集計を取得する。
+     *
+     * @return 集計
+     */
+    public EndpointResourceStats stats() {
+        return stats;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain chain) throws ServletException, IOException {
+        long cpuStart = threads.getCurrentThreadCpuTime();
+        long allocatedStart = threads.getCurrentThreadAllocatedBytes();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            long cpu = threads.getCurrentThreadCpuTime() - cpuStart;
+            long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedStart;
+            if (enabled && cpuStart >= 0 && allocatedStart >= 0) {
+                stats.record(endpointOf(request), cpu, allocated);
+            }
+        }
+    }
+
+    private static String endpointOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String method = request.getMethod();
+        if (pattern == null || !KNOWN_METHODS.contains(method)) {
+            return UNMAPPED;
+        }
+        return method + " " + pattern;
+    }
+}
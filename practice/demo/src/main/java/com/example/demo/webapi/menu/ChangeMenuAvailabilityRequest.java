@@ -0,0 +1,22 @@
+package com.example.demo.webapi.menu;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * メニュー提供可否変更リクエスト。
+ *
+ * <p>品切れの登録・販売再開のリクエストボディ。</p>
+ *
+ * @author store-order-system
+ * @since 1.1.0
+ */
+@Schema(description = "メニュー提供可否変更リクエスト")
+public record ChangeMenuAvailabilityRequest(
+
+        @Schema(description = "提供可否（false で品切れ）", example = "false",
+                requiredMode = Schema.RequiredMode.REQUIRED)
+        @NotNull(message = "提供可否は必須です")
+        Boolean available
+) {
+}
@@ -0,0 +1,26 @@
+package com.example.demo.webapi.menu;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+
+import java.math.BigDecimal;
+
+/**
+ * メニュー価格変更リクエスト。
+ *
+ * <p>価格改定のリクエストボディ。</p>
+ *
+ * @author store-order-system
+ * @since 1.1.0
+ */
+@Schema(description = "メニュー価格変更リクエスト")
+public record ChangeMenuPriceRequest(
+
+        @Schema(description = "新しい単価（税抜）", example = "1380",
+                requiredMode = Schema.RequiredMode.REQUIRED)
+        @NotNull(message = "単価は必須です")
+        @DecimalMin(value = "0", message = "単価は0以上である必要があります")
+        BigDecimal price
+) {
+}
@@ -0,0 +1,32 @@
+package com.example.demo.webapi.menu;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * メニュー提供可否メッセージ。
+ *
+ * <p>注文用タブレットへServer-Sent Eventsで配信する品切れ・販売再開の内容。</p>
+ *
+ * @param catalogVersion 変更後のカタログのバージョン（SSEのイベントIDと同じ値）
+ * @param menuItemId     メニュー項目ID
+ * @param name           メニュー名
+ * @param available      提供可否
+ * @author store-order-system
+ * @since 1.1.0
+ */
+@Schema(description = "メニュー提供可否メッセージ")
+public record MenuAvailabilityMessage(
+
+        @Schema(description = "カタログのバージョン", example = "17")
+        long catalogVersion,
+
+        @Schema(description = "メニュー項目ID", example = "main-001")
+        String menuItemId,
+
+        @Schema(description = "メニュー名", example = "ハンバーグステーキ")
+        String name,
+
+        @Schema(description = "提供可否", example = "false")
+        boolean available
+) {
+}
@@ -0,0 +1,66 @@
+package com.example.demo.webapi.menu;
+
+import com.example.demo.domain.model.menu.MenuAvailabilityChangedEvent;
+import com.example.demo.domain.model.menu.MenuItem;
+import com.example.demo.webapi.SseBroadcaster;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * メニュー提供可否イベントの中継コンポーネント。
+ *
+ * <p>提供可否の変更（{@link MenuAvailabilityChangedEvent}）を受け取り、
+ * Server-Sent Events の購読者（注文用タブレット）へ配信する。
+ * タブレットは品切れになったメニューを即座に選択不可にできる。</p>
+ *
+ * <h3>イベント</h3>
+ * <ul>
+ *   <li>{@code availability-changed} - 品切れ・販売再開</li>
+ *   <li>{@code resync} - 取りこぼしが発生したためメニューの再取得が必要</li>
+ * </ul>
+ *
+ * @author store-order-system
+ * @since 1.1.0
+ * @see SseBroadcaster
+ */
+@Component
+public class MenuAvailabilityRelay {
+
+    private final SseBroadcaster<MenuAvailabilityMessage> broadcaster;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param broadcaster メニュー提供可否配信ハブ
+     */
+    public MenuAvailabilityRelay(SseBroadcaster<MenuAvailabilityMessage> broadcaster) {
+        this.broadcaster = broadcaster;
+    }
+
+    /**
+     * 提供可否イベントの購読を開始する。
+     *
+     * @return SSEエミッタ
+     */
+    public SseEmitter subscribe() {
+        return broadcaster.subscribe(message -> true);
+    }
+
+    /**
+     * 提供可否の変更を購読者へ配信する。
+     *
+     * @param event メニュー提供可否変更イベント
+     */
+    @EventListener
+    public void on(MenuAvailabilityChangedEvent event) {
+        MenuItem menuItem = event.menuItem();
+        MenuAvailabilityMessage message = new MenuAvailabilityMessage(
+                event.catalogVersion(),
+                menuItem.getId().getValue(),
+                menuItem.getName(),
+                menuItem.isAvailable()
+        );
+        broadcaster.publish("availability-changed", String.valueOf(event.catalogVersion()), message);
+    }
+}
@@ -1,28 +1,72 @@
 package com.example.demo.webapi.menu;
 
+import com.example.demo.application.menu.MenuAvailabilityService;
+import com.example.demo.application.menu.MenuPriceService;
+import com.example.demo.domain.model.menu.MenuCategory;
 import com.example.demo.query.menu.MenuItemView;
+import com.example.demo.query.menu.MenuPriceHistoryView;
 import com.example.demo.query.menu.MenuQueryService;
+import com.example.demo.query.menu.PopularMenuView;
+import com.example.demo.webapi.ResponseFormats;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * メニューAPI コントローラ。
  *
  * <p>メニュー項目に関するREST APIエンドポイントを提供する。
- * 主に参照（Query）系の操作をサポートする。</p>
+ * 主に参照（Query）系の操作と、品切れの登録・価格改定をサポートする。</p>
  *
  * <h3>エンドポイント一覧</h3>
  * <ul>
  *   <li>{@code GET /api/menu} - メニュー一覧取得</li>
  *   <li>{@code GET /api/menu/available} - 提供可能メニュー一覧取得</li>
+ *   <li>{@code GET /api/menu/popular} - 人気メニュー取得（時間窓・カテゴリ別）</li>
+ *   <li>{@code GET /api/menu/search} - メニュー名の部分一致検索</li>
+ *   <li>{@code PUT /api/menu/{menuItemId}/availability} - 提供可否変更（品切れ・販売再開）</li>
+ *   <li>{@code GET /api/menu/availability/events} - 提供可否イベント購読（Server-Sent Events）</li>
+ *   <li>{@code PUT /api/menu/{menuItemId}/price} - 価格改定</li>
+ *   <li>{@code GET /api/menu/{menuItemId}/prices} - 価格履歴取得（指定日時の価格）</li>
  * </ul>
  *
+ * <h3>部分レスポンス</h3>
+ * <p>一覧系のエンドポイントは {@code fields=menuItemId,name} のように
+ * 返却する項目を指定できる。指定されなかった項目は計算・シリアライズされない。</p>
+ *
+ * <h3>条件付きGET</h3>
+ * <p>メニュー一覧はカタログのバージョンごとに強いETagを付与して返す。
+ * {@code If-None-Match} が現在のETagに一致する場合は、リポジトリに触れずに
+ * {@code 304 Not Modified} を返す。一致しない場合も、同じバージョンであれば
+ * シリアライズ済みのバイト列をそのまま返す（{@link MenuResponseCache}）。</p>
+ *
+ * <h3>バイナリ形式</h3>
+ * <p>一覧系のエンドポイントは {@code Accept: application/cbor} または
+ * {@code Accept: application/x-jackson-smile} でバイナリ形式を返す。
+ * 指定がない場合はJSONを返す（{@link ResponseFormats}）。</p>
+ *
+ * <h3>圧縮</h3>
+ * <p>{@code Accept-Encoding: gzip} の場合、バージョンごとに圧縮済みのバイト列をそのまま返す。
+ * {@code Content-Encoding} を設定済みのため、サーバーによる再圧縮は行われない。</p>
+ *
  * @author store-order-system
  * @since 1.0.0
  */
@@ -33,52 +77,346 @@ import java.util.List;
 public class MenuController {
 
     private final MenuQueryService menuQueryService;
+    private final MenuResponseCache menuResponseCache;
+    private final ResponseFormats responseFormats;
+    private final MenuAvailabilityService menuAvailabilityService;
+    private final MenuAvailabilityRelay menuAvailabilityRelay;
+    private final MenuPriceService menuPriceService;
 
     /**
      * コンストラクタ。
      *
-     * @param menuQueryService メニュークエリサービス
+     * @param menuQueryService        メニュークエリサービス
+     * @param menuResponseCache       メニューレスポンスのキャッシュ
+     * @param responseFormats         レスポンス形式の定義
+     * @param menuAvailabilityService メニュー提供可否サービス
+     * @param menuAvailabilityRelay   メニュー提供可否イベントの中継
+     * @param menuPriceService        メニュー価格サービス
      */
-    public MenuController(MenuQueryService menuQueryService) {
+    public MenuController(MenuQueryService menuQueryService,
+                          MenuResponseCache menuResponseCache,
+                          ResponseFormats responseFormats,
+                          MenuAvailabilityService menuAvailabilityService,
+                          MenuAvailabilityRelay menuAvailabilityRelay,
+                          MenuPriceService menuPriceService) {
         this.menuQueryService = menuQueryService;
+        this.menuResponseCache = menuResponseCache;
+        this.responseFormats = responseFormats;
+        this.menuAvailabilityService = menuAvailabilityService;
+        this.menuAvailabilityRelay = menuAvailabilityRelay;
+        this.menuPriceService = menuPriceService;
     }
 
     /**
      * メニュー一覧を取得する。
      *
-     * @param category カテゴリフィルタ（任意）
-     * @return メニュー項目ビュー一覧
+     * @param category    カテゴリフィルタ（任意）
+     * @param storeId     店舗ID（任意）
+     * @param fields      返却する項目（任意、カンマ区切り）
+     * @param ifNoneMatch 前回取得時のETag（任意）
+     * @param accept      受け入れ可能な形式（任意）
+     * @param acceptEncoding 受け入れ可能な圧縮方式（任意）
+     * @return メニュー項目ビュー一覧、または304 Not Modified
+     * @throws IllegalArgumentException カテゴリまたは店舗IDが不正な場合
      */
     @GetMapping
-    @Operation(summary = "メニュー一覧を取得する", description = "カテゴリで絞り込み可能なメニュー項目一覧を取得する")
-    @ApiResponse(responseCode = "200", description = "取得成功")
-    public ResponseEntity<List<MenuItemView>> getMenuItems(
+    @Operation(summary = "メニュー一覧を取得する", description = "カテゴリで絞り込み可能なメニュー項目一覧を取得する。ETagによる条件付きGETに対応。")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "取得成功",
+                    content = {
+                            @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    array = @ArraySchema(schema = @Schema(implementation = MenuItemView.class))),
+                            @Content(mediaType = MediaType.APPLICATION_CBOR_VALUE,
+                                    array = @ArraySchema(schema = @Schema(implementation = MenuItemView.class)))
+                    }),
+            @ApiResponse(responseCode = "304", description = "前回取得時から変更なし"),
+            @ApiResponse(responseCode = "400", description = "カテゴリが不正")
+    })
+    public ResponseEntity<byte[]> getMenuItems(
             @Parameter(description = "カテゴリフィルタ",
                     example = "MAIN_COURSE")
-            @RequestParam(required = false) String category) {
+            @RequestParam(required = false) String category,
+            @Parameter(description = "店舗ID（指定時は店舗の価格・提供可否を反映）", example = "shibuya")
+            @RequestParam(required = false) String storeId,
+            @Parameter(description = "返却する項目（カンマ区切り）", example = "menuItemId,name,price")
+            @RequestParam(required = false) String fields,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
 
-        List<MenuItemView> items;
+        ResponseFormats.Format format = responseFormats.negotiate(accept);
+        boolean gzip = MenuResponseCache.acceptsGzip(acceptEncoding);
+        String overlayStoreId = storeWithOverlay(storeId);
         if (category != null) {
-            items = menuQueryService.findMenuItemsByCategory(category);
-        } else {
-            items = menuQueryService.findAllMenuItems();
+            // ETagに含めるため、ビューの種類を組み立てる前にカテゴリを検証する
+            String categoryName = MenuCategory.valueOf(category).name();
+            String view = withStore("category:" + categoryName, overlayStoreId);
+            if (fields != null) {
+                return respond(withFields(view, fields), format, gzip, ifNoneMatch,
+                        () -> menuQueryService.findMenuItemsByCategory(overlayStoreId, categoryName, fields));
+            }
+            return respond(view, format, gzip, ifNoneMatch,
+                    () -> menuQueryService.findMenuItemsByCategory(overlayStoreId, categoryName));
         }
-
-        return ResponseEntity.ok(items);
+        if (fields != null) {
+            return respond(withFields(withStore("all", overlayStoreId), fields), format, gzip, ifNoneMatch,
+                    () -> menuQueryService.findAllMenuItems(overlayStoreId, fields));
+        }
+        return respond(withStore("all", overlayStoreId), format, gzip, ifNoneMatch,
+                () -> menuQueryService.findAllMenuItems(overlayStoreId));
     }
 
     /**
      * 提供可能なメニュー一覧を取得する。
      *
-     * <p>お客様向けの注文画面で使用する。提供不可のメニューは除外される。</p>
+     * <p>お客様向けの注文画面で使用する。提供不可のメニューは除外される。
+     * 開店時に全テーブルの端末が一斉に取得するため、条件付きGETでの利用を推奨する。</p>
      *
-     * @return 提供可能なメニュー項目ビュー一覧
+     * @param storeId     店舗ID（任意）
+     * @param fields      返却する項目（任意、カンマ区切り）
+     * @param ifNoneMatch 前回取得時のETag（任意）
+     * @param accept      受け入れ可能な形式（任意）
+     * @param acceptEncoding 受け入れ可能な圧縮方式（任意）
+     * @return 提供可能なメニュー項目ビュー一覧、または304 Not Modified
      */
     @GetMapping("/available")
     @Operation(summary = "提供可能なメニュー一覧を取得する",
-            description = "現在注文可能なメニュー項目のみを取得する。注文画面で使用。")
-    @ApiResponse(responseCode = "200", description = "取得成功")
-    public ResponseEntity<List<MenuItemView>> getAvailableMenuItems() {
-        return ResponseEntity.ok(menuQueryService.findAvailableMenuItems());
+            description = "現在注文可能なメニュー項目のみを取得する。注文画面で使用。ETagによる条件付きGETに対応。")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "取得成功",
+                    content = {
+                            @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    array = @ArraySchema(schema = @Schema(implementation = MenuItemView.class))),
+                            @Content(mediaType = MediaType.APPLICATION_CBOR_VALUE,
+                                    array = @ArraySchema(schema = @Schema(implementation = MenuItemView.class)))
+                    }),
+            @ApiResponse(responseCode = "304", description = "前回取得時から変更なし")
+    })
+    public ResponseEntity<byte[]> getAvailableMenuItems(
+            @Parameter(description = "店舗ID（指定時は店舗の価格・提供可否を反映）", example = "shibuya")
+            @RequestParam(required = false) String storeId,
+            @Parameter(description = "返却する項目（カンマ区切り）", example = "menuItemId,name,price")
+            @RequestParam(required = false) String fields,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+
+        ResponseFormats.Format format = responseFormats.negotiate(accept);
+        boolean gzip = MenuResponseCache.acceptsGzip(acceptEncoding);
+        String overlayStoreId = storeWithOverlay(storeId);
+        if (fields != null) {
+            return respond(withFields(withStore("available", overlayStoreId), fields), format, gzip, ifNoneMatch,
+                    () -> menuQueryService.findAvailableMenuItems(overlayStoreId, fields));
+        }
+        return respond(withStore("available", overlayStoreId), format, gzip, ifNoneMatch,
+                () -> menuQueryService.findAvailableMenuItems(overlayStoreId));
+    }
+
+    /**
+     * 人気メニューを取得する。
+     *
+     * <p>直近15分・1時間・当日の時間窓で、注文数量の多いメニュー項目をカテゴリ別に返す。
+     * 数量は上限付きの近似集計による推定値。</p>
+     *
+     * @param window   時間窓（{@code 15m}, {@code 1h}, {@code day}）
+     * @param category カテゴリフィルタ（任意）
+     * @param limit    カテゴリごとの取得件数
+     * @return 人気メニュービュー
+     */
+    @GetMapping("/popular")
+    @Operation(summary = "人気メニューを取得する",
+            description = "時間窓（15m / 1h / day）ごとに、注文数量の多いメニュー項目をカテゴリ別に取得する。数量は推定値。")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "取得成功"),
+            @ApiResponse(responseCode = "400", description = "時間窓・カテゴリ・取得件数が不正")
+    })
+    public ResponseEntity<PopularMenuView> getPopularMenuItems(
+            @Parameter(description = "時間窓（15m / 1h / day）", example = "15m")
+            @RequestParam(defaultValue = "15m") String window,
+            @Parameter(description = "カテゴリフィルタ", example = "DRINK")
+            @RequestParam(required = false) String category,
+            @Parameter(description = "カテゴリごとの取得件数", example = "5")
+            @RequestParam(defaultValue = "5") int limit) {
+
+        return ResponseEntity.ok(menuQueryService.findPopularMenuItems(window, category, limit));
+    }
+
+    /**
+     * メニュー名の部分一致でメニュー項目を検索する。
+     *
+     * <p>スタッフ端末での検索に使用する。「ぱすた」「ﾊﾟｽﾀ」のような表記でも「パスタ」に一致する。</p>
+     *
+     * @param q     検索語
+     * @param limit 取得件数
+     * @return メニュー項目ビュー一覧（関連度順）
+     */
+    @GetMapping("/search")
+    @Operation(summary = "メニュー名で検索する",
+            description = "メニュー名の部分一致で検索する。全角・半角、ひらがな・カタカナの違いは区別しない。関連度の高い順に返す。")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "検索成功"),
+            @ApiResponse(responseCode = "400", description = "検索語が空、または取得件数が不正")
+    })
+    public ResponseEntity<List<MenuItemView>> searchMenuItems(
+            @Parameter(description = "検索語", required = true, example = "パスタ")
+            @RequestParam String q,
+            @Parameter(description = "取得件数", example = "20")
+            @RequestParam(defaultValue = "20") int limit) {
+
+        return ResponseEntity.ok(menuQueryService.searchMenuItems(q, limit));
+    }
+
+    /**
+     * メニュー項目の提供可否を変更する。
+     *
+     * <p>応答を返した時点で、以降の注文受付・メニュー一覧には変更後の状態が反映される。
+     * 状態が変わった場合は購読中のタブレットへ {@code availability-changed} を配信する。</p>
+     *
+     * @param menuItemId メニュー項目ID
+     * @param request    提供可否変更リクエスト
+     * @return 204 No Content
+     */
+    @PutMapping("/{menuItemId}/availability")
+    @Operation(summary = "メニューの提供可否を変更する", description = "品切れの登録、または販売の再開を行う")
+    @ApiResponses({
+            @ApiResponse(responseCode = "204", description = "変更成功"),
+            @ApiResponse(responseCode = "400", description = "メニュー項目が見つからない、またはリクエストが不正")
+    })
+    public ResponseEntity<Void> changeAvailability(
+            @Parameter(description = "メニュー項目ID", required = true, example = "main-001")
+            @PathVariable String menuItemId,
+            @Valid @RequestBody ChangeMenuAvailabilityRequest request) {
+
+        menuAvailabilityService.changeAvailability(menuItemId, request.available());
+
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * メニューの提供可否イベントを購読する。
+     *
+     * @return SSEエミッタ
+     */
+    @GetMapping(value = "/availability/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "メニューの提供可否イベントを購読する",
+            description = "品切れ・販売再開（availability-changed）をServer-Sent Eventsで配信する。")
+    @ApiResponse(responseCode = "200", description = "購読開始")
+    public SseEmitter subscribeAvailabilityEvents() {
+        return menuAvailabilityRelay.subscribe();
+    }
+
+    /**
+     * メニュー項目の単価を変更する。
+     *
+     * <p>価格履歴に新しい版を追記する。変更前に受け付けた注文の金額は変わらない。</p>
+     *
+     * @param menuItemId メニュー項目ID
+     * @param request    価格変更リクエスト
+     * @return 204 No Content
+     */
+    @PutMapping("/{menuItemId}/price")
+    @Operation(summary = "メニューの価格を改定する", description = "単価を変更し、価格履歴に新しい版として記録する")
+    @ApiResponses({
+            @ApiResponse(responseCode = "204", description = "変更成功"),
+            @ApiResponse(responseCode = "400", description = "メニュー項目が見つからない、またはリクエストが不正")
+    })
+    public ResponseEntity<Void> changePrice(
+            @Parameter(description = "メニュー項目ID", required = true, example = "main-001")
+            @PathVariable String menuItemId,
+            @Valid @RequestBody ChangeMenuPriceRequest request) {
+
+        menuPriceService.changePrice(menuItemId, request.price());
+
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * メニュー項目の価格履歴を取得する。
+     *
+     * @param menuItemId メニュー項目ID
+     * @param at         日時（任意、指定時はその日時に適用されていた版のみ）
+     * @return 価格履歴ビュー
+     */
+    @GetMapping("/{menuItemId}/prices")
+    @Operation(summary = "メニューの価格履歴を取得する",
+            description = "価格の版を古い順に返す。日時を指定した場合はその日時に適用されていた版のみを返す。")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "取得成功"),
+            @ApiResponse(responseCode = "400", description = "メニュー項目が見つからない")
+    })
+    public ResponseEntity<MenuPriceHistoryView> getPriceHistory(
+            @Parameter(description = "メニュー項目ID", required = true, example = "main-001")
+            @PathVariable String menuItemId,
+            @Parameter(description = "日時（ISO-8601）", example = "2025-01-01T12:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at) {
+
+        return ResponseEntity.ok(menuQueryService.findPriceHistory(menuItemId, at));
+    }
+
+    /**
+     * 条件付きGETを判定し、キャッシュ済みのレスポンスを返す。
+     *
+     * <p>同じURLで形式・圧縮方式が変わるため、共有キャッシュ向けに
+     * {@code Vary: Accept, Accept-Encoding} を付与する。
+     * {@code If-None-Match} は弱い比較のため、gzip版・非圧縮版のどちらのETagでも一致とみなす。</p>
+     */
+    private ResponseEntity<byte[]> respond(String view, ResponseFormats.Format format, boolean gzip,
+                                           String ifNoneMatch, Supplier<? extends List<?>> loader) {
+        String etag = menuResponseCache.currentETag(view, format);
+        String gzipEtag = MenuResponseCache.gzipETag(etag);
+        boolean identityMatched = MenuResponseCache.matches(ifNoneMatch, etag);
+        if (identityMatched || MenuResponseCache.matches(ifNoneMatch, gzipEtag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(identityMatched ? etag : gzipEtag)
+                    .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING)
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+
+        MenuResponseCache.CachedMenu cached = menuResponseCache.get(view, format, loader);
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(format.mediaType())
+                .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING)
+                .cacheControl(CacheControl.noCache());
+        if (gzip && cached.gzipBody() != null) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+            if (cached.etag() != null) {
+                builder.eTag(MenuResponseCache.gzipETag(cached.etag()));
+            }
+            return builder.body(cached.gzipBody());
+        }
+        if (cached.etag() != null) {
+            builder.eTag(cached.etag());
+        }
+        return builder.body(cached.body());
+    }
+
+    /**
+     * 項目指定を正規化してビューの種類に付加する。
+     *
+     * <p>項目の組み合わせは有限のため、キャッシュのエントリ数も上限がある。
+     * ETagの区切り文字と衝突しないよう、項目名は {@code +} で連結する。</p>
+     */
+    private String withFields(String view, String fields) {
+        return view + ";fields=" + menuQueryService.normalizeMenuItemFields(fields).replace(',', '+');
+    }
+
+    /**
+     * 共通のメニューとの差分がある場合のみ店舗IDを返す。
+     *
+     * <p>差分のない店舗は共通のメニューと同じ結果になるため、店舗IDを指定しない場合と
+     * 同じエントリ・ETagを使用する。キャッシュのエントリは差分のある店舗の数までに抑えられ、
+     * 任意の店舗IDを指定したリクエストでエントリが増え続けることはない。
+     * 店舗IDの形式はここで検証する。</p>
+     */
+    private String storeWithOverlay(String storeId) {
+        return storeId != null && menuQueryService.hasStoreOverlay(storeId) ? storeId : null;
+    }
+
+    /**
+     * 店舗IDをビューの種類に付加する。差分のある店舗ごとに別のエントリ・ETagとなる。
+     */
+    private static String withStore(String view, String storeId) {
+        return storeId != null ? view + ";store=" + storeId : view;
     }
 }
@@ -0,0 +1,260 @@
+package com.example.demo.webapi.menu;
+
+import com.example.demo.query.menu.MenuQueryService;
+import com.example.demo.webapi.ResponseFormats;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * メニューレスポンスのキャッシュ。
+ *
+ * <p>メニューカタログのバージョンごとに、シリアライズ済みのバイト列と強いETagを保持する。
+ * 同じバージョンの間はリポジトリの走査・ビューの組み立て・税込価格の計算・JSON変換を行わずに
+ * 同じバイト列を返す。カタログのバージョンが変わると、次回の取得時に作り直される。</p>
+ *
+ * <p>ETagはカタログのバージョンとビューの種類（全件・提供可能・カテゴリ別）から決まるため、
+ * 条件付きGET（{@code If-None-Match}）の判定はリポジトリに触れずに行える。
+ * 再起動によりバージョンが巻き戻っても衝突しないよう、起動ごとの識別子を含める。</p>
+ *
+ * <p>バイト列はレスポンス形式（JSON・CBOR・Smile）ごとに保持する。
+ * 表現が異なるため、JSON以外の形式のETagには形式の識別子を付加する。</p>
+ *
+ * <p>しきい値（{@code server.compression.min-response-size}）以上のバイト列は、
+ * キャッシュへの登録時に一度だけgzip圧縮したものも保持する。
+ * 同じバージョンの間はリクエストごとの圧縮処理が発生しない。
+ * gzip版のETagには {@value #GZIP_SUFFIX} を付加する。</p>
+ *
+ * @author store-order-system
+ * @since 1.1.0
+ * @see MenuQueryService#getCatalogVersion()
+ */
+@Component
+public class MenuResponseCache {
+
+    /** gzip版のETagに付加する識別子 */
+    public static final String GZIP_SUFFIX = "-gzip";
+
+    private final MenuQueryService menuQueryService;
+    private final ResponseFormats responseFormats;
+    private final int compressionThreshold;
+
+    /** 起動ごとの識別子 */
+    private final String instanceTag = Long.toString(System.currentTimeMillis(), 36);
+
+    /** 現在のバージョンのキャッシュ */
+    private volatile VersionedEntries current = new VersionedEntries(-1);
+
+    /**
+     * コンストラクタ。
+     *
+     * @param menuQueryService メニュークエリサービス
+     * @param responseFormats  レスポンス形式の定義
+     * @param compressionThreshold gzip版を保持する最小サイズ
+     */
+    public MenuResponseCache(MenuQueryService menuQueryService, ResponseFormats responseFormats,
+                             @Value("${server.compression.min-response-size:2KB}") DataSize compressionThreshold) {
+        this.menuQueryService = menuQueryService;
+        this.responseFormats = responseFormats;
+        this.compressionThreshold = (int) Math.min(Integer.MAX_VALUE, compressionThreshold.toBytes());
+    }
+
+    /**
+     * 現在のカタログバージョンにおけるETagを取得する。
+     *
+     * @param view ビューの種類（例: {@code "all"}, {@code "available"}, {@code "category:DRINK"}、
+     *             項目指定がある場合は {@code "available;fields=menuItemId+name"}）
+     * @param format レスポンス形式
+     * @return 強いETag（ダブルクォート付き）
+     */
+    public String currentETag(String view, ResponseFormats.Format format) {
+        return etag(menuQueryService.getCatalogVersion(), view, format);
+    }
+
+    /**
+     * シリアライズ済みのレスポンスを取得する。
+     *
+     * <p>現在のバージョンでまだ作られていない場合のみ {@code loader} を呼び出す。
+     * 組み立て中にカタログが変更された場合はキャッシュせず、ETagなしで返す。</p>
+     *
+     * @param view   ビューの種類
+     * @param format レスポンス形式
+     * @param loader メニュー項目一覧の取得処理
+     * @return シリアライズ済みのレスポンス
+     */
+    public CachedMenu get(String view, ResponseFormats.Format format, Supplier<? extends List<?>> loader) {
+        long version = menuQueryService.getCatalogVersion();
+        VersionedEntries entries = current;
+        if (entries.version != version) {
+            entries = new VersionedEntries(version);
+            current = entries;
+        }
+
+        String key = view + "|" + format.tag();
+        CachedMenu cached = entries.byView.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        byte[] body = serialize(loader.get(), format);
+        if (menuQueryService.getCatalogVersion() != version) {
+            return new CachedMenu(null, body, null);
+        }
+        byte[] gzipBody = body.length >= compressionThreshold ? gzip(body) : null;
+        CachedMenu created = new CachedMenu(etag(version, view, format), body, gzipBody);
+        CachedMenu existing = entries.byView.putIfAbsent(key, created);
+        return existing != null ? existing : created;
+    }
+
+    /**
+     * {@code If-None-Match} ヘッダの値がETagに一致するかどうかを判定する。
+     *
+     * <p>カンマ区切りの複数指定・{@code *}・弱いETag（{@code W/} 付き）に対応する。</p>
+     *
+     * @param ifNoneMatch {@code If-None-Match} ヘッダの値（{@code null} 可）
+     * @param etag        比較対象のETag
+     * @return 一致する場合 {@code true}
+     */
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || etag == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * {@code Accept-Encoding} ヘッダの値がgzipを受け入れるかどうかを判定する。
+     *
+     * <p>{@code gzip;q=0} のように品質値0で拒否されている場合は受け入れないものとする。
+     * {@code *} はgzipを含むものとして扱う。</p>
+     *
+     * @param acceptEncoding {@code Accept-Encoding} ヘッダの値（{@code null} 可）
+     * @return gzipを受け入れる場合 {@code true}
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        boolean accepted = false;
+        for (String candidate : acceptEncoding.split(",")) {
+            String[] parts = candidate.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            if (!coding.equals("gzip") && !coding.equals("x-gzip") && !coding.equals("*")) {
+                continue;
+            }
+            boolean refused = false;
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim().toLowerCase(Locale.ROOT);
+                if (parameter.startsWith("q=")) {
+                    refused = parseQuality(parameter.substring(2)) <= 0;
+                }
+            }
+            if (coding.equals("*")) {
+                accepted = accepted || !refused;
+            } else {
+                return !refused;
+            }
+        }
+        return accepted;
+    }
+
+    /**
+     * ETagのgzip版を取得する。
+     *
+     * @param etag ETag（{@code null} 可）
+     * @return gzip版のETag（{@code etag} が {@code null} の場合は {@code null}）
+     */
+    public static String gzipETag(String etag) {
+        if (etag == null) {
+            return null;
+        }
+        return etag.substring(0, etag.length() - 1) + GZIP_SUFFIX + "\"";
+    }
+
+    private static double parseQuality(String value) {
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(body.length / 4 + 64);
+        try (GZIPOutputStream out = new BestCompressionGzipOutputStream(buffer)) {
+            out.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException("メニューの圧縮に失敗しました", e);
+        }
+        byte[] compressed = buffer.toByteArray();
+        return compressed.length < body.length ? compressed : null;
+    }
+
+    private String etag(long version, String view, ResponseFormats.Format format) {
+        String suffix = format == ResponseFormats.Format.JSON ? "" : "-" + format.tag();
+        return "\"menu-" + instanceTag + "-" + version + "-" + view + suffix + "\"";
+    }
+
+    private byte[] serialize(List<?> items, ResponseFormats.Format format) {
+        try {
+            return responseFormats.mapper(format).writeValueAsBytes(items);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("メニューの変換に失敗しました: " + format.tag(), e);
+        }
+    }
+
+    /**
+     * シリアライズ済みのメニューレスポンス。
+     *
+     * @param etag     ETag（カタログ変更中に組み立てた場合は {@code null}）
+     * @param body     シリアライズ済みのバイト列
+     * @param gzipBody gzip圧縮済みのバイト列（しきい値未満・圧縮効果がない場合は {@code null}）
+     */
+    public record CachedMenu(String etag, byte[] body, byte[] gzipBody) {
+    }
+
+    /**
+     * 最大圧縮率のgzip出力。バージョンごとに一度だけ圧縮するため、圧縮時間より転送量を優先する。
+     */
+    private static final class BestCompressionGzipOutputStream extends GZIPOutputStream {
+
+        BestCompressionGzipOutputStream(ByteArrayOutputStream out) throws IOException {
+            super(out, 8192);
+            def.setLevel(Deflater.BEST_COMPRESSION);
+        }
+    }
+
+    /**
+     * 1つのカタログバージョンに対応するキャッシュエントリ群。
+     */
+    private static final class VersionedEntries {
+
+        private final long version;
+        private final Map<String, CachedMenu> byView = new ConcurrentHashMap<>();
+
+        VersionedEntries(long version) {
+            this.version = version;
+        }
+    }
+}
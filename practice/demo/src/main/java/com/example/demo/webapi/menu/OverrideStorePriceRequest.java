@@ -0,0 +1,23 @@
+package com.example.demo.webapi.menu;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.DecimalMin;
+
+import java.math.BigDecimal;
+
+/**
+ * 店舗価格上書きリクエスト。
+ *
+ * <p>店舗ごとの価格を設定するリクエストボディ。</p>
+ *
+ * @author store-order-system
+ * @since 1.1.0
+ */
+@Schema(description = "店舗価格上書きリクエスト")
+public record OverrideStorePriceRequest(
+
+        @Schema(description = "店舗の単価（税抜）。省略または null で共通の価格に戻す", example = "1180")
+        @DecimalMin(value = "0", message = "単価は0以上である必要があります")
+        BigDecimal price
+) {
+}
@@ -0,0 +1,97 @@
+package com.example.demo.webapi.menu;
+
+import com.example.demo.application.menu.StoreMenuService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 店舗別メニューAPI コントローラ。
+ *
+ * <p>共通メニューに対する店舗ごとの差分（価格・提供可否）を変更するREST APIエンドポイントを提供する。
+ * 店舗のメニューの参照は {@code GET /api/menu?storeId=...} で行う。</p>
+ *
+ * <h3>エンドポイント一覧</h3>
+ * <ul>
+ *   <li>{@code PUT /api/stores/{storeId}/menu/{menuItemId}/price} - 店舗価格の上書き・解除</li>
+ *   <li>{@code PUT /api/stores/{storeId}/menu/{menuItemId}/availability} - 店舗での提供可否変更</li>
+ * </ul>
+ *
+ * @author store-order-system
+ * @since 1.1.0
+ * @see MenuController
+ */
+@RestController
+@RequestMapping("/api/stores/{storeId}/menu")
+@Tag(name = "店舗別メニューAPI", description = "店舗ごとの価格・提供可否を変更するAPI")
+@CrossOrigin(origins = "http://localhost:3000")
+public class StoreMenuController {
+
+    private final StoreMenuService storeMenuService;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param storeMenuService 店舗別メニューサービス
+     */
+    public StoreMenuController(StoreMenuService storeMenuService) {
+        this.storeMenuService = storeMenuService;
+    }
+
+    /**
+     * 店舗の価格を上書きする。
+     *
+     * @param storeId    店舗ID
+     * @param menuItemId メニュー項目ID
+     * @param request    店舗価格上書きリクエスト
+     * @return 204 No Content
+     */
+    @PutMapping("/{menuItemId}/price")
+    @Operation(summary = "店舗の価格を上書きする", description = "店舗の単価を設定する。単価を省略すると共通の価格に戻す")
+    @ApiResponses({
+            @ApiResponse(responseCode = "204", description = "変更成功"),
+            @ApiResponse(responseCode = "400", description = "メニュー項目が見つからない、またはリクエストが不正")
+    })
+    public ResponseEntity<Void> overridePrice(
+            @Parameter(description = "店舗ID", required = true, example = "shibuya")
+            @PathVariable String storeId,
+            @Parameter(description = "メニュー項目ID", required = true, example = "main-001")
+            @PathVariable String menuItemId,
+            @Valid @RequestBody OverrideStorePriceRequest request) {
+
+        storeMenuService.overridePrice(storeId, menuItemId, request.price());
+
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * 店舗での提供可否を変更する。
+     *
+     * @param storeId    店舗ID
+     * @param menuItemId メニュー項目ID
+     * @param request    提供可否変更リクエスト
+     * @return 204 No Content
+     */
+    @PutMapping("/{menuItemId}/availability")
+    @Operation(summary = "店舗での提供可否を変更する", description = "店舗のみの品切れを登録、または解除する")
+    @ApiResponses({
+            @ApiResponse(responseCode = "204", description = "変更成功"),
+            @ApiResponse(responseCode = "400", description = "メニュー項目が見つからない、またはリクエストが不正")
+    })
+    public ResponseEntity<Void> changeAvailability(
+            @Parameter(description = "店舗ID", required = true, example = "shibuya")
+            @PathVariable String storeId,
+            @Parameter(description = "メニュー項目ID", required = true, example = "main-001")
+            @PathVariable String menuItemId,
+            @Valid @RequestBody ChangeMenuAvailabilityRequest request) {
+
+        storeMenuService.changeAvailability(storeId, menuItemId, request.available());
+
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -4,22 +4,35 @@ import com.example.demo.application.order.OrderApplicationService;
 import com.example.demo.application.order.PlaceOrderCommand;
 import com.example.demo.application.order.UpdateOrderStatusCommand;
 import com.example.demo.domain.model.order.OrderId;
+import com.example.demo.query.order.OrderChangesView;
+import com.example.demo.query.order.OrderCountsView;
 import com.example.demo.query.order.OrderDetailView;
 import com.example.demo.query.order.OrderQueryService;
+import com.example.demo.query.order.OrderSearchCriteria;
+import com.example.demo.query.order.OrderSearchResult;
 import com.example.demo.query.order.OrderSummary;
+import com.example.demo.webapi.JsonStreamWriter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * 注文API コントローラ。
@@ -32,11 +45,28 @@ import java.util.stream.Collectors;
  * <ul>
  *   <li>{@code POST /api/orders} - 注文作成</li>
  *   <li>{@code GET /api/orders} - 注文一覧取得</li>
+ *   <li>{@code GET /api/orders/search} - 注文の複合条件検索（実行計画の参照対応）</li>
+ *   <li>{@code GET /api/orders/stream} - 注文一覧ストリーミング取得（NDJSON / JSON配列）</li>
+ *   <li>{@code GET /api/orders/changes} - 注文差分取得（差分同期）</li>
+ *   <li>{@code GET /api/orders/events} - 注文イベント購読（Server-Sent Events）</li>
+ *   <li>{@code GET /api/orders/counts} - 注文件数集計取得</li>
  *   <li>{@code GET /api/orders/{orderId}} - 注文詳細取得</li>
  *   <li>{@code PATCH /api/orders/{orderId}/status} - 注文ステータス更新</li>
  *   <li>{@code POST /api/orders/{orderId}/cancel} - 注文キャンセル</li>
+ *   <li>{@code POST /api/orders/read-model/rebuild} - 読み取りモデル再構築</li>
  * </ul>
  *
+ * <p>参照系のレスポンスには読み取りモデルのバージョンを
+ * {@value #READ_MODEL_VERSION_HEADER} ヘッダで付与する。</p>
+ *
+ * <p>注文一覧・ストリーミング取得・注文詳細は {@code fields=orderId,tableNumber,status} のように
+ * 返却する項目を指定できる（部分レスポンス）。金額・日時を要求しないフロア用タブレットでは
+ * ペイロードとシリアライズの負荷が小さくなる。</p>
+ *
+ * <p>注文一覧・注文詳細・検索は {@code Accept: application/cbor} または
+ * {@code Accept: application/x-jackson-smile} を指定するとバイナリ形式で返す。
+ * 指定がない場合はJSONを返す。ストリーミング取得はNDJSONのみに対応する。</p>
+ *
  * @author store-order-system
  * @since 1.0.0
  */
@@ -46,19 +76,30 @@ import java.util.stream.Collectors;
 @CrossOrigin(origins = "http://localhost:3000")
 public class OrderController {
 
+    /** 読み取りモデルのバージョンを返すレスポンスヘッダ名 */
+    public static final String READ_MODEL_VERSION_HEADER = "X-Read-Model-Version";
+
     private final OrderApplicationService orderApplicationService;
     private final OrderQueryService orderQueryService;
+    private final JsonStreamWriter jsonStreamWriter;
+    private final OrderEventRelay orderEventRelay;
 
     /**
      * コンストラクタ。
      *
      * @param orderApplicationService 注文アプリケーションサービス（Command）
      * @param orderQueryService       注文クエリサービス（Query）
+     * @param jsonStreamWriter        JSONストリーミング出力
+     * @param orderEventRelay         注文イベントの中継
      */
     public OrderController(OrderApplicationService orderApplicationService,
-                            OrderQueryService orderQueryService) {
+                            OrderQueryService orderQueryService,
+                            JsonStreamWriter jsonStreamWriter,
+                            OrderEventRelay orderEventRelay) {
         this.orderApplicationService = orderApplicationService;
         this.orderQueryService = orderQueryService;
+        this.jsonStreamWriter = jsonStreamWriter;
+        this.orderEventRelay = orderEventRelay;
     }
 
     /**
@@ -79,7 +120,8 @@ public class OrderController {
                 request.items().stream()
                         .map(item -> new PlaceOrderCommand.OrderItemCommand(
                                 item.menuItemId(), item.quantity()))
-                        .collect(Collectors.toList())
+                        .collect(Collectors.toList()),
+                request.storeId()
         );
 
         OrderId orderId = orderApplicationService.placeOrder(command);
@@ -91,36 +133,219 @@ public class OrderController {
     /**
      * 注文一覧を取得する。
      *
+     * <p>ステータスとテーブル番号を両方指定した場合は両方の条件で絞り込む。
+     * テーブル番号のみの場合はアクティブな注文に限定する。</p>
+     *
      * @param status ステータスフィルタ（任意）
      * @param tableNumber テーブル番号フィルタ（任意）
+     * @param fields 返却する項目（任意、カンマ区切り）
      * @return 注文サマリー一覧
      */
     @GetMapping
-    @Operation(summary = "注文一覧を取得する", description = "ステータスやテーブル番号で絞り込み可能な注文一覧を取得する")
-    @ApiResponse(responseCode = "200", description = "取得成功")
-    public ResponseEntity<List<OrderSummary>> getOrders(
+    @Operation(summary = "注文一覧を取得する", description = "ステータスやテーブル番号で絞り込み可能な注文一覧を取得する。テーブル番号のみ指定時はアクティブな注文に限定する。")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "取得成功"),
+            @ApiResponse(responseCode = "400", description = "フィルタ条件が不正")
+    })
+    public ResponseEntity<List<?>> getOrders(
             @Parameter(description = "ステータスフィルタ", example = "PLACED")
             @RequestParam(required = false) String status,
             @Parameter(description = "テーブル番号フィルタ", example = "5")
-            @RequestParam(required = false) Integer tableNumber) {
+            @RequestParam(required = false) Integer tableNumber,
+            @Parameter(description = "返却する項目（カンマ区切り）", example = "orderId,tableNumber,status")
+            @RequestParam(required = false) String fields) {
+
+        String version = String.valueOf(orderQueryService.getReadModelVersion());
+        List<OrderSummary> orders = orderQueryService.findOrders(status, tableNumber);
+        List<?> body = fields != null
+                ? orders.stream().map(orderQueryService.selectSummaryFields(fields)).collect(Collectors.toList())
+                : orders;
+
+        return ResponseEntity.ok()
+                .header(READ_MODEL_VERSION_HEADER, version)
+                .body(body);
+    }
+
+    /**
+     * 複合条件で注文を検索する。
+     *
+     * <p>指定した条件は全てAND結合される。読み取りモデルの二次インデックスのうち
+     * 最も件数の少ないものを起点に走査する。{@code explain=true} を指定すると、
+     * 選ばれたアクセス経路・見積もり件数・走査件数・所要時間を {@code plan} に含める。</p>
+     *
+     * @param status      ステータス（任意）
+     * @param tableNumber テーブル番号（任意）
+     * @param from        注文日時の開始（任意、含む）
+     * @param to          注文日時の終了（任意、含まない）
+     * @param menuItemId  含まれるメニュー項目ID（任意）
+     * @param activeOnly  アクティブな注文に限定するかどうか
+     * @param explain     実行計画を含めるかどうか
+     * @return 注文検索結果
+     */
+    @GetMapping("/search")
+    @Operation(summary = "注文を複合条件で検索する",
+            description = "ステータス・テーブル番号・注文日時の範囲・メニュー項目で注文を検索する。explain=trueで実行計画を返す。")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "検索成功"),
+            @ApiResponse(responseCode = "400", description = "検索条件が不正")
+    })
+    public ResponseEntity<OrderSearchResult> searchOrders(
+            @Parameter(description = "ステータス", example = "PREPARING")
+            @RequestParam(required = false) String status,
+            @Parameter(description = "テーブル番号", example = "5")
+            @RequestParam(required = false) Integer tableNumber,
+            @Parameter(description = "注文日時の開始（ISO-8601、含む）", example = "2026-01-01T11:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "注文日時の終了（ISO-8601、含まない）", example = "2026-01-01T14:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Parameter(description = "含まれるメニュー項目ID")
+            @RequestParam(required = false) String menuItemId,
+            @Parameter(description = "アクティブな注文に限定する")
+            @RequestParam(defaultValue = "false") boolean activeOnly,
+            @Parameter(description = "実行計画を含める")
+            @RequestParam(defaultValue = "false") boolean explain) {
+
+        String version = String.valueOf(orderQueryService.getReadModelVersion());
+        OrderSearchCriteria criteria = new OrderSearchCriteria(
+                status, tableNumber, from, to, menuItemId, activeOnly);
+
+        return ResponseEntity.ok()
+                .header(READ_MODEL_VERSION_HEADER, version)
+                .body(orderQueryService.search(criteria, explain));
+    }
+
+    /**
+     * 注文一覧をストリーミングで取得する。
+     *
+     * <p>注文サマリーを読み取りモデルから1件ずつレスポンスへ直接書き出す。
+     * 一覧をメモリ上に構築しないため、1日分の全注文を取得する帳票系クライアントでも
+     * ヒープ使用量が一定で、最初のバイトが早く届く。
+     * 絞り込み条件は {@code GET /api/orders} と同じ。</p>
+     *
+     * <p>サーバーの圧縮（{@code server.compression}）は、出力をまとめて遅延させないよう
+     * {@code Content-Encoding: identity} を指定して対象外とする。
+     * JSON配列形式（{@code application/json}）も圧縮されない。</p>
+     *
+     * @param format      出力形式（{@code ndjson} または {@code json}）
+     * @param status      ステータスフィルタ（任意）
+     * @param tableNumber テーブル番号フィルタ（任意）
+     * @param fields      返却する項目（任意、カンマ区切り）
+     * @return ストリーミングレスポンス
+     */
+    @GetMapping("/stream")
+    @Operation(summary = "注文一覧をストリーミングで取得する",
+            description = "注文サマリーをNDJSON（1行1件）またはJSON配列としてチャンク転送で逐次出力する。大量件数の取得で使用。")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "取得成功"),
+            @ApiResponse(responseCode = "400", description = "出力形式が不正")
+    })
+    public ResponseEntity<StreamingResponseBody> streamOrders(
+            @Parameter(description = "出力形式（ndjson / json）", example = "ndjson")
+            @RequestParam(defaultValue = "ndjson") String format,
+            @Parameter(description = "ステータスフィルタ", example = "PLACED")
+            @RequestParam(required = false) String status,
+            @Parameter(description = "テーブル番号フィルタ", example = "5")
+            @RequestParam(required = false) Integer tableNumber,
+            @Parameter(description = "返却する項目（カンマ区切り）", example = "orderId,tableNumber,status")
+            @RequestParam(required = false) String fields) {
 
-        List<OrderSummary> orders;
+        String version = String.valueOf(orderQueryService.getReadModelVersion());
+        Stream<?> source = fields != null
+                ? orderQueryService.streamOrders(status, tableNumber).map(orderQueryService.selectSummaryFields(fields))
+                : orderQueryService.streamOrders(status, tableNumber);
 
-        if (status != null) {
-            orders = orderQueryService.findOrdersByStatus(status);
-        } else if (tableNumber != null) {
-            orders = orderQueryService.findActiveOrdersByTable(tableNumber);
-        } else {
-            orders = orderQueryService.findAllOrders();
+        StreamingResponseBody body;
+        MediaType contentType;
+        switch (format) {
+            case "ndjson" -> {
+                body = jsonStreamWriter.ndjson(source);
+                contentType = MediaType.parseMediaType(JsonStreamWriter.APPLICATION_NDJSON_VALUE);
+            }
+            case "json" -> {
+                body = jsonStreamWriter.jsonArray(source);
+                contentType = MediaType.APPLICATION_JSON;
+            }
+            default -> throw new IllegalArgumentException(
+                    "出力形式は ndjson または json を指定してください: " + format);
         }
 
-        return ResponseEntity.ok(orders);
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_ENCODING, "identity")
+                .header(READ_MODEL_VERSION_HEADER, version)
+                .body(body);
+    }
+
+    /**
+     * 指定のシーケンス番号以降に変更された注文を取得する。
+     *
+     * <p>フロア用タブレットが再接続時に全件を取り直さずに済むよう、差分だけを返す。
+     * レスポンスの {@code highWaterMark} を次回の {@code since} に指定すること。
+     * {@code fullResync} が {@code true} の場合は全注文が返るため、手元の一覧を置き換えること。</p>
+     *
+     * @param since 前回取得した {@code highWaterMark}（初回は0）
+     * @return 注文差分ビュー
+     */
+    @GetMapping("/changes")
+    @Operation(summary = "注文の差分を取得する",
+            description = "指定したシーケンス番号より後に変更された注文と、次回指定すべきシーケンス番号を返す。保持範囲外の番号の場合は全件再同期となる。")
+    @ApiResponse(responseCode = "200", description = "取得成功")
+    public ResponseEntity<OrderChangesView> getOrderChanges(
+            @Parameter(description = "前回取得したhighWaterMark（初回は0）", example = "0")
+            @RequestParam(defaultValue = "0") long since) {
+
+        return ResponseEntity.ok(orderQueryService.findChangesSince(since));
+    }
+
+    /**
+     * 注文イベントを購読する。
+     *
+     * <p>注文作成・ステータス変更をServer-Sent Eventsでプッシュ配信する。
+     * キッチン・フロア画面の定期ポーリングを置き換えるために使用する。
+     * {@code resync} イベントを受信した場合、またはサーバから切断された場合は
+     * 一覧を取得し直してから再購読すること。</p>
+     *
+     * @param status      ステータスフィルタ（任意）
+     * @param tableNumber テーブル番号フィルタ（任意）
+     * @return SSEエミッタ
+     */
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "注文イベントを購読する",
+            description = "注文作成（order-placed）・ステータス変更（status-changed）をServer-Sent Eventsで配信する。ステータス・テーブル番号で絞り込み可能。")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "購読開始"),
+            @ApiResponse(responseCode = "400", description = "フィルタ条件が不正")
+    })
+    public SseEmitter subscribeOrderEvents(
+            @Parameter(description = "ステータスフィルタ", example = "PREPARING")
+            @RequestParam(required = false) String status,
+            @Parameter(description = "テーブル番号フィルタ", example = "5")
+            @RequestParam(required = false) Integer tableNumber) {
+
+        return orderEventRelay.subscribe(status, tableNumber);
+    }
+
+    /**
+     * 注文件数の集計を取得する。
+     *
+     * <p>フロアマネージャー向けダッシュボードで使用する。
+     * 注文件数に関わらず定数時間で応答する。</p>
+     *
+     * @return 注文件数ビュー
+     */
+    @GetMapping("/counts")
+    @Operation(summary = "注文件数の集計を取得する",
+            description = "ステータス別・テーブル別（アクティブのみ）の注文件数とアクティブ総数を取得する。ダッシュボードで使用。")
+    @ApiResponse(responseCode = "200", description = "取得成功")
+    public ResponseEntity<OrderCountsView> getOrderCounts() {
+        return ResponseEntity.ok(orderQueryService.getOrderCounts());
     }
 
     /**
      * 注文詳細を取得する。
      *
      * @param orderId 注文ID
+     * @param fields  返却する項目（任意、カンマ区切り）
      * @return 注文詳細ビュー
      */
     @GetMapping("/{orderId}")
@@ -129,12 +354,20 @@ public class OrderController {
             @ApiResponse(responseCode = "200", description = "取得成功"),
             @ApiResponse(responseCode = "404", description = "注文が見つからない")
     })
-    public ResponseEntity<OrderDetailView> getOrderDetail(
+    public ResponseEntity<?> getOrderDetail(
             @Parameter(description = "注文ID", required = true)
-            @PathVariable String orderId) {
+            @PathVariable String orderId,
+            @Parameter(description = "返却する項目（カンマ区切り）", example = "orderId,status,items")
+            @RequestParam(required = false) String fields) {
 
+        String version = String.valueOf(orderQueryService.getReadModelVersion());
+        Function<OrderDetailView, ?> projection = fields != null
+                ? orderQueryService.selectDetailFields(fields)
+                : Function.identity();
         return orderQueryService.findOrderDetail(orderId)
-                .map(ResponseEntity::ok)
+                .<ResponseEntity<?>>map(detail -> ResponseEntity.ok()
+                        .header(READ_MODEL_VERSION_HEADER, version)
+                        .body(projection.apply(detail)))
                 .orElse(ResponseEntity.notFound().build());
     }
 
@@ -183,4 +416,20 @@ public class OrderController {
         orderApplicationService.cancelOrder(orderId);
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * 読み取りモデルを再構築する。
+     *
+     * <p>書き込み側のリポジトリから注文サマリー・注文詳細のビューを作り直す。
+     * 運用時の整合性回復に使用する。</p>
+     *
+     * @return 再構築後の読み取りモデルのバージョン
+     */
+    @PostMapping("/read-model/rebuild")
+    @Operation(summary = "読み取りモデルを再構築する",
+            description = "書き込み側のリポジトリから注文ビューの投影を再構築し、新しいバージョンを返す")
+    @ApiResponse(responseCode = "200", description = "再構築成功")
+    public ResponseEntity<Map<String, Long>> rebuildReadModel() {
+        return ResponseEntity.ok(Map.of("version", orderQueryService.rebuildReadModel()));
+    }
 }
@@ -0,0 +1,34 @@
+package com.example.demo.webapi.order;
+
+import com.example.demo.query.order.OrderDetailView;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 注文イベントメッセージ。
+ *
+ * <p>キッチン・フロア画面へServer-Sent Eventsで配信する注文変更の内容。</p>
+ *
+ * @param sequence       読み取りモデルのバージョン（SSEのイベントIDと同じ値）
+ * @param type           変更種別（ORDER_PLACED / STATUS_CHANGED）
+ * @param previousStatus 遷移前のステータス（注文作成時は {@code null}）
+ * @param order          変更後の注文詳細
+ * @author store-order-system
+ * @since 1.1.0
+ */
+@Schema(description = "注文イベントメッセージ")
+public record OrderEventMessage(
+
+        @Schema(description = "読み取りモデルのバージョン", example = "42")
+        long sequence,
+
+        @Schema(description = "変更種別", example = "STATUS_CHANGED",
+                allowableValues = {"ORDER_PLACED", "STATUS_CHANGED"})
+        String type,
+
+        @Schema(description = "遷移前のステータス", example = "PLACED")
+        String previousStatus,
+
+        @Schema(description = "変更後の注文詳細")
+        OrderDetailView order
+) {
+}
@@ -0,0 +1,87 @@
+package com.example.demo.webapi.order;
+
+import com.example.demo.domain.model.order.OrderStatus;
+import com.example.demo.domain.type.TableNumber;
+import com.example.demo.query.order.OrderViewChangedEvent;
+import com.example.demo.webapi.SseBroadcaster;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.function.Predicate;
+
+/**
+ * 注文イベントの中継コンポーネント。
+ *
+ * <p>読み取りモデルへ反映された注文の変更（{@link OrderViewChangedEvent}）を受け取り、
+ * Server-Sent Events の購読者へ配信する。キッチン・フロア画面のポーリングを置き換える。</p>
+ *
+ * <h3>イベント</h3>
+ * <ul>
+ *   <li>{@code order-placed} - 注文作成</li>
+ *   <li>{@code status-changed} - ステータス変更（キャンセルを含む）</li>
+ *   <li>{@code resync} - 取りこぼしが発生したため一覧の再取得が必要</li>
+ * </ul>
+ *
+ * @author store-order-system
+ * @since 1.1.0
+ * @see SseBroadcaster
+ */
+@Component
+public class OrderEventRelay {
+
+    private final SseBroadcaster<OrderEventMessage> broadcaster;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param broadcaster 注文イベント配信ハブ
+     */
+    public OrderEventRelay(SseBroadcaster<OrderEventMessage> broadcaster) {
+        this.broadcaster = broadcaster;
+    }
+
+    /**
+     * 注文イベントの購読を開始する。
+     *
+     * <p>ステータスを指定した場合、そのステータスへ遷移した注文に加え、
+     * そのステータスから離れた注文のイベントも配信する（画面から取り除くため）。
+     * ステータスとテーブル番号の両方を指定した場合は両方に合致するもののみ配信する。</p>
+     *
+     * @param status      ステータスフィルタ（任意）
+     * @param tableNumber テーブル番号フィルタ（任意）
+     * @return SSEエミッタ
+     * @throws IllegalArgumentException ステータスまたはテーブル番号が不正な場合
+     */
+    public SseEmitter subscribe(String status, Integer tableNumber) {
+        Predicate<OrderEventMessage> filter = message -> true;
+        if (status != null) {
+            String statusName = OrderStatus.valueOf(status).name();
+            filter = filter.and(message -> statusName.equals(message.order().status())
+                    || statusName.equals(message.previousStatus()));
+        }
+        if (tableNumber != null) {
+            int table = TableNumber.of(tableNumber).getValue();
+            filter = filter.and(message -> message.order().tableNumber() == table);
+        }
+        return broadcaster.subscribe(filter);
+    }
+
+    /**
+     * 読み取りモデルの変更を購読者へ配信する。
+     *
+     * @param event 注文ビュー変更イベント
+     */
+    @EventListener
+    public void on(OrderViewChangedEvent event) {
+        OrderEventMessage message = new OrderEventMessage(
+                event.version(),
+                event.type().name(),
+                event.previousStatus(),
+                event.view()
+        );
+        String eventName = event.type() == OrderViewChangedEvent.ChangeType.ORDER_PLACED
+                ? "order-placed" : "status-changed";
+        broadcaster.publish(eventName, String.valueOf(event.version()), message);
+    }
+}
@@ -26,7 +26,10 @@ public record PlaceOrderRequest(
         @Schema(description = "注文明細リスト")
         @NotEmpty(message = "注文明細は1件以上必要です")
         @Valid
-        List<OrderItemRequest> items
+        List<OrderItemRequest> items,
+
+        @Schema(description = "店舗ID（指定時は店舗の価格・提供可否で受け付ける）", example = "shibuya")
+        String storeId
 ) {
 
     /**
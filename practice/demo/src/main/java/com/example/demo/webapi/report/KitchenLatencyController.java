@@ -0,0 +1,70 @@
+package com.example.demo.webapi.report;
+
+import com.example.demo.query.kitchen.KitchenLatencyQueryService;
+import com.example.demo.query.kitchen.TimeInStateView;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * キッチンレイテンシAPI コントローラ。
+ *
+ * <p>キッチンの提供速度の指標（ステータスごとの滞在時間）のREST APIエンドポイントを提供する。</p>
+ *
+ * <h3>エンドポイント一覧</h3>
+ * <ul>
+ *   <li>{@code GET /api/reports/kitchen-latency} - ステータス滞在時間のパーセンタイル取得</li>
+ * </ul>
+ *
+ * @author store-order-system
+ * @since 1.1.0
+ */
+@RestController
+@RequestMapping("/api/reports")
+@Tag(name = "レポートAPI", description = "売上等の集計レポートを取得するAPI")
+@CrossOrigin(origins = "http://localhost:3000")
+public class KitchenLatencyController {
+
+    private final KitchenLatencyQueryService kitchenLatencyQueryService;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param kitchenLatencyQueryService キッチンレイテンシクエリサービス
+     */
+    public KitchenLatencyController(KitchenLatencyQueryService kitchenLatencyQueryService) {
+        this.kitchenLatencyQueryService = kitchenLatencyQueryService;
+    }
+
+    /**
+     * ステータス滞在時間のパーセンタイルを取得する。
+     *
+     * <p>注文が各ステータスに滞在した時間（調理中・提供準備完了など）の
+     * p50/p95/p99・最大値をメニュー項目別・カテゴリ別・全体で返す。</p>
+     *
+     * @param groupBy 集計単位（{@code menuItem}, {@code category}, {@code all}）
+     * @param status  ステータスフィルタ（任意）
+     * @return ステータス滞在時間ビュー一覧
+     */
+    @GetMapping("/kitchen-latency")
+    @Operation(summary = "ステータス滞在時間のパーセンタイルを取得する",
+            description = "注文が各ステータスに滞在した時間のp50/p95/p99（ミリ秒）をメニュー項目別・カテゴリ別・全体で取得する。キャンセルされた注文は含まない。")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "取得成功"),
+            @ApiResponse(responseCode = "400", description = "集計単位またはステータスが不正")
+    })
+    public ResponseEntity<List<TimeInStateView>> getKitchenLatency(
+            @Parameter(description = "集計単位（menuItem / category / all）", example = "category")
+            @RequestParam(defaultValue = "category") String groupBy,
+            @Parameter(description = "ステータスフィルタ", example = "PREPARING")
+            @RequestParam(required = false) String status) {
+
+        return ResponseEntity.ok(kitchenLatencyQueryService.getTimeInState(groupBy, status));
+    }
+}
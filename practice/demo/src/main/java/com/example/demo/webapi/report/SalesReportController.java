@@ -0,0 +1,82 @@
+package com.example.demo.webapi.report;
+
+import com.example.demo.common.date.DateUtils;
+import com.example.demo.query.sales.SalesReportQueryService;
+import com.example.demo.query.sales.SalesReportView;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.Locale;
+
+/**
+ * レポートAPI コントローラ。
+ *
+ * <p>管理者向けの売上レポートのREST APIエンドポイントを提供する。</p>
+ *
+ * <h3>エンドポイント一覧</h3>
+ * <ul>
+ *   <li>{@code GET /api/reports/sales} - 売上レポート取得（時間帯別・日別・カテゴリ別）</li>
+ * </ul>
+ *
+ * @author store-order-system
+ * @since 1.1.0
+ */
+@RestController
+@RequestMapping("/api/reports")
+@Tag(name = "レポートAPI", description = "売上等の集計レポートを取得するAPI")
+@CrossOrigin(origins = "http://localhost:3000")
+public class SalesReportController {
+
+    private final SalesReportQueryService salesReportQueryService;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param salesReportQueryService 売上レポートクエリサービス
+     */
+    public SalesReportController(SalesReportQueryService salesReportQueryService) {
+        this.salesReportQueryService = salesReportQueryService;
+    }
+
+    /**
+     * 売上レポートを取得する。
+     *
+     * <p>提供済みの注文の売上・注文数・客単価を、時間帯別または日別に返す。
+     * 期間全体の集計（{@code total}）にはカテゴリ別の内訳が含まれる。
+     * 期間を省略した場合は当日分を返す。</p>
+     *
+     * @param granularity 集計単位（{@code hour} または {@code day}）
+     * @param from        対象期間の開始日（任意、含む）
+     * @param to          対象期間の終了日（任意、含む）
+     * @return 売上レポートビュー
+     */
+    @GetMapping("/sales")
+    @Operation(summary = "売上レポートを取得する",
+            description = "時間帯別・日別の売上（税抜・税込）、提供済み注文数、キャンセル数、客単価、カテゴリ別内訳を取得する。事前集計済みの値を返す。")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "取得成功"),
+            @ApiResponse(responseCode = "400", description = "集計単位または期間が不正")
+    })
+    public ResponseEntity<SalesReportView> getSalesReport(
+            @Parameter(description = "集計単位（hour / day）", example = "hour")
+            @RequestParam(defaultValue = "day") String granularity,
+            @Parameter(description = "対象期間の開始日（ISO-8601）", example = "2026-01-01")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "対象期間の終了日（ISO-8601）", example = "2026-01-31")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        LocalDate today = DateUtils.today();
+        SalesReportView.Granularity unit =
+                SalesReportView.Granularity.valueOf(granularity.toUpperCase(Locale.ROOT));
+
+        return ResponseEntity.ok(salesReportQueryService.getSalesReport(
+                unit, from != null ? from : today, to != null ? to : today));
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.demo.application.menu;
+
+import com.example.demo.domain.model.menu.MenuCategory;
+import com.example.demo.domain.model.menu.MenuItem;
+import com.example.demo.domain.model.menu.MenuItemId;
+import com.example.demo.domain.model.menu.MenuItemRepository;
+import com.example.demo.domain.type.Money;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * メニュー項目のまとめ読み込みのテスト。
+ */
+class MenuItemBatchLoaderTest {
+
+    private static final MenuItem HAMBURG = new MenuItem(MenuItemId.of("main-001"), "ハンバーグステーキ",
+            new Money(new BigDecimal("1280")), MenuCategory.MAIN_COURSE);
+    private static final MenuItem COFFEE = new MenuItem(MenuItemId.of("drink-001"), "コーヒー",
+            new Money(new BigDecimal("400")), MenuCategory.DRINK);
+
+    @Test
+    @DisplayName("登録したIDは明細の件数に関わらず1回の問い合わせで取得する")
+    void resolvesPrimedIdsInOneRoundTrip() {
+        MenuItemRepository repository = mock(MenuItemRepository.class);
+        when(repository.findAllById(any())).thenReturn(Map.of(
+                HAMBURG.getId(), HAMBURG,
+                COFFEE.getId(), COFFEE));
+
+        MenuItemBatchLoader loader = new MenuItemBatchLoader(repository)
+                .prime(List.of("main-001", "drink-001", "main-001", "unknown-001"));
+
+        assertThat(loader.get("main-001")).contains(HAMBURG);
+        assertThat(loader.get("drink-001")).contains(COFFEE);
+        assertThat(loader.get("main-001")).contains(HAMBURG);
+        assertThat(loader.get("unknown-001")).isEmpty();
+        assertThat(loader.roundTrips()).isEqualTo(1);
+        verify(repository, times(1)).findAllById(any());
+    }
+
+    @Test
+    @DisplayName("登録していないIDは追加の問い合わせで取得し、存在しないIDは再度問い合わせない")
+    void fetchesUnprimedIdOnceAndRemembersMissingIds() {
+        MenuItemRepository repository = mock(MenuItemRepository.class);
+        when(repository.findAllById(any())).thenAnswer(invocation -> {
+            Collection<MenuItemId> ids = invocation.getArgument(0);
+            return ids.contains(COFFEE.getId()) ? Map.of(COFFEE.getId(), COFFEE) : Map.of();
+        });
+
+        MenuItemBatchLoader loader = new MenuItemBatchLoader(repository).prime(List.of("unknown-001"));
+
+        assertThat(loader.get("unknown-001")).isEmpty();
+        assertThat(loader.get("unknown-001")).isEmpty();
+        assertThat(loader.get("drink-001")).contains(COFFEE);
+        assertThat(loader.roundTrips()).isEqualTo(2);
+    }
+}
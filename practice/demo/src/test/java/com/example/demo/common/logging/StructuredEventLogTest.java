@@ -0,0 +1,208 @@
+package com.example.demo.common.logging;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 構造化イベントログのテスト。
+ *
+ * <p>値の符号化（varint・zigzag・UTF-8）と、{@link EventSite} から {@link StructuredEventLog} に
+ * 書き込んだファイルを {@link EventLogDecoder} で復号した結果を検証する。</p>
+ */
+class StructuredEventLogTest {
+
+    private static final AppLogger log = AppLogger.of(StructuredEventLogTest.class);
+
+    private static final EventSite ALL_TYPES = log.event("test.all-types",
+            "全型: {} {} {} {} {} {} {}",
+            "text", "small", "large", "negative", "ratio", "flag", "missing");
+
+    private static final EventSite SECOND = log.event("test.second", "2件目: {}", "orderId");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeEach
+    void resetLimits() {
+        EventSite.configure("", "");
+    }
+
+    @Nested
+    @DisplayName("値の符号化")
+    class Encoding {
+
+        @Test
+        @DisplayName("varint: 7ビットごとに1バイトで符号化し、同じ値に復号する")
+        void varint() {
+            long[] values = {0, 1, 127, 128, 16_383, 16_384, Integer.MAX_VALUE, Long.MAX_VALUE, -1};
+            int[] sizes = {1, 1, 1, 2, 2, 3, 5, 9, 10};
+            for (int i = 0; i < values.length; i++) {
+                ByteBuffer buffer = ByteBuffer.allocate(16);
+                EventEncoding.putVarint(buffer, values[i]);
+                assertThat(buffer.position()).as("size of %d", values[i]).isEqualTo(sizes[i]);
+
+                buffer.flip();
+                assertThat(EventEncoding.getVarint(buffer)).isEqualTo(values[i]);
+                assertThat(buffer.hasRemaining()).isFalse();
+            }
+        }
+
+        @Test
+        @DisplayName("zigzag: 絶対値の小さい負数を短く符号化し、同じ値に復号する")
+        void zigzag() {
+            long[] values = {0, -1, 1, -64, 63, -65, Long.MIN_VALUE, Long.MAX_VALUE};
+            int[] sizes = {1, 1, 1, 1, 1, 2, 10, 10};
+            for (int i = 0; i < values.length; i++) {
+                ByteBuffer buffer = ByteBuffer.allocate(16);
+                EventEncoding.putZigzag(buffer, values[i]);
+                assertThat(buffer.position()).as("size of %d", values[i]).isEqualTo(sizes[i]);
+
+                buffer.flip();
+                assertThat(EventEncoding.getZigzag(buffer)).isEqualTo(values[i]);
+            }
+        }
+
+        @Test
+        @DisplayName("文字列: バイト数とUTF-8で符号化し、サロゲートペアを含めて同じ値に復号する")
+        void utf8() {
+            for (String value : List.of("", "order-1", "ハンバーグ", "調理中😀", "\u0000\n\"")) {
+                byte[] expected = value.getBytes(StandardCharsets.UTF_8);
+                assertThat(EventEncoding.utf8Length(value)).isEqualTo(expected.length);
+
+                ByteBuffer buffer = ByteBuffer.allocate(EventEncoding.maxStringSize(value));
+                EventEncoding.putString(buffer, value);
+                buffer.flip();
+                assertThat(EventEncoding.getVarint(buffer.duplicate())).isEqualTo(expected.length);
+                assertThat(EventEncoding.getString(buffer)).isEqualTo(value);
+                assertThat(buffer.hasRemaining()).isFalse();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("書き込みと復号")
+    class RoundTrip {
+
+        @Test
+        @DisplayName("イベントの値を型ごとに復号し、追記したセグメントも続けて読める")
+        void decodesRecordsAcrossSegments(@TempDir Path dir) throws Exception {
+            Path file = dir.resolve("events.bin");
+
+            try (StructuredEventLog sink = StructuredEventLog.open(file)) {
+                ALL_TYPES.begin()
+                        .str("\"注文\"😀").num(5).num(300_000).num(-1_234_567_890_123L)
+                        .dec(1.5).flag(true).str(null).end();
+                SECOND.begin().str("order-1").end();
+                assertThat(sink.recordCount()).isEqualTo(2);
+            }
+            try (StructuredEventLog sink = StructuredEventLog.open(file)) {
+                SECOND.begin().str("order-2").end();
+            }
+            assertThat(Files.readAllBytes(file)).startsWith(StructuredEventLog.MAGIC);
+
+            StringWriter out = new StringWriter();
+            long records = EventLogDecoder.decode(file, out);
+
+            assertThat(records).isEqualTo(3);
+            List<String> lines = out.toString().lines().toList();
+            assertThat(lines).hasSize(3);
+
+            JsonNode first = objectMapper.readTree(lines.get(0));
+            assertThat(first.get("event").asText()).isEqualTo("test.all-types");
+            assertThat(first.get("weight").asLong()).isEqualTo(1);
+            assertThat(first.get("time").asText()).isNotBlank();
+            assertThat(first.get("text").asText()).isEqualTo("\"注文\"😀");
+            assertThat(first.get("small").asLong()).isEqualTo(5);
+            assertThat(first.get("large").asLong()).isEqualTo(300_000);
+            assertThat(first.get("negative").asLong()).isEqualTo(-1_234_567_890_123L);
+            assertThat(first.get("ratio").asDouble()).isEqualTo(1.5);
+            assertThat(first.get("flag").asBoolean()).isTrue();
+            assertThat(first.get("missing").isNull()).isTrue();
+
+            assertThat(objectMapper.readTree(lines.get(1)).get("orderId").asText()).isEqualTo("order-1");
+            JsonNode third = objectMapper.readTree(lines.get(2));
+            assertThat(third.get("event").asText()).isEqualTo("test.second");
+            assertThat(third.get("orderId").asText()).isEqualTo("order-2");
+        }
+
+        @Test
+        @DisplayName("抽出したイベントは抽出率を重みとして記録する")
+        void recordsSamplingWeight(@TempDir Path dir) throws Exception {
+            Path file = dir.resolve("events.bin");
+            EventSite.configure("test.second:4", "");
+
+            try (StructuredEventLog sink = StructuredEventLog.open(file)) {
+                for (int i = 0; i < 8; i++) {
+                    SECOND.begin().str("order-" + i).end();
+                }
+                assertThat(sink.recordCount()).isEqualTo(2);
+            }
+
+            StringWriter out = new StringWriter();
+            assertThat(EventLogDecoder.decode(file, out)).isEqualTo(2);
+            for (String line : out.toString().lines().toList()) {
+                assertThat(objectMapper.readTree(line).get("weight").asLong()).isEqualTo(4);
+            }
+        }
+
+        @Test
+        @DisplayName("流量制限で記録しなかったイベントは次に記録するレコードの重みに含める")
+        void carriesRateLimitedEventsIntoNextWeight(@TempDir Path dir) throws Exception {
+            Path file = dir.resolve("events.bin");
+            EventSite.configure("", "test.second:2");
+
+            try (StructuredEventLog sink = StructuredEventLog.open(file)) {
+                for (int i = 0; i < 5; i++) {
+                    SECOND.begin().str("order-" + i).end();
+                }
+                // 次の秒に入ってから記録し、それまでに流量制限で記録しなかった分を重みに含める
+                Thread.sleep(1_000 - System.currentTimeMillis() % 1_000 + 10);
+                SECOND.begin().str("order-5").end();
+            }
+
+            StringWriter out = new StringWriter();
+            long records = EventLogDecoder.decode(file, out);
+
+            assertThat(records).isBetween(3L, 5L);
+            long totalWeight = 0;
+            for (String line : out.toString().lines().toList()) {
+                totalWeight += objectMapper.readTree(line).get("weight").asLong();
+            }
+            assertThat(totalWeight).isEqualTo(6);
+        }
+
+        @Test
+        @DisplayName("値の個数が項目数と異なる場合は書き込まない")
+        void rejectsWrongValueCount(@TempDir Path dir) {
+            try (StructuredEventLog sink = StructuredEventLog.open(dir.resolve("events.bin"))) {
+                assertThatThrownBy(() -> SECOND.begin().str("order-1").str("extra").end())
+                        .isInstanceOf(IllegalStateException.class);
+                assertThat(sink.recordCount()).isZero();
+            }
+        }
+
+        @Test
+        @DisplayName("構造化イベントログの形式でないファイルは復号しない")
+        void rejectsUnknownFormat(@TempDir Path dir) throws Exception {
+            Path file = dir.resolve("events.bin");
+            Files.writeString(file, "SOELnot a segment");
+
+            assertThatThrownBy(() -> EventLogDecoder.decode(file, new StringWriter()))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
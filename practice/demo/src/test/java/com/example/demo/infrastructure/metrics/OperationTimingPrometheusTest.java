@@ -0,0 +1,61 @@
+package com.example.demo.infrastructure.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 処理時間のメトリクスのPrometheus出力のテスト。
+ *
+ * <p>結果（{@code success} / {@code rejected}）によってタイマーの構成が異なっても、
+ * {@value OperationTimingAspect#METRIC_NAME} が1つの型（{@code histogram}）として
+ * {@code /actuator/prometheus} から出力されることを検証する。</p>
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+class OperationTimingPrometheusTest {
+
+    private static final String FAMILY = "app_operation_seconds";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("業務エラーで終わった呼び出しの後も、histogram型のみで出力し、rejectedにもバケットがある")
+    void exportsRejectedOutcomeAsHistogram() throws Exception {
+        mockMvc.perform(get("/api/menu"))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/api/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"tableNumber": 5, "items": [{"menuItemId": "unknown-001", "quantity": 1}]}
+                                """))
+                .andExpect(status().isBadRequest());
+
+        String scrape = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        List<String> typeLines = scrape.lines()
+                .filter(line -> line.startsWith("# TYPE " + FAMILY + " "))
+                .toList();
+        assertThat(typeLines).containsExactly("# TYPE " + FAMILY + " histogram");
+        assertThat(scrape.lines())
+                .anyMatch(line -> line.startsWith(FAMILY + "_bucket{")
+                        && line.contains("method=\"placeOrder\"")
+                        && line.contains("outcome=\"rejected\""));
+    }
+}
@@ -0,0 +1,177 @@
+package com.example.demo.webapi;
+
+import com.example.demo.query.menu.MenuItemView;
+import com.example.demo.query.order.OrderSummary;
+import com.example.demo.webapi.ResponseFormats.Format;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.json.JsonTest;
+import org.springframework.context.annotation.Import;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * レスポンス形式のベンチマーク。
+ *
+ * <p>注文サマリー一覧・メニュー項目一覧を JSON / CBOR / Smile で変換し、
+ * ペイロードサイズと変換時間（エンコード・デコード）を比較する。
+ * 時間は環境に依存するため記録のみとし、サイズと往復変換の一致を検証する。</p>
+ *
+ * <p>変換にはアプリケーションと同じ {@link ResponseFormats} の {@link ObjectMapper} を使用する。
+ * 結果はテストレポートと {@code benchmark.reportDir}（既定は {@code build/reports/benchmark}）の
+ * {@code binary-formats.txt} に出力する。</p>
+ *
+ * <p>通常の {@code test} タスクでは実行せず、{@code ./gradlew benchmark} で実行する。</p>
+ */
+@JsonTest
+@Import(ResponseFormats.class)
+@Tag("benchmark")
+class BinaryFormatBenchmarkTest {
+
+    private static final int ORDER_COUNT = 1_000;
+    private static final int MENU_ITEM_COUNT = 200;
+    private static final int WARMUP_ITERATIONS = 200;
+    private static final int MEASURE_ITERATIONS = 200;
+
+    private static final List<String> REPORT = new ArrayList<>();
+
+    @Autowired
+    private ResponseFormats responseFormats;
+
+    @Test
+    @DisplayName("注文サマリー一覧: バイナリ形式はJSONより小さく、往復変換で同じ値になる")
+    void orderSummaries(TestReporter reporter) throws Exception {
+        List<OrderSummary> orders = sampleOrders();
+        TypeReference<List<OrderSummary>> type = new TypeReference<>() {
+        };
+
+        Map<Format, Result> results = benchmark("orders", orders, type, reporter);
+
+        assertSmallerThanJsonAndRoundTrips(results, orders);
+    }
+
+    @Test
+    @DisplayName("メニュー項目一覧: バイナリ形式はJSONより小さく、往復変換で同じ値になる")
+    void menuItems(TestReporter reporter) throws Exception {
+        List<MenuItemView> items = sampleMenuItems();
+        TypeReference<List<MenuItemView>> type = new TypeReference<>() {
+        };
+
+        Map<Format, Result> results = benchmark("menu", items, type, reporter);
+
+        assertSmallerThanJsonAndRoundTrips(results, items);
+    }
+
+    @AfterAll
+    static void writeReport() throws IOException {
+        Path dir = Path.of(System.getProperty("benchmark.reportDir", "build/reports/benchmark"));
+        Files.createDirectories(dir);
+        Files.write(dir.resolve("binary-formats.txt"), REPORT, StandardCharsets.UTF_8);
+    }
+
+    private <T> Map<Format, Result> benchmark(String name, List<T> values, TypeReference<List<T>> type,
+                                              TestReporter reporter) throws Exception {
+        Map<Format, Result> results = new EnumMap<>(Format.class);
+        for (Format format : Format.values()) {
+            ObjectMapper mapper = responseFormats.mapper(format);
+            byte[] encoded = mapper.writeValueAsBytes(values);
+            for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+                mapper.readValue(mapper.writeValueAsBytes(values), type);
+            }
+
+            long encodeStart = System.nanoTime();
+            for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+                encoded = mapper.writeValueAsBytes(values);
+            }
+            long encodeNanos = (System.nanoTime() - encodeStart) / MEASURE_ITERATIONS;
+
+            List<T> decoded = null;
+            long decodeStart = System.nanoTime();
+            for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+                decoded = mapper.readValue(encoded, type);
+            }
+            long decodeNanos = (System.nanoTime() - decodeStart) / MEASURE_ITERATIONS;
+
+            results.put(format, new Result(encoded.length, encodeNanos, decodeNanos, decoded));
+        }
+
+        int jsonBytes = results.get(Format.JSON).bytes();
+        results.forEach((format, result) -> {
+            String line = String.format("%-6s %-5s %8d bytes (%5.1f%%)  encode %7.1f us  decode %7.1f us",
+                    name, format.tag(), result.bytes(), 100.0 * result.bytes() / jsonBytes,
+                    result.encodeNanos() / 1_000.0, result.decodeNanos() / 1_000.0);
+            reporter.publishEntry(name + "." + format.tag(), line);
+            synchronized (REPORT) {
+                REPORT.add(line);
+            }
+        });
+        return results;
+    }
+
+    private static void assertSmallerThanJsonAndRoundTrips(Map<Format, Result> results, List<?> expected) {
+        assertThat(results.get(Format.CBOR).bytes()).isLessThan(results.get(Format.JSON).bytes());
+        assertThat(results.get(Format.SMILE).bytes()).isLessThan(results.get(Format.JSON).bytes());
+        for (Result result : results.values()) {
+            assertThat(result.decoded()).isEqualTo(expected);
+        }
+    }
+
+    private static List<OrderSummary> sampleOrders() {
+        String[] statuses = {"PLACED", "PREPARING", "READY", "SERVED"};
+        String[] displayNames = {"注文済み", "調理中", "提供準備完了", "提供済み"};
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 11, 0);
+        List<OrderSummary> orders = new ArrayList<>(ORDER_COUNT);
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            BigDecimal total = BigDecimal.valueOf(500 + (i % 40) * 120L);
+            orders.add(new OrderSummary(
+                    UUID.nameUUIDFromBytes(("order-" + i).getBytes()).toString(),
+                    1 + i % 20,
+                    statuses[i % statuses.length],
+                    displayNames[i % displayNames.length],
+                    total,
+                    total.multiply(BigDecimal.valueOf(110)).divide(BigDecimal.valueOf(100)),
+                    1 + i % 6,
+                    base.plusSeconds(i * 37L)));
+        }
+        return orders;
+    }
+
+    private static List<MenuItemView> sampleMenuItems() {
+        String[] categories = {"MAIN_COURSE", "SIDE_DISH", "DRINK", "DESSERT"};
+        String[] displayNames = {"メイン", "サイド", "ドリンク", "デザート"};
+        List<MenuItemView> items = new ArrayList<>(MENU_ITEM_COUNT);
+        for (int i = 0; i < MENU_ITEM_COUNT; i++) {
+            BigDecimal price = BigDecimal.valueOf(300 + (i % 25) * 50L);
+            items.add(new MenuItemView(
+                    UUID.nameUUIDFromBytes(("menu-" + i).getBytes()).toString(),
+                    "メニュー" + i,
+                    price,
+                    price.multiply(BigDecimal.valueOf(110)).divide(BigDecimal.valueOf(100)),
+                    categories[i % categories.length],
+                    displayNames[i % displayNames.length],
+                    i % 7 != 0));
+        }
+        return items;
+    }
+
+    private record Result(int bytes, long encodeNanos, long decodeNanos, List<?> decoded) {
+    }
+}
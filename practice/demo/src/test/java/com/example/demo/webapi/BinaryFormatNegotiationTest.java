@@ -0,0 +1,100 @@
+package com.example.demo.webapi;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * レスポンス形式のコンテントネゴシエーションのテスト。
+ *
+ * <p>{@code Accept} ヘッダに応じて、{@link ResponseFormats} と {@link BinaryFormatConfig} の
+ * コンバータを経由したレスポンスが返ることを検証する。</p>
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class BinaryFormatNegotiationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("メニュー一覧: Accept: application/cbor の場合はCBORで返し、ETagに形式の識別子が付く")
+    void menuItemsAsCbor() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/menu").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn();
+
+        assertThat(result.getResponse().getHeader(HttpHeaders.ETAG)).endsWith("-cbor\"");
+        assertThat(result.getResponse().getHeader(HttpHeaders.VARY)).contains(HttpHeaders.ACCEPT);
+        JsonNode items = new CBORMapper().readTree(result.getResponse().getContentAsByteArray());
+        assertThat(items.isArray()).isTrue();
+        assertThat(items).isNotEmpty();
+        assertThat(items.get(0).has("menuItemId")).isTrue();
+    }
+
+    @Test
+    @DisplayName("メニュー一覧: Accept の指定がない場合はJSONで返し、ETagに形式の識別子が付かない")
+    void menuItemsAsJsonByDefault() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/menu"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andReturn();
+
+        String etag = result.getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).isNotNull().doesNotEndWith("-cbor\"").doesNotEndWith("-smile\"");
+        JsonNode items = objectMapper.readTree(result.getResponse().getContentAsByteArray());
+        assertThat(items.isArray()).isTrue();
+        assertThat(items).isNotEmpty();
+    }
+
+    @Test
+    @DisplayName("メニュー一覧: 形式ごとのETagは別の形式の条件付きGETに一致しない")
+    void etagIsPerFormat() throws Exception {
+        String jsonEtag = mockMvc.perform(get("/api/menu"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/menu").accept(MediaType.APPLICATION_CBOR)
+                        .header(HttpHeaders.IF_NONE_MATCH, jsonEtag))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR));
+        mockMvc.perform(get("/api/menu").header(HttpHeaders.IF_NONE_MATCH, jsonEtag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("注文一覧: Accept: application/cbor の場合はメッセージコンバータがCBORで返す")
+    void ordersAsCbor() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/orders").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn();
+
+        assertThat(new CBORMapper().readTree(result.getResponse().getContentAsByteArray()).isArray()).isTrue();
+    }
+
+    @Test
+    @DisplayName("注文一覧: Accept の指定がない場合はJSONで返す")
+    void ordersAsJsonByDefault() throws Exception {
+        mockMvc.perform(get("/api/orders"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+}